@@ -17,18 +17,25 @@
 
 package com.github.robtimus.junit.support;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.IllegalFormatException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AssertionFailureBuilder;
 import org.opentest4j.AssertionFailedError;
+import org.opentest4j.ValueWrapper;
 
 /**
  * A builder for {@link AssertionFailedError}s.
@@ -38,6 +45,8 @@ import org.opentest4j.AssertionFailedError;
  * <li>Providing prefixes for both expected and actual values</li>
  * <li>Providing multiple expected and actual values</li>
  * <li>Building reasons with value formatting</li>
+ * <li>Limiting the number of elements and characters of formatted values</li>
+ * <li>Formatting byte arrays as a hex dump around the first difference</li>
  * </ul>
  * <p>
  * Any method argument may be {@code null} unless specified otherwise.
@@ -51,6 +60,23 @@ public final class AssertionFailedErrorBuilder {
     private static final Expected EXPECTED_NULL = new Expected.Value(null, null);
     private static final Actual ACTUAL_NULL = new Actual.Value(null, null);
 
+    private static final int DEFAULT_MAX_ELEMENTS = 100;
+    private static final int DEFAULT_MAX_VALUE_LENGTH = 10_000;
+
+    // Whether or not collection and map classes override the string representation of AbstractCollection and AbstractMap;
+    // JDK classes that override it, like ConcurrentHashMap or unmodifiable wrappers, are assumed to use the same format
+    private static final ClassValue<Boolean> HAS_CUSTOM_TO_STRING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaringClass = type.getMethod("toString").getDeclaringClass();
+                return declaringClass != Object.class && !declaringClass.getName().startsWith("java.");
+            } catch (@SuppressWarnings("unused") NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private Object message;
     private Throwable cause;
     private boolean mismatch;
@@ -58,6 +84,8 @@ public final class AssertionFailedErrorBuilder {
     private Actual actual = ACTUAL_NULL;
     private String reason;
     private boolean includeValuesInMessage = true;
+    private int maxElements = DEFAULT_MAX_ELEMENTS;
+    private int maxValueLength = DEFAULT_MAX_VALUE_LENGTH;
 
     private AssertionFailedErrorBuilder() {
     }
@@ -251,6 +279,46 @@ public final class AssertionFailedErrorBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum number of elements to include when formatting arrays, collections and maps. Any remaining elements are summarized, for
+     * instance as {@code ...and 9,999,990 more}. This applies to expected and actual values, and to values added to the reason. The default is 100.
+     * <p>
+     * This only limits the generated failure message and the string representations of the {@link AssertionFailedError#getExpected() expected}
+     * and {@link AssertionFailedError#getActual() actual} values. The values themselves are still available without any modifications.
+     *
+     * @param maxElements The maximum number of elements to include.
+     * @return This object.
+     * @throws IllegalArgumentException If the given maximum number of elements is not positive.
+     * @since 3.3
+     */
+    public AssertionFailedErrorBuilder maxElements(int maxElements) {
+        if (maxElements <= 0) {
+            throw new IllegalArgumentException(maxElements + " <= 0");
+        }
+        this.maxElements = maxElements;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of characters to include when formatting a single value. Any remaining characters are summarized, for instance as
+     * {@code ...and 1,000 more characters}. This applies to expected and actual values, and to values added to the reason. The default is 10,000.
+     * <p>
+     * This only limits the generated failure message and the string representations of the {@link AssertionFailedError#getExpected() expected}
+     * and {@link AssertionFailedError#getActual() actual} values. The values themselves are still available without any modifications.
+     *
+     * @param maxValueLength The maximum number of characters to include.
+     * @return This object.
+     * @throws IllegalArgumentException If the given maximum number of characters is not positive.
+     * @since 3.3
+     */
+    public AssertionFailedErrorBuilder maxValueLength(int maxValueLength) {
+        if (maxValueLength <= 0) {
+            throw new IllegalArgumentException(maxValueLength + " <= 0");
+        }
+        this.maxValueLength = maxValueLength;
+        return this;
+    }
+
     /**
      * Builds the {@link AssertionFailedError} and throws it.
      *
@@ -267,6 +335,11 @@ public final class AssertionFailedErrorBuilder {
      */
     public AssertionFailedError build() {
         String reasonValue = nullSafeGet(reason);
+        if (mismatch) {
+            // Values are only rendered now, so they are rendered only once and only with the final limits
+            expected.render(maxElements, maxValueLength);
+            actual.render(maxElements, maxValueLength);
+        }
         if (mismatch && includeValuesInMessage) {
             reasonValue = (isNotBlank(reasonValue) ? reasonValue + ", " : "") + formatValues(expected, actual);
         }
@@ -299,6 +372,10 @@ public final class AssertionFailedErrorBuilder {
     }
 
     private static String formatValues(Expected expected, Actual actual) {
+        String binaryValues = formatBinaryValues(expected, actual);
+        if (binaryValues != null) {
+            return binaryValues;
+        }
         String actualString = actual.valueString();
         if (expected.isFormattedAs(actualString)) {
             return String.format("expected: %s but was: %s", expected.formatWithClass(), actual.formatWithClass());
@@ -306,6 +383,31 @@ public final class AssertionFailedErrorBuilder {
         return String.format("expected: %s but was: %s", expected.format(), actual.format());
     }
 
+    private static String formatBinaryValues(Expected expected, Actual actual) {
+        // Byte arrays without prefixes are formatted as a hex dump of the rows around the first difference, instead of as lists of numbers
+        if (isNotBlank(expected.prefix) || isNotBlank(actual.prefix) || !(expected instanceof Expected.Value) || !(actual instanceof Actual.Value)) {
+            return null;
+        }
+        Object expectedValue = ((Expected.Value) expected).expectedValue;
+        Object actualValue = ((Actual.Value) actual).actualValue;
+        if (!(expectedValue instanceof byte[]) || !(actualValue instanceof byte[])) {
+            return null;
+        }
+        byte[] expectedBytes = (byte[]) expectedValue;
+        byte[] actualBytes = (byte[]) actualValue;
+        int index = Arrays.mismatch(expectedBytes, actualBytes);
+        if (index == -1) {
+            return null;
+        }
+        // Only copy the bytes that are included in the hex dump
+        int from = (int) HexDump.windowStart(index);
+        int to = index + HexDump.tailLength(index);
+        byte[] expectedWindow = Arrays.copyOfRange(expectedBytes, from, Math.min(expectedBytes.length, to));
+        byte[] actualWindow = Arrays.copyOfRange(actualBytes, from, Math.min(actualBytes.length, to));
+        return "byte arrays differ at index [" + index + "]\n"
+                + HexDump.diff(from, expectedWindow, expectedBytes.length, actualWindow, actualBytes.length);
+    }
+
     static String formatClassAndValue(Object value, String valueString) {
         // If the value is null, return <null> instead of null<null>.
         if (value == null) {
@@ -333,41 +435,167 @@ public final class AssertionFailedErrorBuilder {
     }
 
     static String objectToString(Object obj) {
+        return objectToString(obj, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    static String objectToString(Object obj, int maxElements, int maxLength) {
         if (obj == null) {
             return "null";
         }
         if (obj instanceof Class<?>) {
             return getCanonicalName((Class<?>) obj);
         }
-        if (obj instanceof boolean[]) {
-            return Arrays.toString((boolean[]) obj);
-        }
-        if (obj instanceof char[]) {
-            return Arrays.toString((char[]) obj);
-        }
-        if (obj instanceof byte[]) {
-            return Arrays.toString((byte[]) obj);
+        if (isContainer(obj)) {
+            StringBuilder sb = new StringBuilder();
+            appendContainer(sb, obj, maxElements, maxLength, Collections.newSetFromMap(new IdentityHashMap<>()));
+            return sb.toString();
         }
-        if (obj instanceof short[]) {
-            return Arrays.toString((short[]) obj);
-        }
-        if (obj instanceof int[]) {
-            return Arrays.toString((int[]) obj);
+        String result = obj.toString();
+        return result != null ? truncate(result, maxLength) : "null";
+    }
+
+    private static boolean isContainer(Object obj) {
+        // Collections and maps with a custom string representation use that, as it may be different from the default one
+        return obj.getClass().isArray()
+                || obj instanceof Collection<?> && !HAS_CUSTOM_TO_STRING.get(obj.getClass())
+                || obj instanceof Map<?, ?> && !HAS_CUSTOM_TO_STRING.get(obj.getClass());
+    }
+
+    private static void appendContainer(StringBuilder sb, Object container, int maxElements, int maxLength, Set<Object> containers) {
+        // Nested containers are rendered with the same limits, instead of using their own possibly unbounded string representation
+        containers.add(container);
+        if (container instanceof Collection<?>) {
+            appendCollection(sb, (Collection<?>) container, maxElements, maxLength, containers);
+        } else if (container instanceof Map<?, ?>) {
+            appendMap(sb, (Map<?, ?>) container, maxElements, maxLength, containers);
+        } else {
+            appendArray(sb, container, maxElements, maxLength, containers);
+        }
+        containers.remove(container);
+    }
+
+    private static void appendArray(StringBuilder sb, Object array, int maxElements, int maxLength, Set<Object> containers) {
+        // This produces the same result as Arrays.toString and Arrays.deepToString if no limit is exceeded
+        int length = Array.getLength(array);
+        int count = Math.min(length, maxElements);
+        sb.append('[');
+        int i = 0;
+        for (; i < count && sb.length() < maxLength; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            appendElement(sb, Array.get(array, i), null, null, maxElements, maxLength, containers);
         }
-        if (obj instanceof long[]) {
-            return Arrays.toString((long[]) obj);
+        appendRemaining(sb, i, length);
+        sb.append(']');
+    }
+
+    private static void appendCollection(StringBuilder sb, Collection<?> collection, int maxElements, int maxLength, Set<Object> containers) {
+        // This produces the same result as AbstractCollection.toString if no limit is exceeded
+        sb.append('[');
+        Iterator<?> iterator = collection.iterator();
+        int i = 0;
+        for (; i < maxElements && sb.length() < maxLength && iterator.hasNext(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            appendElement(sb, iterator.next(), collection, "(this Collection)", maxElements, maxLength, containers);
         }
-        if (obj instanceof float[]) {
-            return Arrays.toString((float[]) obj);
+        appendRemaining(sb, i, collection.size());
+        sb.append(']');
+    }
+
+    private static void appendMap(StringBuilder sb, Map<?, ?> map, int maxElements, int maxLength, Set<Object> containers) {
+        // This produces the same result as AbstractMap.toString if no limit is exceeded
+        sb.append('{');
+        Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+        int i = 0;
+        for (; i < maxElements && sb.length() < maxLength && iterator.hasNext(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Map.Entry<?, ?> entry = iterator.next();
+            appendElement(sb, entry.getKey(), map, "(this Map)", maxElements, maxLength, containers);
+            sb.append('=');
+            appendElement(sb, entry.getValue(), map, "(this Map)", maxElements, maxLength, containers);
+        }
+        appendRemaining(sb, i, map.size());
+        sb.append('}');
+    }
+
+    private static void appendElement(StringBuilder sb, Object element, Object container, String self, int maxElements, int maxLength,
+            Set<Object> containers) {
+
+        if (element != null && element == container) {
+            sb.append(self);
+        } else if (element != null && isContainer(element)) {
+            if (containers.contains(element)) {
+                // Like Arrays.deepToString, don't render containers that (indirectly) contain themselves more than once
+                sb.append(element instanceof Map<?, ?> ? "{...}" : "[...]");
+            } else {
+                appendContainer(sb, element, maxElements, maxLength, containers);
+            }
+        } else {
+            sb.append(truncate(String.valueOf(element), Math.max(1, maxLength - sb.length())));
         }
-        if (obj instanceof double[]) {
-            return Arrays.toString((double[]) obj);
+    }
+
+    private static void appendRemaining(StringBuilder sb, int rendered, int size) {
+        if (rendered < size) {
+            sb.append(rendered > 0 ? ", " : "").append("...and ").append(formatCount(size - rendered)).append(" more");
         }
-        if (obj instanceof Object[]) {
-            return Arrays.deepToString((Object[]) obj);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength
+                ? value.substring(0, maxLength) + "...and " + formatCount(value.length() - maxLength) + " more characters"
+                : value;
+    }
+
+    private static String formatCount(int count) {
+        return String.format(Locale.ROOT, "%,d", count);
+    }
+
+    private static List<String> renderValues(List<?> values, int maxElements, int maxLength) {
+        return values.stream()
+                .limit(maxElements)
+                .map(value -> objectToString(value, maxElements, maxLength))
+                .collect(Collectors.toList());
+    }
+
+    private static String formatValues(List<?> values, List<String> valueStrings) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(valueStrings.stream()
+                .map(valueString -> String.format("<%s>", valueString))
+                .collect(Collectors.joining(", ")));
+        appendRemaining(sb, valueStrings.size(), values.size());
+        return sb.toString();
+    }
+
+    private static String formatValuesWithClass(List<?> values, List<String> valueStrings) {
+        Iterator<?> valueIterator = values.iterator();
+        Iterator<String> valueStringIterator = valueStrings.iterator();
+        StringJoiner stringJoiner = new StringJoiner(", ");
+
+        while (valueStringIterator.hasNext()) {
+            Object value = valueIterator.next();
+            String valueString = valueStringIterator.next();
+            stringJoiner.add(formatClassAndValue(value, valueString));
         }
-        String result = obj.toString();
-        return result != null ? result : "null";
+        StringBuilder sb = new StringBuilder(stringJoiner.toString());
+        appendRemaining(sb, valueStrings.size(), values.size());
+        return sb.toString();
+    }
+
+    private static String listToString(List<?> values, List<String> valueStrings) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(String.join(", ", valueStrings));
+        appendRemaining(sb, valueStrings.size(), values.size());
+        return sb.append(']').toString();
+    }
+
+    private String formatValue(Object value) {
+        return objectToString(value, maxElements, maxValueLength);
     }
 
     private static String addOptionalPrefix(String prefix, String message) {
@@ -402,7 +630,7 @@ public final class AssertionFailedErrorBuilder {
          * @return This object.
          */
         public ReasonBuilder withValue(Object value) {
-            arguments.add(String.format("<%s>", objectToString(value)));
+            arguments.add(String.format("<%s>", builder.formatValue(value)));
             return this;
         }
 
@@ -427,7 +655,7 @@ public final class AssertionFailedErrorBuilder {
          */
         public ReasonBuilder withValues(Collection<?> values) {
             arguments.add(values.stream()
-                    .map(value -> String.format("<%s>", objectToString(value)))
+                    .map(value -> String.format("<%s>", builder.formatValue(value)))
                     .collect(Collectors.joining(", ")));
             return this;
         }
@@ -541,6 +769,8 @@ public final class AssertionFailedErrorBuilder {
             this.prefix = prefix;
         }
 
+        abstract void render(int maxElements, int maxLength);
+
         abstract boolean isFormattedAs(String actualString);
 
         private String format() {
@@ -560,12 +790,20 @@ public final class AssertionFailedErrorBuilder {
         private static final class Value extends Expected {
 
             private final Object expectedValue;
-            private final String expectedValueString;
+            private String expectedValueString;
 
             private Value(String prefix, Object expectedValue) {
                 super(prefix);
                 this.expectedValue = expectedValue;
-                this.expectedValueString = objectToString(expectedValue);
+                // Rendering is postponed until the error is built; null values are rendered immediately, so shared instances are never modified
+                this.expectedValueString = expectedValue == null ? "null" : null;
+            }
+
+            @Override
+            void render(int maxElements, int maxLength) {
+                if (expectedValueString == null) {
+                    expectedValueString = objectToString(expectedValue, maxElements, maxLength);
+                }
             }
 
             @Override
@@ -585,24 +823,27 @@ public final class AssertionFailedErrorBuilder {
 
             @Override
             Object value() {
-                return expectedValue;
+                return ValueWrapper.create(expectedValue, expectedValueString);
             }
         }
 
         private static final class Values extends Expected {
 
             private final List<?> expectedValues;
-            private final List<String> expectedValueStrings;
-            private final String expectedValuesString;
+            private List<String> expectedValueStrings;
+            private String expectedValuesString;
 
             private Values(String prefix, Collection<?> expectedValues) {
                 super(prefix);
                 this.expectedValues = new ArrayList<>(expectedValues);
-                this.expectedValueStrings = expectedValues.stream()
-                        .map(AssertionFailedErrorBuilder::objectToString)
-                        .collect(Collectors.toList());
-                this.expectedValuesString = expectedValueStrings.stream()
-                        .collect(Collectors.joining(", "));
+            }
+
+            @Override
+            void render(int maxElements, int maxLength) {
+                if (expectedValueStrings == null) {
+                    expectedValueStrings = renderValues(expectedValues, maxElements, maxLength);
+                    expectedValuesString = String.join(", ", expectedValueStrings);
+                }
             }
 
             @Override
@@ -612,28 +853,17 @@ public final class AssertionFailedErrorBuilder {
 
             @Override
             String doFormat() {
-                return expectedValueStrings.stream()
-                        .map(valueString -> String.format("<%s>", valueString))
-                        .collect(Collectors.joining(", "));
+                return formatValues(expectedValues, expectedValueStrings);
             }
 
             @Override
             String doFormatWithClass() {
-                Iterator<?> valueIterator = expectedValues.iterator();
-                Iterator<String> valueStringIterator = expectedValueStrings.iterator();
-                StringJoiner stringJoiner = new StringJoiner(", ");
-
-                while (valueIterator.hasNext()) {
-                    Object value = valueIterator.next();
-                    String valueString = valueStringIterator.next();
-                    stringJoiner.add(formatClassAndValue(value, valueString));
-                }
-                return stringJoiner.toString();
+                return formatValuesWithClass(expectedValues, expectedValueStrings);
             }
 
             @Override
             Object value() {
-                return expectedValues;
+                return ValueWrapper.create(expectedValues, listToString(expectedValues, expectedValueStrings));
             }
         }
 
@@ -646,6 +876,11 @@ public final class AssertionFailedErrorBuilder {
                 this.expectedMessage = expectedMessage;
             }
 
+            @Override
+            void render(int maxElements, int maxLength) {
+                // The message is used as-is
+            }
+
             @Override
             boolean isFormattedAs(String actualString) {
                 return false;
@@ -676,6 +911,8 @@ public final class AssertionFailedErrorBuilder {
             this.prefix = prefix;
         }
 
+        abstract void render(int maxElements, int maxLength);
+
         private String format() {
             return addOptionalPrefix(prefix, doFormat());
         }
@@ -695,12 +932,20 @@ public final class AssertionFailedErrorBuilder {
         private static final class Value extends Actual {
 
             private final Object actualValue;
-            private final String actualValueString;
+            private String actualValueString;
 
             private Value(String prefix, Object actualValue) {
                 super(prefix);
                 this.actualValue = actualValue;
-                this.actualValueString = objectToString(actualValue);
+                // Rendering is postponed until the error is built; null values are rendered immediately, so shared instances are never modified
+                this.actualValueString = actualValue == null ? "null" : null;
+            }
+
+            @Override
+            void render(int maxElements, int maxLength) {
+                if (actualValueString == null) {
+                    actualValueString = objectToString(actualValue, maxElements, maxLength);
+                }
             }
 
             @Override
@@ -715,7 +960,7 @@ public final class AssertionFailedErrorBuilder {
 
             @Override
             Object value() {
-                return actualValue;
+                return ValueWrapper.create(actualValue, actualValueString);
             }
 
             @Override
@@ -727,46 +972,38 @@ public final class AssertionFailedErrorBuilder {
         private static final class Values extends Actual {
 
             private final List<?> actualValues;
-            private final List<String> actualValueStrings;
+            private List<String> actualValueStrings;
 
             private Values(String prefix, Collection<?> actualValues) {
                 super(prefix);
                 this.actualValues = new ArrayList<>(actualValues);
-                this.actualValueStrings = actualValues.stream()
-                        .map(AssertionFailedErrorBuilder::objectToString)
-                        .collect(Collectors.toList());
+            }
+
+            @Override
+            void render(int maxElements, int maxLength) {
+                if (actualValueStrings == null) {
+                    actualValueStrings = renderValues(actualValues, maxElements, maxLength);
+                }
             }
 
             @Override
             String doFormat() {
-                return actualValueStrings.stream()
-                        .map(valueString -> String.format("<%s>", valueString))
-                        .collect(Collectors.joining(", "));
+                return formatValues(actualValues, actualValueStrings);
             }
 
             @Override
             String doFormatWithClass() {
-                Iterator<?> valueIterator = actualValues.iterator();
-                Iterator<String> valueStringIterator = actualValueStrings.iterator();
-                StringJoiner stringJoiner = new StringJoiner(", ");
-
-                while (valueIterator.hasNext()) {
-                    Object value = valueIterator.next();
-                    String valueString = valueStringIterator.next();
-                    stringJoiner.add(formatClassAndValue(value, valueString));
-                }
-                return stringJoiner.toString();
+                return formatValuesWithClass(actualValues, actualValueStrings);
             }
 
             @Override
             Object value() {
-                return actualValues;
+                return ValueWrapper.create(actualValues, listToString(actualValues, actualValueStrings));
             }
 
             @Override
             public String valueString() {
-                return actualValueStrings.stream()
-                        .collect(Collectors.joining(", "));
+                return String.join(", ", actualValueStrings);
             }
         }
     }
@@ -0,0 +1,162 @@
+/*
+ * HexDump.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support;
+
+@SuppressWarnings("nls")
+final class HexDump {
+
+    static final int BYTES_PER_ROW = 16;
+
+    // The window around the first difference consists of the row before the difference, the row with the difference, and the rows after it
+    private static final int ROWS_BEFORE = 1;
+    private static final int WINDOW_ROWS = 4;
+    private static final int WINDOW_SIZE = WINDOW_ROWS * BYTES_PER_ROW;
+
+    // The maximum number of bytes in a window before the first difference
+    static final int MAX_HEAD_LENGTH = (ROWS_BEFORE + 1) * BYTES_PER_ROW - 1;
+
+    private HexDump() {
+    }
+
+    static long windowStart(long index) {
+        return Math.max(0, (index / BYTES_PER_ROW - ROWS_BEFORE) * BYTES_PER_ROW);
+    }
+
+    static int tailLength(long index) {
+        // The number of bytes in a window from the first difference on
+        return (int) (windowStart(index) + WINDOW_SIZE - index);
+    }
+
+    static String dump(long offset, byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (int from = 0; from < bytes.length; from += BYTES_PER_ROW) {
+            int to = Math.min(bytes.length, from + BYTES_PER_ROW);
+            appendRow(sb, "", offset + from, bytes, from, to);
+        }
+        return sb.toString();
+    }
+
+    // Both windows start at offset; a window is shorter than the others if its content ends within the window
+    // A negative length means the total length is not known, in which case it is omitted
+    static String diff(long offset, byte[] expected, long expectedLength, byte[] actual, long actualLength) {
+        StringBuilder sb = new StringBuilder();
+        if (expectedLength >= 0) {
+            sb.append("expected length: ").append(expectedLength).append(", ");
+        }
+        if (actualLength >= 0) {
+            sb.append("actual length: ").append(actualLength).append(", ");
+        }
+        sb.append("differing bytes shown: ").append(countDifferences(expected, actual));
+
+        int length = Math.max(expected.length, actual.length);
+        for (int from = 0; from < length; from += BYTES_PER_ROW) {
+            int expectedTo = Math.min(expected.length, from + BYTES_PER_ROW);
+            int actualTo = Math.min(actual.length, from + BYTES_PER_ROW);
+            long rowOffset = offset + from;
+            if (equalRows(expected, actual, from, expectedTo, actualTo)) {
+                appendRow(sb, " ", rowOffset, expected, from, expectedTo);
+            } else {
+                if (from < expectedTo) {
+                    appendRow(sb, "-", rowOffset, expected, from, expectedTo);
+                }
+                if (from < actualTo) {
+                    appendRow(sb, "+", rowOffset, actual, from, actualTo);
+                }
+                appendMarkers(sb, rowOffset, expected, actual, from);
+            }
+        }
+        return sb.toString();
+    }
+
+    static int countDifferences(byte[] expected, byte[] actual) {
+        int common = Math.min(expected.length, actual.length);
+        int count = Math.max(expected.length, actual.length) - common;
+        for (int i = 0; i < common; i++) {
+            if (expected[i] != actual[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean equalRows(byte[] expected, byte[] actual, int from, int expectedTo, int actualTo) {
+        if (expectedTo != actualTo) {
+            return false;
+        }
+        for (int i = from; i < expectedTo; i++) {
+            if (expected[i] != actual[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendRow(StringBuilder sb, String marker, long rowOffset, byte[] bytes, int from, int to) {
+        // The format is like that of hexdump -C: offset, 16 hex values split into two groups of 8, and the printable characters
+        appendLineStart(sb, marker, rowOffset);
+        for (int i = 0; i < BYTES_PER_ROW; i++) {
+            appendSeparator(sb, i);
+            if (from + i < to) {
+                byte b = bytes[from + i];
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            } else {
+                sb.append("  ");
+            }
+        }
+        sb.append("  |");
+        for (int i = from; i < to; i++) {
+            char c = (char) (bytes[i] & 0xFF);
+            sb.append(c >= 0x20 && c < 0x7F ? c : '.');
+        }
+        sb.append('|');
+    }
+
+    private static void appendMarkers(StringBuilder sb, long rowOffset, byte[] expected, byte[] actual, int from) {
+        // The markers are aligned with the hex values of the rows above them
+        sb.append('\n').append(" ".repeat(formatOffset(rowOffset).length() + 2));
+        int lastMarker = sb.length();
+        for (int i = from; i < from + BYTES_PER_ROW; i++) {
+            appendSeparator(sb, i - from);
+            boolean inExpected = i < expected.length;
+            boolean inActual = i < actual.length;
+            if (inExpected != inActual || inExpected && expected[i] != actual[i]) {
+                sb.append("^^");
+                lastMarker = sb.length();
+            } else {
+                sb.append("  ");
+            }
+        }
+        sb.setLength(lastMarker);
+    }
+
+    private static void appendLineStart(StringBuilder sb, String marker, long rowOffset) {
+        if (sb.length() > 0) {
+            sb.append('\n');
+        }
+        sb.append(marker).append(formatOffset(rowOffset)).append(' ');
+    }
+
+    private static String formatOffset(long offset) {
+        return String.format("%08x", offset);
+    }
+
+    private static void appendSeparator(StringBuilder sb, int column) {
+        sb.append(column == BYTES_PER_ROW / 2 ? "  " : " ");
+    }
+}
@@ -17,10 +17,10 @@
 
 package com.github.robtimus.junit.support;
 
+import static com.github.robtimus.junit.support.AssertionFailedErrorBuilder.assertionFailedError;
+import static com.github.robtimus.junit.support.ThrowableAssertions.rethrowIfUnrecoverable;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -31,58 +31,102 @@ import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 import org.hamcrest.Matcher;
 
 /**
  * A collection of utility methods that support asserting conditions related to I/O.
+ * <p>
+ * Methods that compare content with expected content read the content in chunks, and fail as soon as the first difference is found, without
+ * reading the remaining content. If content is large, failures only contain the part of the content around the first difference.
+ * If text content with multiple lines is large, failures instead contain a line-based diff in unified format, limited to a few hunks around the first
+ * differences. The full expected content and the content that was read are still available as the failure's expected and actual values.
+ * For binary content, failures instead contain an aligned hex dump of a few rows around the first difference, with the differing bytes marked.
  *
  * @author Rob Spoor
  */
+@SuppressWarnings("nls")
 public final class IOAssertions {
 
+    private static final int BUFFER_SIZE = 8192;
+
+    // Digests are computed for content of any size, so use a larger buffer to reduce the number of reads
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    // Failures for multi-line text include a diff; this is the maximum number of characters to read beyond the expected content for the diff
+    private static final int MAX_DIFF_EXTRA_LENGTH = 64 * 1024;
+
+    // Mapped files are only unmapped when their buffers are garbage collected, so only files up to this size are compared using memory mapping
+    private static final long MAX_MAPPED_SIZE = 64 * 1024 * 1024;
+
+    // Larger files are compared in chunks of this size, using two direct buffers that are reused for all chunks.
+    // Direct buffers let the file channels read directly into them, without copying the content onto the heap.
+    private static final int FILE_CHUNK_SIZE = 1024 * 1024;
+
+    // The number of characters to include in failures before and after the first difference
+    private static final int CONTEXT_SIZE = 16;
+
     private IOAssertions() {
     }
 
     /**
      * Asserts that a {@link Reader} contains specific content.
      *
-     * @param reader The reader to read from. It will be exhausted at the end of this method call.
+     * @param reader The reader to read from. If it contains the expected content, it will be exhausted at the end of this method call. Otherwise it
+     *                   is only read up to the chunk that contains the first difference, and the context that is included in the failure.
      * @param expectedContent The expected content.
      * @throws NullPointerException If the given reader is null.
      */
     public static void assertContainsContent(Reader reader, String expectedContent) {
-        String content = assertDoesNotThrow(() -> readContent(reader, expectedContent));
-        assertEquals(expectedContent, content);
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(reader, expectedContent));
+        failIfMismatch(mismatch, null);
     }
 
     /**
      * Asserts that a {@link Reader} contains specific content.
      *
-     * @param reader The reader to read from. It will be exhausted at the end of this method call.
+     * @param reader The reader to read from. If it contains the expected content, it will be exhausted at the end of this method call. Otherwise it
+     *                   is only read up to the chunk that contains the first difference, and the context that is included in the failure.
      * @param expectedContent The expected content.
      * @param message The failure message to fail with.
      * @throws NullPointerException If the given reader is null.
      * @since 2.0
      */
     public static void assertContainsContent(Reader reader, String expectedContent, String message) {
-        String content = assertDoesNotThrow(() -> readContent(reader, expectedContent), message);
-        assertEquals(expectedContent, content, message);
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(reader, expectedContent), message);
+        failIfMismatch(mismatch, message);
     }
 
     /**
      * Asserts that a {@link Reader} contains specific content.
      *
-     * @param reader The reader to read from. It will be exhausted at the end of this method call.
+     * @param reader The reader to read from. If it contains the expected content, it will be exhausted at the end of this method call. Otherwise it
+     *                   is only read up to the chunk that contains the first difference, and the context that is included in the failure.
      * @param expectedContent The expected content.
      * @param messageSupplier The supplier for the failure message to fail with.
      * @throws NullPointerException If the given reader is null.
      * @since 2.0
      */
     public static void assertContainsContent(Reader reader, String expectedContent, Supplier<String> messageSupplier) {
-        String content = assertDoesNotThrow(() -> readContent(reader, expectedContent), messageSupplier);
-        assertEquals(expectedContent, content, messageSupplier);
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(reader, expectedContent), messageSupplier);
+        failIfMismatch(mismatch, messageSupplier);
     }
 
     /**
@@ -98,80 +142,520 @@ public final class IOAssertions {
         assertThat(content, matcher);
     }
 
-    private static String readContent(Reader reader, String expectedContent) throws IOException {
-        StringBuilder sb = new StringBuilder(expectedContent.length());
-        copyContent(reader, sb);
-        return sb.toString();
-    }
-
     private static String readContent(Reader reader) throws IOException {
         StringBuilder sb = new StringBuilder();
-        copyContent(reader, sb);
+        char[] buffer = new char[BUFFER_SIZE];
+        int len;
+        while ((len = reader.read(buffer)) != -1) {
+            sb.append(buffer, 0, len);
+        }
         return sb.toString();
     }
 
-    private static void copyContent(Reader reader, StringBuilder sb) throws IOException {
-        char[] buffer = new char[1024];
+    private static AssertionFailedErrorBuilder findMismatch(Reader reader, String expectedContent) throws IOException {
+        int expectedLength = expectedContent.length();
+        char[] buffer = new char[BUFFER_SIZE];
+        char[] expectedBuffer = new char[BUFFER_SIZE];
+        int offset = 0;
         int len;
         while ((len = reader.read(buffer)) != -1) {
-            sb.append(buffer, 0, len);
+            int count = Math.min(len, expectedLength - offset);
+            expectedContent.getChars(offset, offset + count, expectedBuffer, 0);
+            int index = Arrays.mismatch(buffer, 0, count, expectedBuffer, 0, count);
+            if (index == -1 && count < len) {
+                // The content is longer than the expected content
+                index = count;
+            }
+            if (index != -1) {
+                return textMismatch(reader, expectedContent, offset + index, CharBuffer.wrap(buffer, index, len - index));
+            }
+            offset += len;
+        }
+        return offset < expectedLength
+                ? textMismatch(reader, expectedContent, offset, CharBuffer.allocate(0))
+                : null;
+    }
+
+    private static void read(Reader reader, CharBuffer buffered, StringBuilder content, int maxLength) throws IOException {
+        // First use any characters that were already read, then read more from the reader
+        int count = Math.min(buffered.remaining(), maxLength - content.length());
+        content.append(buffered, 0, count);
+        buffered.position(buffered.position() + count);
+        char[] buffer = new char[Math.min(BUFFER_SIZE, maxLength - content.length())];
+        int len;
+        while (content.length() < maxLength && (len = reader.read(buffer, 0, Math.min(buffer.length, maxLength - content.length()))) != -1) {
+            content.append(buffer, 0, len);
+        }
+    }
+
+    private static AssertionFailedErrorBuilder textMismatch(Reader reader, String expectedContent, int index, CharBuffer buffered)
+            throws IOException {
+
+        // Read one more character than is included in failures, to find out whether the content continues
+        StringBuilder tail = new StringBuilder(CONTEXT_SIZE + 2);
+        read(reader, buffered, tail, CONTEXT_SIZE + 2);
+
+        // Up to index the content is equal to the expected content
+        int from = Math.max(0, index - CONTEXT_SIZE);
+        int expectedTo = Math.min(expectedContent.length(), index + CONTEXT_SIZE + 1);
+        boolean contentContinues = tail.length() > CONTEXT_SIZE + 1;
+        String content = expectedContent.substring(from, index) + tail.substring(0, Math.min(tail.length(), CONTEXT_SIZE + 1));
+
+        if (from == 0 && expectedTo == expectedContent.length() && !contentContinues) {
+            // Both contents are small enough to include them entirely
+            return assertionFailedError()
+                    .expected(expectedContent)
+                    .actual(content);
+        }
+
+        if (containsLineTerminator(expectedContent) || containsLineTerminator(tail)) {
+            return lineMismatch(reader, expectedContent, index, buffered, tail);
+        }
+
+        String prefix = from > 0 ? "..." : "";
+        return assertionFailedError()
+                .reason("content differs at index [" + index + "]")
+                .expected(prefix + escape(expectedContent.substring(from, expectedTo)) + (expectedTo < expectedContent.length() ? "..." : ""))
+                .actual(prefix + escape(content) + (contentContinues ? "..." : ""));
+    }
+
+    private static boolean containsLineTerminator(CharSequence text) {
+        return text.chars().anyMatch(c -> c == '\n' || c == '\r');
+    }
+
+    private static AssertionFailedErrorBuilder lineMismatch(Reader reader, String expectedContent, int index, CharBuffer buffered,
+            StringBuilder tail) throws IOException {
+
+        // Read the remaining content, but not much more than the remaining expected content, so large content is not read entirely.
+        // Read one more character than that, to find out whether the content continues.
+        int maxLength = (int) Math.min(expectedContent.length() - index + MAX_DIFF_EXTRA_LENGTH + 1L, Integer.MAX_VALUE - 8L);
+        read(reader, buffered, tail, maxLength);
+        boolean truncated = tail.length() == maxLength;
+        if (truncated) {
+            tail.setLength(maxLength - 1);
+        }
+        // Up to index the content is equal to the expected content, so it doesn't need to be stored while reading
+        String content = expectedContent.substring(0, index) + tail;
+
+        int lineStart = lineStart(expectedContent, index);
+        int lineNumber = lineNumber(expectedContent, lineStart);
+        int diffStart = lineStart;
+        int diffLineNumber = lineNumber;
+        while (diffStart > 0 && diffLineNumber > lineNumber - LineDiff.CONTEXT_LINES) {
+            diffStart = lineStart(expectedContent, diffStart - 1);
+            diffLineNumber--;
+        }
+
+        String diff = LineDiff.unifiedDiff(expectedContent.substring(diffStart), content.substring(diffStart), diffLineNumber, truncated);
+        // The full values are available as expected and actual values, but they are too large to include in the message
+        return assertionFailedError()
+                .reason("content differs at line " + lineNumber + ", column " + (index - lineStart + 1) + ":\n" + diff)
+                .expected(expectedContent)
+                .actual(content)
+                .includeValuesInMessage(false);
+    }
+
+    private static int lineStart(String text, int index) {
+        int start = index;
+        while (start > 0 && !isLineTerminator(text, start - 1)) {
+            start--;
+        }
+        return start;
+    }
+
+    private static int lineNumber(String text, int lineStart) {
+        int lineNumber = 1;
+        for (int i = 0; i < lineStart; i++) {
+            if (isLineTerminator(text, i)) {
+                lineNumber++;
+            }
+        }
+        return lineNumber;
+    }
+
+    private static boolean isLineTerminator(String text, int index) {
+        // \r\n is treated as a single line terminator
+        char c = text.charAt(index);
+        return c == '\n' || c == '\r' && (index + 1 == text.length() || text.charAt(index + 1) != '\n');
+    }
+
+    static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (Character.isISOControl(c)) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Asserts that a {@link CharBuffer} contains specific content.
+     * The content of the buffer is compared from its position to its limit, without copying it.
+     *
+     * @param buffer The buffer to check. Its position and limit will not be changed.
+     * @param expectedContent The expected content.
+     * @throws NullPointerException If the given buffer or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(CharBuffer buffer, String expectedContent) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(buffer, expectedContent));
+        failIfMismatch(mismatch, null);
+    }
+
+    /**
+     * Asserts that a {@link CharBuffer} contains specific content.
+     * The content of the buffer is compared from its position to its limit, without copying it.
+     *
+     * @param buffer The buffer to check. Its position and limit will not be changed.
+     * @param expectedContent The expected content.
+     * @param message The failure message to fail with.
+     * @throws NullPointerException If the given buffer or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(CharBuffer buffer, String expectedContent, String message) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(buffer, expectedContent), message);
+        failIfMismatch(mismatch, message);
+    }
+
+    /**
+     * Asserts that a {@link CharBuffer} contains specific content.
+     * The content of the buffer is compared from its position to its limit, without copying it.
+     *
+     * @param buffer The buffer to check. Its position and limit will not be changed.
+     * @param expectedContent The expected content.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @throws NullPointerException If the given buffer or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(CharBuffer buffer, String expectedContent, Supplier<String> messageSupplier) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(buffer, expectedContent), messageSupplier);
+        failIfMismatch(mismatch, messageSupplier);
+    }
+
+    private static AssertionFailedErrorBuilder findMismatch(CharBuffer buffer, String expectedContent) throws IOException {
+        int index = buffer.mismatch(CharBuffer.wrap(expectedContent));
+        if (index == -1) {
+            return null;
         }
+        // All content is available in the buffer, so there is nothing left to read
+        CharBuffer remaining = buffer.duplicate();
+        remaining.position(remaining.position() + index);
+        return textMismatch(Reader.nullReader(), expectedContent, index, remaining);
     }
 
     /**
      * Asserts that an {@link InputStream} contains specific content.
      *
-     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param inputStream The input stream to read from. If it contains the expected content, it will be exhausted at the end of this method call.
+     *                        Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in the
+     *                        failure.
      * @param expectedContent The expected content.
      * @throws NullPointerException If the given input stream is null.
      */
     public static void assertContainsContent(InputStream inputStream, byte[] expectedContent) {
-        byte[] content = assertDoesNotThrow(() -> readContent(inputStream, expectedContent.length));
-        assertArrayEquals(expectedContent, content);
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(inputStream, expectedContent));
+        failIfMismatch(mismatch, null);
     }
 
     /**
      * Asserts that an {@link InputStream} contains specific content.
      *
-     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param inputStream The input stream to read from. If it contains the expected content, it will be exhausted at the end of this method call.
+     *                        Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in the
+     *                        failure.
      * @param expectedContent The expected content.
      * @param message The failure message to fail with.
      * @throws NullPointerException If the given input stream is null.
      * @since 2.0
      */
     public static void assertContainsContent(InputStream inputStream, byte[] expectedContent, String message) {
-        byte[] content = assertDoesNotThrow(() -> readContent(inputStream, expectedContent.length), message);
-        assertArrayEquals(expectedContent, content, message);
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(inputStream, expectedContent), message);
+        failIfMismatch(mismatch, message);
     }
 
     /**
      * Asserts that an {@link InputStream} contains specific content.
      *
-     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param inputStream The input stream to read from. If it contains the expected content, it will be exhausted at the end of this method call.
+     *                        Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in the
+     *                        failure.
      * @param expectedContent The expected content.
      * @param messageSupplier The supplier for the failure message to fail with.
      * @throws NullPointerException If the given input stream is null.
      * @since 2.0
      */
     public static void assertContainsContent(InputStream inputStream, byte[] expectedContent, Supplier<String> messageSupplier) {
-        byte[] content = assertDoesNotThrow(() -> readContent(inputStream, expectedContent.length), messageSupplier);
-        assertArrayEquals(expectedContent, content, messageSupplier);
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(inputStream, expectedContent), messageSupplier);
+        failIfMismatch(mismatch, messageSupplier);
     }
 
-    private static byte[] readContent(InputStream inputStream, int expectedContentLength) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(expectedContentLength);
-        byte[] buffer = new byte[1024];
+    private static AssertionFailedErrorBuilder findMismatch(InputStream inputStream, byte[] expectedContent) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int offset = 0;
         int len;
         while ((len = inputStream.read(buffer)) != -1) {
-            baos.write(buffer, 0, len);
+            int count = Math.min(len, expectedContent.length - offset);
+            int index = Arrays.mismatch(buffer, 0, count, expectedContent, offset, offset + count);
+            if (index != -1) {
+                byte[] tail = readTail(inputStream, buffer, index, len, HexDump.tailLength(offset + index));
+                return byteMismatch(expectedContent, offset + index, tail, -1);
+            }
+            if (count < len) {
+                // Don't read the remaining content just to report its exact length
+                return longerThanExpected(expectedContent.length, (long) offset + len);
+            }
+            offset += len;
+        }
+        return offset < expectedContent.length
+                ? lengthMismatch(expectedContent.length, offset)
+                : null;
+    }
+
+    private static byte[] readTail(InputStream inputStream, byte[] buffer, int start, int end, int length) throws IOException {
+        byte[] tail = new byte[length];
+        int tailLength = Math.min(end - start, tail.length);
+        System.arraycopy(buffer, start, tail, 0, tailLength);
+        tailLength += inputStream.readNBytes(tail, tailLength, tail.length - tailLength);
+        return Arrays.copyOf(tail, tailLength);
+    }
+
+    private static AssertionFailedErrorBuilder byteMismatch(byte[] expectedContent, int index, byte[] tail, long actualLength) {
+        // Up to index the content is equal to the expected content
+        int from = (int) HexDump.windowStart(index);
+        int expectedTo = Math.min(expectedContent.length, index + HexDump.tailLength(index));
+        return byteMismatch("array contents differ at index [" + index + "]", index, Arrays.copyOfRange(expectedContent, from, index),
+                Arrays.copyOfRange(expectedContent, index, expectedTo), expectedContent.length, tail, actualLength);
+    }
+
+    // head contains the bytes from the start of the window until the difference, which are equal for both contents
+    // Both tails start at the difference, and contain the remainder of the window unless the content ends before that
+    // A negative length means that the length is not known
+    private static AssertionFailedErrorBuilder byteMismatch(String reason, long index, byte[] head,
+            byte[] expectedTail, long expectedLength, byte[] tail, long actualLength) {
+
+        long from = index - head.length;
+        byte[] expectedWindow = concat(head, expectedTail);
+        byte[] window = concat(head, tail);
+        String diff = HexDump.diff(from, expectedWindow, knownLength(expectedLength, index, expectedTail),
+                window, knownLength(actualLength, index, tail));
+        return assertionFailedError()
+                .reason(reason + "\n" + diff)
+                .expected(HexDump.dump(from, expectedWindow))
+                .actual(HexDump.dump(from, window))
+                .includeValuesInMessage(false);
+    }
+
+    private static long knownLength(long length, long index, byte[] tail) {
+        // If a tail is shorter than the remainder of the window, the end of the content has been reached
+        return length < 0 && tail.length < HexDump.tailLength(index) ? index + tail.length : length;
+    }
+
+    private static byte[] concat(byte[] head, byte[] tail) {
+        byte[] result = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, result, head.length, tail.length);
+        return result;
+    }
+
+    private static AssertionFailedErrorBuilder lengthMismatch(long expectedLength, long actualLength) {
+        return assertionFailedError()
+                .reason("array lengths differ")
+                .expected(expectedLength)
+                .actual(actualLength);
+    }
+
+    // The content is only read until it's known to be longer, so its exact length is not known
+    private static AssertionFailedErrorBuilder longerThanExpected(long expectedLength, long minActualLength) {
+        return assertionFailedError()
+                .reason("content is longer than expected")
+                .expected(expectedLength)
+                .prefixed("at least").actual(minActualLength);
+    }
+
+    // The expected content is only read until it's known to be longer, so its exact length is not known
+    private static AssertionFailedErrorBuilder shorterThanExpected(long minExpectedLength, long actualLength) {
+        return assertionFailedError()
+                .reason("content is shorter than expected")
+                .prefixed("at least").expected(minExpectedLength)
+                .actual(actualLength);
+    }
+
+    private static void failIfMismatch(AssertionFailedErrorBuilder mismatch, Object messageOrSupplier) {
+        if (mismatch != null) {
+            mismatch.message(messageOrSupplier)
+                    .buildAndThrow();
         }
-        return baos.toByteArray();
+    }
+
+    /**
+     * Asserts that a {@link ByteBuffer} contains specific content.
+     * The content of the buffer is compared from its position to its limit, without copying it; this includes direct buffers.
+     *
+     * @param buffer The buffer to check. Its position and limit will not be changed.
+     * @param expectedContent The expected content.
+     * @throws NullPointerException If the given buffer or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(ByteBuffer buffer, byte[] expectedContent) {
+        failIfMismatch(findMismatch(buffer, expectedContent), null);
+    }
+
+    /**
+     * Asserts that a {@link ByteBuffer} contains specific content.
+     * The content of the buffer is compared from its position to its limit, without copying it; this includes direct buffers.
+     *
+     * @param buffer The buffer to check. Its position and limit will not be changed.
+     * @param expectedContent The expected content.
+     * @param message The failure message to fail with.
+     * @throws NullPointerException If the given buffer or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(ByteBuffer buffer, byte[] expectedContent, String message) {
+        failIfMismatch(findMismatch(buffer, expectedContent), message);
+    }
+
+    /**
+     * Asserts that a {@link ByteBuffer} contains specific content.
+     * The content of the buffer is compared from its position to its limit, without copying it; this includes direct buffers.
+     *
+     * @param buffer The buffer to check. Its position and limit will not be changed.
+     * @param expectedContent The expected content.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @throws NullPointerException If the given buffer or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(ByteBuffer buffer, byte[] expectedContent, Supplier<String> messageSupplier) {
+        failIfMismatch(findMismatch(buffer, expectedContent), messageSupplier);
+    }
+
+    private static AssertionFailedErrorBuilder findMismatch(ByteBuffer buffer, byte[] expectedContent) {
+        int index = buffer.mismatch(ByteBuffer.wrap(expectedContent));
+        if (index == -1) {
+            return null;
+        }
+        int length = buffer.remaining();
+        if (index == Math.min(length, expectedContent.length)) {
+            // One of the contents is a prefix of the other
+            return lengthMismatch(expectedContent.length, length);
+        }
+        // Only copy the bytes that are included in the failure
+        byte[] tail = new byte[Math.min(length - index, HexDump.tailLength(index))];
+        for (int i = 0; i < tail.length; i++) {
+            tail[i] = buffer.get(buffer.position() + index + i);
+        }
+        return byteMismatch(expectedContent, index, tail, length);
+    }
+
+    /**
+     * Asserts that a {@link ReadableByteChannel} contains specific content.
+     * The channel is read into a direct buffer, which is compared to the expected content without copying it.
+     *
+     * @param channel The channel to read from. If it contains the expected content, it will be exhausted at the end of this method call. Otherwise it
+     *                    is only read up to the chunk that contains the first difference, and the context that is included in the failure.
+     * @param expectedContent The expected content.
+     * @throws NullPointerException If the given channel or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(ReadableByteChannel channel, byte[] expectedContent) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(channel, expectedContent));
+        failIfMismatch(mismatch, null);
+    }
+
+    /**
+     * Asserts that a {@link ReadableByteChannel} contains specific content.
+     * The channel is read into a direct buffer, which is compared to the expected content without copying it.
+     *
+     * @param channel The channel to read from. If it contains the expected content, it will be exhausted at the end of this method call. Otherwise it
+     *                    is only read up to the chunk that contains the first difference, and the context that is included in the failure.
+     * @param expectedContent The expected content.
+     * @param message The failure message to fail with.
+     * @throws NullPointerException If the given channel or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(ReadableByteChannel channel, byte[] expectedContent, String message) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(channel, expectedContent), message);
+        failIfMismatch(mismatch, message);
+    }
+
+    /**
+     * Asserts that a {@link ReadableByteChannel} contains specific content.
+     * The channel is read into a direct buffer, which is compared to the expected content without copying it.
+     *
+     * @param channel The channel to read from. If it contains the expected content, it will be exhausted at the end of this method call. Otherwise it
+     *                    is only read up to the chunk that contains the first difference, and the context that is included in the failure.
+     * @param expectedContent The expected content.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @throws NullPointerException If the given channel or expected content is null.
+     * @since 3.3
+     */
+    public static void assertContainsContent(ReadableByteChannel channel, byte[] expectedContent, Supplier<String> messageSupplier) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(channel, expectedContent), messageSupplier);
+        failIfMismatch(mismatch, messageSupplier);
+    }
+
+    private static AssertionFailedErrorBuilder findMismatch(ReadableByteChannel channel, byte[] expectedContent) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        int offset = 0;
+        int len;
+        while ((len = channel.read(buffer)) != -1) {
+            buffer.flip();
+            int count = Math.min(len, expectedContent.length - offset);
+            ByteBuffer chunk = buffer.duplicate();
+            chunk.limit(count);
+            int index = chunk.mismatch(ByteBuffer.wrap(expectedContent, offset, count));
+            if (index != -1) {
+                buffer.position(index);
+                byte[] tail = readTail(channel, buffer, HexDump.tailLength(offset + index));
+                return byteMismatch(expectedContent, offset + index, tail, -1);
+            }
+            if (count < len) {
+                // Don't read the remaining content just to report its exact length
+                return longerThanExpected(expectedContent.length, (long) offset + len);
+            }
+            offset += len;
+            buffer.clear();
+        }
+        return offset < expectedContent.length
+                ? lengthMismatch(expectedContent.length, offset)
+                : null;
+    }
+
+    private static byte[] readTail(ReadableByteChannel channel, ByteBuffer buffer, int length) throws IOException {
+        // buffer contains the bytes that were already read from the difference on
+        ByteBuffer tail = ByteBuffer.allocate(length);
+        buffer.limit(Math.min(buffer.limit(), buffer.position() + tail.capacity()));
+        tail.put(buffer);
+        while (tail.hasRemaining() && channel.read(tail) != -1) {
+            // no content
+        }
+        return Arrays.copyOf(tail.array(), tail.position());
     }
 
     /**
      * Asserts that an {@link InputStream} contains specific content.
      *
-     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param inputStream The input stream to read from. If it contains the expected content, it will be exhausted at the end of this method call.
+     *                        Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in the
+     *                        failure.
      * @param charset The charset to use.
      * @param expectedContent The expected content.
      * @throws NullPointerException If the given input stream or charset is null.
@@ -185,7 +669,9 @@ public final class IOAssertions {
     /**
      * Asserts that an {@link InputStream} contains specific content.
      *
-     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param inputStream The input stream to read from. If it contains the expected content, it will be exhausted at the end of this method call.
+     *                        Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in the
+     *                        failure.
      * @param charset The charset to use.
      * @param expectedContent The expected content.
      * @param message The failure message to fail with.
@@ -200,7 +686,9 @@ public final class IOAssertions {
     /**
      * Asserts that an {@link InputStream} contains specific content.
      *
-     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param inputStream The input stream to read from. If it contains the expected content, it will be exhausted at the end of this method call.
+     *                        Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in the
+     *                        failure.
      * @param charset The charset to use.
      * @param expectedContent The expected content.
      * @param messageSupplier The supplier for the failure message to fail with.
@@ -226,6 +714,515 @@ public final class IOAssertions {
         assertContainsContent(reader, matcher);
     }
 
+    /**
+     * Asserts that an {@link InputStream} contains the same content as another {@link InputStream}.
+     * Neither input stream is read into memory; both are compared in chunks.
+     *
+     * @param inputStream The input stream to read from. If both input streams have the same content, it will be exhausted at the end of this method
+     *                        call. Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in
+     *                        the failure.
+     * @param expectedContent The input stream with the expected content. If both input streams have the same content, it will be exhausted at the end
+     *                            of this method call. Otherwise it is only read up to the chunk that contains the first difference, and the context
+     *                            that is included in the failure.
+     * @throws NullPointerException If either input stream is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(InputStream inputStream, InputStream expectedContent) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(inputStream, expectedContent));
+        failIfMismatch(mismatch, null);
+    }
+
+    /**
+     * Asserts that an {@link InputStream} contains the same content as another {@link InputStream}.
+     * Neither input stream is read into memory; both are compared in chunks.
+     *
+     * @param inputStream The input stream to read from. If both input streams have the same content, it will be exhausted at the end of this method
+     *                        call. Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in
+     *                        the failure.
+     * @param expectedContent The input stream with the expected content. If both input streams have the same content, it will be exhausted at the end
+     *                            of this method call. Otherwise it is only read up to the chunk that contains the first difference, and the context
+     *                            that is included in the failure.
+     * @param message The failure message to fail with.
+     * @throws NullPointerException If either input stream is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(InputStream inputStream, InputStream expectedContent, String message) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(inputStream, expectedContent), message);
+        failIfMismatch(mismatch, message);
+    }
+
+    /**
+     * Asserts that an {@link InputStream} contains the same content as another {@link InputStream}.
+     * Neither input stream is read into memory; both are compared in chunks.
+     *
+     * @param inputStream The input stream to read from. If both input streams have the same content, it will be exhausted at the end of this method
+     *                        call. Otherwise it is only read up to the chunk that contains the first difference, and the context that is included in
+     *                        the failure.
+     * @param expectedContent The input stream with the expected content. If both input streams have the same content, it will be exhausted at the end
+     *                            of this method call. Otherwise it is only read up to the chunk that contains the first difference, and the context
+     *                            that is included in the failure.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @throws NullPointerException If either input stream is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(InputStream inputStream, InputStream expectedContent, Supplier<String> messageSupplier) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(inputStream, expectedContent), messageSupplier);
+        failIfMismatch(mismatch, messageSupplier);
+    }
+
+    /**
+     * Asserts that a {@link ReadableByteChannel} contains the same content as another {@link ReadableByteChannel}.
+     * Neither channel is read into memory; both are compared in chunks.
+     *
+     * @param channel The channel to read from. If both channels have the same content, it will be exhausted at the end of this method call. Otherwise
+     *                    it is only read up to the chunk that contains the first difference, and the context that is included in the failure.
+     * @param expectedContent The channel with the expected content. If both channels have the same content, it will be exhausted at the end of this
+     *                            method call. Otherwise it is only read up to the chunk that contains the first difference, and the context that is
+     *                            included in the failure.
+     * @throws NullPointerException If either channel is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(ReadableByteChannel channel, ReadableByteChannel expectedContent) {
+        assertSameContent(Channels.newInputStream(channel), Channels.newInputStream(expectedContent));
+    }
+
+    /**
+     * Asserts that a {@link ReadableByteChannel} contains the same content as another {@link ReadableByteChannel}.
+     * Neither channel is read into memory; both are compared in chunks.
+     *
+     * @param channel The channel to read from. If both channels have the same content, it will be exhausted at the end of this method call. Otherwise
+     *                    it is only read up to the chunk that contains the first difference, and the context that is included in the failure.
+     * @param expectedContent The channel with the expected content. If both channels have the same content, it will be exhausted at the end of this
+     *                            method call. Otherwise it is only read up to the chunk that contains the first difference, and the context that is
+     *                            included in the failure.
+     * @param message The failure message to fail with.
+     * @throws NullPointerException If either channel is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(ReadableByteChannel channel, ReadableByteChannel expectedContent, String message) {
+        assertSameContent(Channels.newInputStream(channel), Channels.newInputStream(expectedContent), message);
+    }
+
+    /**
+     * Asserts that a {@link ReadableByteChannel} contains the same content as another {@link ReadableByteChannel}.
+     * Neither channel is read into memory; both are compared in chunks.
+     *
+     * @param channel The channel to read from. If both channels have the same content, it will be exhausted at the end of this method call. Otherwise
+     *                    it is only read up to the chunk that contains the first difference, and the context that is included in the failure.
+     * @param expectedContent The channel with the expected content. If both channels have the same content, it will be exhausted at the end of this
+     *                            method call. Otherwise it is only read up to the chunk that contains the first difference, and the context that is
+     *                            included in the failure.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @throws NullPointerException If either channel is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(ReadableByteChannel channel, ReadableByteChannel expectedContent, Supplier<String> messageSupplier) {
+        assertSameContent(Channels.newInputStream(channel), Channels.newInputStream(expectedContent), messageSupplier);
+    }
+
+    private static AssertionFailedErrorBuilder findMismatch(InputStream inputStream, InputStream expectedContent) throws IOException {
+        // Chunks are read after the first HEAD_SIZE bytes of each buffer.
+        // Before a chunk is read, the last bytes of the previous chunk are moved there, so they can be included in failures.
+        // Content is only compared until the first difference, so this is only needed for one of the buffers.
+        int headSize = HexDump.MAX_HEAD_LENGTH;
+        byte[] buffer = new byte[headSize + BUFFER_SIZE];
+        byte[] expectedBuffer = new byte[headSize + BUFFER_SIZE];
+        long offset = 0;
+        while (true) {
+            int len = inputStream.readNBytes(buffer, headSize, BUFFER_SIZE);
+            int expectedLen = expectedContent.readNBytes(expectedBuffer, headSize, BUFFER_SIZE);
+            int count = Math.min(len, expectedLen);
+            int index = Arrays.mismatch(buffer, headSize, headSize + count, expectedBuffer, headSize, headSize + count);
+            if (index != -1) {
+                long mismatchIndex = offset + index;
+                int headLength = (int) (mismatchIndex - HexDump.windowStart(mismatchIndex));
+                byte[] head = Arrays.copyOfRange(buffer, headSize + index - headLength, headSize + index);
+                int tailLength = HexDump.tailLength(mismatchIndex);
+                return byteMismatch("content differs at index [" + mismatchIndex + "]", mismatchIndex, head,
+                        readTail(expectedContent, expectedBuffer, headSize + index, headSize + expectedLen, tailLength), -1,
+                        readTail(inputStream, buffer, headSize + index, headSize + len, tailLength), -1);
+            }
+            // readNBytes only returns less than requested at the end of the stream.
+            // Don't read the remaining content of the longer stream just to report its exact length; it's only known if both streams have ended.
+            if (len < expectedLen) {
+                return expectedLen < BUFFER_SIZE
+                        ? contentLengthMismatch(offset + expectedLen, offset + len)
+                        : shorterThanExpected(offset + expectedLen, offset + len);
+            }
+            if (len > expectedLen) {
+                return len < BUFFER_SIZE
+                        ? contentLengthMismatch(offset + expectedLen, offset + len)
+                        : longerThanExpected(offset + expectedLen, offset + len);
+            }
+            if (len < BUFFER_SIZE) {
+                return null;
+            }
+            System.arraycopy(buffer, BUFFER_SIZE, buffer, 0, headSize);
+            offset += len;
+        }
+    }
+
+    /**
+     * Asserts that a file contains the same content as another file.
+     * Neither file is read into memory. Files of up to 64 MiB are compared using memory mapping; larger files are read in chunks of 1 MiB into
+     * two reused direct buffers, so the amount of memory needed does not depend on the size of the files, and no content is copied onto the
+     * heap.
+     *
+     * @param file The file to check.
+     * @param expectedContent The file with the expected content.
+     * @throws NullPointerException If either file is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(Path file, Path expectedContent) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(file, expectedContent));
+        failIfMismatch(mismatch, null);
+    }
+
+    /**
+     * Asserts that a file contains the same content as another file.
+     * Neither file is read into memory. Files of up to 64 MiB are compared using memory mapping; larger files are read in chunks of 1 MiB into
+     * two reused direct buffers, so the amount of memory needed does not depend on the size of the files, and no content is copied onto the
+     * heap.
+     *
+     * @param file The file to check.
+     * @param expectedContent The file with the expected content.
+     * @param message The failure message to fail with.
+     * @throws NullPointerException If either file is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(Path file, Path expectedContent, String message) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(file, expectedContent), message);
+        failIfMismatch(mismatch, message);
+    }
+
+    /**
+     * Asserts that a file contains the same content as another file.
+     * Neither file is read into memory. Files of up to 64 MiB are compared using memory mapping; larger files are read in chunks of 1 MiB into
+     * two reused direct buffers, so the amount of memory needed does not depend on the size of the files, and no content is copied onto the
+     * heap.
+     *
+     * @param file The file to check.
+     * @param expectedContent The file with the expected content.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @throws NullPointerException If either file is null.
+     * @since 3.3
+     */
+    public static void assertSameContent(Path file, Path expectedContent, Supplier<String> messageSupplier) {
+        AssertionFailedErrorBuilder mismatch = assertDoesNotThrow(() -> findMismatch(file, expectedContent), messageSupplier);
+        failIfMismatch(mismatch, messageSupplier);
+    }
+
+    private static AssertionFailedErrorBuilder findMismatch(Path file, Path expectedContent) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                FileChannel expectedChannel = FileChannel.open(expectedContent, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            long expectedSize = expectedChannel.size();
+            long count = Math.min(size, expectedSize);
+            long index = count <= MAX_MAPPED_SIZE
+                    ? findMappedMismatch(channel, expectedChannel, count)
+                    : findChunkedMismatch(channel, expectedChannel, count);
+            if (index != -1) {
+                return fileMismatch(channel, size, expectedChannel, expectedSize, index);
+            }
+            return size != expectedSize
+                    ? contentLengthMismatch(expectedSize, size)
+                    : null;
+        }
+    }
+
+    private static long findMappedMismatch(FileChannel channel, FileChannel expectedChannel, long count) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, count);
+        MappedByteBuffer expectedMapped = expectedChannel.map(FileChannel.MapMode.READ_ONLY, 0, count);
+        return mapped.mismatch(expectedMapped);
+    }
+
+    private static long findChunkedMismatch(FileChannel channel, FileChannel expectedChannel, long count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_CHUNK_SIZE);
+        ByteBuffer expectedBuffer = ByteBuffer.allocateDirect(FILE_CHUNK_SIZE);
+        for (long position = 0; position < count; position += FILE_CHUNK_SIZE) {
+            int length = (int) Math.min(FILE_CHUNK_SIZE, count - position);
+            readChunk(channel, position, buffer, length);
+            readChunk(expectedChannel, position, expectedBuffer, length);
+            int index = buffer.mismatch(expectedBuffer);
+            if (index != -1) {
+                return position + index;
+            }
+        }
+        return -1;
+    }
+
+    private static void readChunk(FileChannel channel, long position, ByteBuffer buffer, int length) throws IOException {
+        buffer.clear().limit(length);
+        // Keep reading until the buffer is full or the end of the file has been reached
+        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) != -1) {
+            // no content
+        }
+        buffer.flip();
+    }
+
+    private static AssertionFailedErrorBuilder fileMismatch(FileChannel channel, long size, FileChannel expectedChannel, long expectedSize,
+            long index) throws IOException {
+
+        // Only read the bytes that are included in the failure
+        long from = HexDump.windowStart(index);
+        int tailLength = HexDump.tailLength(index);
+        return byteMismatch("content differs at index [" + index + "]", index, read(channel, from, (int) (index - from)),
+                read(expectedChannel, index, tailLength), expectedSize, read(channel, index, tailLength), size);
+    }
+
+    private static byte[] read(FileChannel channel, long position, int maxLength) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(maxLength);
+        // Keep reading until the buffer is full or the end of the file has been reached
+        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) != -1) {
+            // no content
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static AssertionFailedErrorBuilder contentLengthMismatch(long expectedLength, long actualLength) {
+        return assertionFailedError()
+                .reason("content lengths differ")
+                .expected(expectedLength)
+                .actual(actualLength);
+    }
+
+    /**
+     * Asserts that the content of an {@link InputStream} has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given input stream, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(InputStream inputStream, String algorithm, String expectedDigest) {
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(inputStream, digest));
+        return checkDigest(contentDigest, expectedDigest, null);
+    }
+
+    /**
+     * Asserts that the content of an {@link InputStream} has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @param message The failure message to fail with.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given input stream, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(InputStream inputStream, String algorithm, String expectedDigest, String message) {
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(inputStream, digest), message);
+        return checkDigest(contentDigest, expectedDigest, message);
+    }
+
+    /**
+     * Asserts that the content of an {@link InputStream} has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param inputStream The input stream to read from. It will be exhausted at the end of this method call.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given input stream, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(InputStream inputStream, String algorithm, String expectedDigest,
+            Supplier<String> messageSupplier) {
+
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(inputStream, digest), messageSupplier);
+        return checkDigest(contentDigest, expectedDigest, messageSupplier);
+    }
+
+    private static ContentDigest digest(InputStream inputStream, MessageDigest digest) throws IOException {
+        long start = System.nanoTime();
+        byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+        long size = 0;
+        int len;
+        while ((len = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, len);
+            size += len;
+        }
+        return new ContentDigest(digest, size, start);
+    }
+
+    /**
+     * Asserts that the content of a {@link ReadableByteChannel} has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param channel The channel to read from. It will be exhausted at the end of this method call.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given channel, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(ReadableByteChannel channel, String algorithm, String expectedDigest) {
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(channel, digest));
+        return checkDigest(contentDigest, expectedDigest, null);
+    }
+
+    /**
+     * Asserts that the content of a {@link ReadableByteChannel} has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param channel The channel to read from. It will be exhausted at the end of this method call.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @param message The failure message to fail with.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given channel, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(ReadableByteChannel channel, String algorithm, String expectedDigest, String message) {
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(channel, digest), message);
+        return checkDigest(contentDigest, expectedDigest, message);
+    }
+
+    /**
+     * Asserts that the content of a {@link ReadableByteChannel} has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param channel The channel to read from. It will be exhausted at the end of this method call.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given channel, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(ReadableByteChannel channel, String algorithm, String expectedDigest,
+            Supplier<String> messageSupplier) {
+
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(channel, digest), messageSupplier);
+        return checkDigest(contentDigest, expectedDigest, messageSupplier);
+    }
+
+    private static ContentDigest digest(ReadableByteChannel channel, MessageDigest digest) throws IOException {
+        long start = System.nanoTime();
+        // A direct buffer allows file channels to read without an intermediate copy
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+        long size = 0;
+        int len;
+        while ((len = channel.read(buffer)) != -1) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+            size += len;
+        }
+        return new ContentDigest(digest, size, start);
+    }
+
+    /**
+     * Asserts that the content of a file has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param file The file to check.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given file, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(Path file, String algorithm, String expectedDigest) {
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(file, digest));
+        return checkDigest(contentDigest, expectedDigest, null);
+    }
+
+    /**
+     * Asserts that the content of a file has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param file The file to check.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @param message The failure message to fail with.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given file, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(Path file, String algorithm, String expectedDigest, String message) {
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(file, digest), message);
+        return checkDigest(contentDigest, expectedDigest, message);
+    }
+
+    /**
+     * Asserts that the content of a file has a specific digest.
+     * The content is not read into memory; instead, it is digested while it is being read.
+     *
+     * @param file The file to check.
+     * @param algorithm The name of the digest algorithm to use, for instance {@code SHA-256}.
+     * @param expectedDigest The expected digest, as a hexadecimal string. Its case is ignored.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @return The digest of the content, with the number of bytes that were digested and the time it took.
+     * @throws NullPointerException If the given file, algorithm or expected digest is null.
+     * @throws IllegalArgumentException If the given digest algorithm is not available.
+     * @since 3.3
+     */
+    public static ContentDigest assertContentDigest(Path file, String algorithm, String expectedDigest, Supplier<String> messageSupplier) {
+        MessageDigest digest = messageDigest(algorithm, expectedDigest);
+        ContentDigest contentDigest = assertDoesNotThrow(() -> digest(file, digest), messageSupplier);
+        return checkDigest(contentDigest, expectedDigest, messageSupplier);
+    }
+
+    private static ContentDigest digest(Path file, MessageDigest digest) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return digest(channel, digest);
+        }
+    }
+
+    private static MessageDigest messageDigest(String algorithm, String expectedDigest) {
+        Objects.requireNonNull(expectedDigest);
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static ContentDigest checkDigest(ContentDigest contentDigest, String expectedDigest, Object messageOrSupplier) {
+        // The time it took is not included in the failure, so failure messages are the same for each run
+        if (!contentDigest.digest.equalsIgnoreCase(expectedDigest)) {
+            assertionFailedError()
+                    .message(messageOrSupplier)
+                    .reason(contentDigest.algorithm + " digest differs for " + contentDigest.size + " bytes")
+                    .expected(expectedDigest)
+                    .actual(contentDigest.digest)
+                    .buildAndThrow();
+        }
+        return contentDigest;
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
     /**
      * Asserts that an object is serializable.
      *
@@ -264,15 +1261,184 @@ public final class IOAssertions {
     }
 
     private static <T> T serializeAndDeserialize(T object) throws IOException, ClassNotFoundException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+        return roundTrip(object, new SerializationBuffer()).deserialized();
+    }
+
+    /**
+     * Asserts that an object is serializable, and returns information about the serialization round trip.
+     *
+     * @param <T> The type of object to test.
+     * @param object The object to test.
+     * @return The result of the serialization round trip, including a deserialized copy of the object.
+     * @since 3.3
+     */
+    public static <T> SerializationRoundTrip<T> assertSerializationRoundTrip(T object) {
+        return assertDoesNotThrow(() -> roundTrip(object, new SerializationBuffer()));
+    }
+
+    /**
+     * Asserts that an object is serializable, and returns information about the serialization round trip.
+     *
+     * @param <T> The type of object to test.
+     * @param object The object to test.
+     * @param message The failure message to fail with.
+     * @return The result of the serialization round trip, including a deserialized copy of the object.
+     * @since 3.3
+     */
+    public static <T> SerializationRoundTrip<T> assertSerializationRoundTrip(T object, String message) {
+        return assertDoesNotThrow(() -> roundTrip(object, new SerializationBuffer()), message);
+    }
+
+    /**
+     * Asserts that an object is serializable, and returns information about the serialization round trip.
+     *
+     * @param <T> The type of object to test.
+     * @param object The object to test.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @return The result of the serialization round trip, including a deserialized copy of the object.
+     * @since 3.3
+     */
+    public static <T> SerializationRoundTrip<T> assertSerializationRoundTrip(T object, Supplier<String> messageSupplier) {
+        return assertDoesNotThrow(() -> roundTrip(object, new SerializationBuffer()), messageSupplier);
+    }
+
+    /**
+     * Asserts that an object is serializable, and that its serialized form is not larger than a specific size.
+     *
+     * @param <T> The type of object to test.
+     * @param object The object to test.
+     * @param maxSize The maximum serialized size, in bytes.
+     * @return The result of the serialization round trip, including a deserialized copy of the object.
+     * @since 3.3
+     */
+    public static <T> SerializationRoundTrip<T> assertSerializedSizeAtMost(T object, int maxSize) {
+        SerializationRoundTrip<T> roundTrip = assertSerializationRoundTrip(object);
+        checkSerializedSize(roundTrip, maxSize, null);
+        return roundTrip;
+    }
+
+    /**
+     * Asserts that an object is serializable, and that its serialized form is not larger than a specific size.
+     *
+     * @param <T> The type of object to test.
+     * @param object The object to test.
+     * @param maxSize The maximum serialized size, in bytes.
+     * @param message The failure message to fail with.
+     * @return The result of the serialization round trip, including a deserialized copy of the object.
+     * @since 3.3
+     */
+    public static <T> SerializationRoundTrip<T> assertSerializedSizeAtMost(T object, int maxSize, String message) {
+        SerializationRoundTrip<T> roundTrip = assertSerializationRoundTrip(object, message);
+        checkSerializedSize(roundTrip, maxSize, message);
+        return roundTrip;
+    }
+
+    /**
+     * Asserts that an object is serializable, and that its serialized form is not larger than a specific size.
+     *
+     * @param <T> The type of object to test.
+     * @param object The object to test.
+     * @param maxSize The maximum serialized size, in bytes.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @return The result of the serialization round trip, including a deserialized copy of the object.
+     * @since 3.3
+     */
+    public static <T> SerializationRoundTrip<T> assertSerializedSizeAtMost(T object, int maxSize, Supplier<String> messageSupplier) {
+        SerializationRoundTrip<T> roundTrip = assertSerializationRoundTrip(object, messageSupplier);
+        checkSerializedSize(roundTrip, maxSize, messageSupplier);
+        return roundTrip;
+    }
+
+    private static void checkSerializedSize(SerializationRoundTrip<?> roundTrip, int maxSize, Object messageOrSupplier) {
+        if (roundTrip.serializedSize() > maxSize) {
+            assertionFailedError()
+                    .message(messageOrSupplier)
+                    .reason("serialized size is too large")
+                    .prefixed("at most").expected(maxSize)
+                    .actual(roundTrip.serializedSize())
+                    .buildAndThrow();
+        }
+    }
+
+    /**
+     * Asserts that several objects are serializable.
+     * This is like calling {@link #assertSerializable(Object)} for each object, but buffers are reused between objects.
+     *
+     * @param <T> The type of objects to test.
+     * @param objects The objects to test.
+     * @return A list with deserialized copies of the objects, in the same order.
+     * @throws NullPointerException If the given collection is {@code null}.
+     * @since 3.3
+     */
+    public static <T> List<T> assertAllSerializable(Collection<? extends T> objects) {
+        return serializeAndDeserializeAll(objects, null);
+    }
+
+    /**
+     * Asserts that several objects are serializable.
+     * This is like calling {@link #assertSerializable(Object, String)} for each object, but buffers are reused between objects.
+     *
+     * @param <T> The type of objects to test.
+     * @param objects The objects to test.
+     * @param message The failure message to fail with.
+     * @return A list with deserialized copies of the objects, in the same order.
+     * @throws NullPointerException If the given collection is {@code null}.
+     * @since 3.3
+     */
+    public static <T> List<T> assertAllSerializable(Collection<? extends T> objects, String message) {
+        return serializeAndDeserializeAll(objects, message);
+    }
+
+    /**
+     * Asserts that several objects are serializable.
+     * This is like calling {@link #assertSerializable(Object, Supplier)} for each object, but buffers are reused between objects.
+     *
+     * @param <T> The type of objects to test.
+     * @param objects The objects to test.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @return A list with deserialized copies of the objects, in the same order.
+     * @throws NullPointerException If the given collection is {@code null}.
+     * @since 3.3
+     */
+    public static <T> List<T> assertAllSerializable(Collection<? extends T> objects, Supplier<String> messageSupplier) {
+        return serializeAndDeserializeAll(objects, messageSupplier);
+    }
+
+    private static <T> List<T> serializeAndDeserializeAll(Collection<? extends T> objects, Object messageOrSupplier) {
+        SerializationBuffer buffer = new SerializationBuffer();
+        List<T> deserialized = new ArrayList<>(objects.size());
+        int index = 0;
+        for (T object : objects) {
+            try {
+                deserialized.add(roundTrip(object, buffer).deserialized());
+            } catch (Throwable e) {
+                // Like assertDoesNotThrow, also wrap exceptions thrown by custom writeObject, readObject or readResolve methods
+                rethrowIfUnrecoverable(e);
+                throw assertionFailedError()
+                        .message(messageOrSupplier)
+                        .reason("Unexpected exception thrown for object at index [" + index + "]: " + e)
+                        .cause(e)
+                        .build();
+            }
+            index++;
+        }
+        return deserialized;
+    }
+
+    private static <T> SerializationRoundTrip<T> roundTrip(T object, SerializationBuffer buffer) throws IOException, ClassNotFoundException {
+        buffer.reset();
+        long start = System.nanoTime();
+        try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
             oos.writeObject(object);
         }
-        byte[] bytes = baos.toByteArray();
-        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+        long serialized = System.nanoTime();
+        try (ObjectInputStream ois = new ObjectInputStream(buffer.toInputStream())) {
             @SuppressWarnings("unchecked")
             T deserialized = (T) ois.readObject();
-            return deserialized;
+            long end = System.nanoTime();
+            Duration serializationTime = Duration.ofNanos(serialized - start);
+            Duration deserializationTime = Duration.ofNanos(end - serialized);
+            return new SerializationRoundTrip<>(deserialized, buffer.size(), serializationTime, deserializationTime);
         }
     }
 
@@ -313,4 +1479,148 @@ public final class IOAssertions {
             oos.writeObject(object);
         }
     }
+
+    /**
+     * The result of digesting content.
+     *
+     * @author Rob Spoor
+     * @since 3.3
+     */
+    public static final class ContentDigest {
+
+        private final String algorithm;
+        private final String digest;
+        private final long size;
+        private final Duration duration;
+
+        private ContentDigest(MessageDigest messageDigest, long size, long start) {
+            this.algorithm = messageDigest.getAlgorithm();
+            this.digest = toHex(messageDigest.digest());
+            this.size = size;
+            this.duration = Duration.ofNanos(System.nanoTime() - start);
+        }
+
+        /**
+         * Returns the name of the digest algorithm that was used.
+         *
+         * @return The name of the digest algorithm that was used.
+         */
+        public String algorithm() {
+            return algorithm;
+        }
+
+        /**
+         * Returns the digest of the content.
+         *
+         * @return The digest of the content, as a lowercase hexadecimal string.
+         */
+        public String digest() {
+            return digest;
+        }
+
+        /**
+         * Returns the number of bytes that were digested.
+         *
+         * @return The number of bytes that were digested.
+         */
+        public long size() {
+            return size;
+        }
+
+        /**
+         * Returns the time it took to read and digest the content.
+         *
+         * @return The time it took to read and digest the content.
+         */
+        public Duration duration() {
+            return duration;
+        }
+
+        /**
+         * Returns the number of bytes that were read and digested per second.
+         *
+         * @return The number of bytes that were read and digested per second,
+         *             or {@link Double#POSITIVE_INFINITY} if the content was digested too fast to measure.
+         */
+        public double throughput() {
+            long nanos = duration.toNanos();
+            return nanos == 0 ? Double.POSITIVE_INFINITY : size * 1_000_000_000D / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return size + " bytes, digested in " + duration;
+        }
+    }
+
+    /**
+     * The result of serializing and deserializing an object.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of object.
+     * @since 3.3
+     */
+    public static final class SerializationRoundTrip<T> {
+
+        private final T deserialized;
+        private final int serializedSize;
+        private final Duration serializationTime;
+        private final Duration deserializationTime;
+
+        private SerializationRoundTrip(T deserialized, int serializedSize, Duration serializationTime, Duration deserializationTime) {
+            this.deserialized = deserialized;
+            this.serializedSize = serializedSize;
+            this.serializationTime = serializationTime;
+            this.deserializationTime = deserializationTime;
+        }
+
+        /**
+         * Returns the deserialized copy of the object.
+         *
+         * @return The deserialized copy of the object.
+         */
+        public T deserialized() {
+            return deserialized;
+        }
+
+        /**
+         * Returns the size of the serialized form of the object.
+         *
+         * @return The size of the serialized form of the object, in bytes.
+         */
+        public int serializedSize() {
+            return serializedSize;
+        }
+
+        /**
+         * Returns the time it took to serialize the object.
+         *
+         * @return The time it took to serialize the object.
+         */
+        public Duration serializationTime() {
+            return serializationTime;
+        }
+
+        /**
+         * Returns the time it took to deserialize the object.
+         *
+         * @return The time it took to deserialize the object.
+         */
+        public Duration deserializationTime() {
+            return deserializationTime;
+        }
+
+        @Override
+        public String toString() {
+            return serializedSize + " bytes, serialized in " + serializationTime + ", deserialized in " + deserializationTime;
+        }
+    }
+
+    private static final class SerializationBuffer extends ByteArrayOutputStream {
+
+        private InputStream toInputStream() {
+            // Read directly from the buffer instead of from a copy
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
 }
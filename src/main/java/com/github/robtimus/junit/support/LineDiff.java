@@ -0,0 +1,266 @@
+/*
+ * LineDiff.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings("nls")
+final class LineDiff {
+
+    // The number of unchanged lines to include before and after each change
+    static final int CONTEXT_LINES = 3;
+
+    private static final int MAX_HUNKS = 3;
+    private static final int MAX_RENDERED_LINES = 50;
+    private static final int MAX_LINE_LENGTH = 200;
+
+    // Myers' algorithm needs O(D^2) memory for D edits; if there are more edits, the remaining lines are rendered as replaced instead
+    private static final int MAX_EDITS = 500;
+
+    private enum Operation {
+        EQUAL, DELETE, INSERT,
+    }
+
+    private final List<String> expectedLines;
+    private final List<String> actualLines;
+    private final List<Operation> operations;
+
+    private LineDiff(List<String> expectedLines, List<String> actualLines) {
+        this.expectedLines = expectedLines;
+        this.actualLines = actualLines;
+        this.operations = diff(expectedLines, actualLines);
+    }
+
+    static List<String> lines(CharSequence text) {
+        // Each line includes its line terminator, so differences in line terminators are not lost
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                lines.add(text.subSequence(start, i + 1).toString());
+                start = i + 1;
+            }
+        }
+        if (start < length) {
+            lines.add(text.subSequence(start, length).toString());
+        }
+        return lines;
+    }
+
+    static String unifiedDiff(CharSequence expected, CharSequence actual, int firstLineNumber, boolean actualTruncated) {
+        LineDiff diff = new LineDiff(lines(expected), lines(actual));
+        return diff.render(firstLineNumber, actualTruncated);
+    }
+
+    private static List<Operation> diff(List<String> expected, List<String> actual) {
+        int prefix = 0;
+        int maxPrefix = Math.min(expected.size(), actual.size());
+        while (prefix < maxPrefix && expected.get(prefix).equals(actual.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && expected.get(expected.size() - suffix - 1).equals(actual.get(actual.size() - suffix - 1))) {
+            suffix++;
+        }
+
+        List<Operation> operations = new ArrayList<>(expected.size() + actual.size());
+        operations.addAll(Collections.nCopies(prefix, Operation.EQUAL));
+        List<String> expectedMiddle = expected.subList(prefix, expected.size() - suffix);
+        List<String> actualMiddle = actual.subList(prefix, actual.size() - suffix);
+        List<Operation> middle = myers(expectedMiddle, actualMiddle);
+        if (middle != null) {
+            operations.addAll(middle);
+        } else {
+            operations.addAll(Collections.nCopies(expectedMiddle.size(), Operation.DELETE));
+            operations.addAll(Collections.nCopies(actualMiddle.size(), Operation.INSERT));
+        }
+        operations.addAll(Collections.nCopies(suffix, Operation.EQUAL));
+        return operations;
+    }
+
+    private static List<Operation> myers(List<String> expected, List<String> actual) {
+        int n = expected.size();
+        int m = actual.size();
+        int maxEdits = Math.min(n + m, MAX_EDITS);
+        int offset = maxEdits + 1;
+        int[] v = new int[2 * maxEdits + 3];
+        List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= maxEdits; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || k != d && v[offset + k - 1] < v[offset + k + 1]
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && expected.get(x).equals(actual.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, offset, n, m);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Operation> backtrack(List<int[]> trace, int offset, int n, int m) {
+        List<Operation> operations = new ArrayList<>(n + m);
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            // trace.get(d) contains the furthest reaching paths for d - 1 edits
+            int[] v = trace.get(d);
+            int k = x - y;
+            int previousK = k == -d || k != d && v[offset + k - 1] < v[offset + k + 1]
+                    ? k + 1
+                    : k - 1;
+            int previousX = v[offset + previousK];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                operations.add(Operation.EQUAL);
+                x--;
+                y--;
+            }
+            operations.add(x == previousX ? Operation.INSERT : Operation.DELETE);
+            x = previousX;
+            y = previousY;
+        }
+        while (x > 0 && y > 0) {
+            operations.add(Operation.EQUAL);
+            x--;
+            y--;
+        }
+        Collections.reverse(operations);
+        return operations;
+    }
+
+    private String render(int firstLineNumber, boolean actualTruncated) {
+        // For each operation, the index of the expected and actual line it applies to
+        int size = operations.size();
+        int[] expectedIndexes = new int[size + 1];
+        int[] actualIndexes = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            Operation operation = operations.get(i);
+            expectedIndexes[i + 1] = expectedIndexes[i] + (operation != Operation.INSERT ? 1 : 0);
+            actualIndexes[i + 1] = actualIndexes[i] + (operation != Operation.DELETE ? 1 : 0);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int hunkCount = 0;
+        int renderedLines = 0;
+        int i = 0;
+        while (i < size) {
+            if (operations.get(i) == Operation.EQUAL) {
+                i++;
+            } else if (hunkCount == MAX_HUNKS || renderedLines == MAX_RENDERED_LINES) {
+                appendLine(sb, "...");
+                break;
+            } else {
+                int start = Math.max(0, i - CONTEXT_LINES);
+                int end = hunkEnd(i);
+                appendHunkHeader(sb, firstLineNumber, expectedIndexes[start], expectedIndexes[end], actualIndexes[start], actualIndexes[end]);
+                int renderEnd = Math.min(end, start + MAX_RENDERED_LINES - renderedLines);
+                for (int j = start; j < renderEnd; j++) {
+                    appendOperation(sb, operations.get(j), expectedIndexes[j], actualIndexes[j]);
+                }
+                if (renderEnd < end) {
+                    appendLine(sb, "...");
+                    break;
+                }
+                renderedLines += renderEnd - start;
+                hunkCount++;
+                i = end;
+            }
+        }
+        if (actualTruncated) {
+            appendLine(sb, "\\ Remaining content not compared");
+        }
+        return sb.toString();
+    }
+
+    private int hunkEnd(int firstChange) {
+        // Changes that are separated by at most twice the number of context lines are combined into one hunk
+        int lastChange = firstChange;
+        int end = firstChange + 1;
+        while (end < operations.size() && end - lastChange <= 2 * CONTEXT_LINES + 1) {
+            if (operations.get(end) != Operation.EQUAL) {
+                lastChange = end;
+            }
+            end++;
+        }
+        return Math.min(operations.size(), lastChange + CONTEXT_LINES + 1);
+    }
+
+    private static void appendHunkHeader(StringBuilder sb, int firstLineNumber,
+            int expectedStart, int expectedEnd, int actualStart, int actualEnd) {
+
+        appendLine(sb, "@@ -" + range(firstLineNumber, expectedStart, expectedEnd) + " +" + range(firstLineNumber, actualStart, actualEnd) + " @@");
+    }
+
+    private static String range(int firstLineNumber, int start, int end) {
+        int count = end - start;
+        // Like the unified diff format, an empty range starts at the line before it
+        int startLineNumber = firstLineNumber + start - (count == 0 ? 1 : 0);
+        return count == 1 ? Integer.toString(startLineNumber) : startLineNumber + "," + count;
+    }
+
+    private void appendOperation(StringBuilder sb, Operation operation, int expectedIndex, int actualIndex) {
+        switch (operation) {
+            case DELETE:
+                appendLine(sb, '-', expectedLines.get(expectedIndex));
+                break;
+            case INSERT:
+                appendLine(sb, '+', actualLines.get(actualIndex));
+                break;
+            case EQUAL:
+            default:
+                appendLine(sb, ' ', expectedLines.get(expectedIndex));
+                break;
+        }
+    }
+
+    private static void appendLine(StringBuilder sb, char marker, String line) {
+        boolean terminated = line.endsWith("\n") || line.endsWith("\r");
+        // Only \n is omitted, so other line terminators are escaped and remain visible
+        String content = line.endsWith("\n") ? line.substring(0, line.length() - 1) : line;
+        String rendered = content.length() > MAX_LINE_LENGTH
+                ? IOAssertions.escape(content.substring(0, MAX_LINE_LENGTH)) + "..."
+                : IOAssertions.escape(content);
+        appendLine(sb, marker + rendered);
+        if (!terminated) {
+            appendLine(sb, "\\ No newline at end of content");
+        }
+    }
+
+    private static void appendLine(StringBuilder sb, String line) {
+        if (sb.length() > 0) {
+            sb.append('\n');
+        }
+        sb.append(line);
+    }
+}
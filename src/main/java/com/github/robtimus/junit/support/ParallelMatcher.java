@@ -0,0 +1,228 @@
+/*
+ * ParallelMatcher.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+final class ParallelMatcher {
+
+    // The maximum number of non-matching values to report
+    static final int MAX_REPORTED_FAILURES = 10;
+
+    // Don't split spliterators into parts smaller than this, so the overhead of tasks stays small compared to testing the values
+    private static final long MIN_SPLIT_SIZE = 1024;
+
+    // Like parallel streams, split into a few more parts than there are threads, to balance the load if some parts take longer than others
+    private static final int PARTS_PER_THREAD = 4;
+
+    private ParallelMatcher() {
+    }
+
+    static <T> Result match(Spliterator<? extends T> spliterator, Predicate<? super T> matcher) {
+        return match(spliterator, (Spliterator<? extends T> part, Result result) -> part.forEachRemaining(value -> {
+            if (!matcher.test(value)) {
+                result.addFailure(value);
+            }
+            result.count++;
+        }));
+    }
+
+    static Result match(Spliterator.OfInt spliterator, IntPredicate matcher) {
+        // Values are only boxed if they don't match
+        return match(spliterator, (Spliterator.OfInt part, Result result) -> part.forEachRemaining((int value) -> {
+            if (!matcher.test(value)) {
+                result.addFailure(value);
+            }
+            result.count++;
+        }));
+    }
+
+    static Result match(Spliterator.OfLong spliterator, LongPredicate matcher) {
+        // Values are only boxed if they don't match
+        return match(spliterator, (Spliterator.OfLong part, Result result) -> part.forEachRemaining((long value) -> {
+            if (!matcher.test(value)) {
+                result.addFailure(value);
+            }
+            result.count++;
+        }));
+    }
+
+    static Result match(Spliterator.OfDouble spliterator, DoublePredicate matcher) {
+        // Values are only boxed if they don't match
+        return match(spliterator, (Spliterator.OfDouble part, Result result) -> part.forEachRemaining((double value) -> {
+            if (!matcher.test(value)) {
+                result.addFailure(value);
+            }
+            result.count++;
+        }));
+    }
+
+    private static <S extends Spliterator<?>> Result match(S spliterator, BiConsumer<S, Result> partMatcher) {
+        long size = spliterator.estimateSize();
+        long splitSize = size == Long.MAX_VALUE
+                ? MIN_SPLIT_SIZE
+                : Math.max(MIN_SPLIT_SIZE, size / (PARTS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism()));
+        return new MatchTask<>(spliterator, partMatcher, splitSize).invoke();
+    }
+
+    // Based on java.util.stream.AbstractTask: splitting happens in a loop instead of through recursion, and the half that is forked alternates.
+    // The latter prevents unbalanced trees for spliterators that only split off small prefixes, like those of streams of unknown size.
+    // Spliterators are cleared once they are no longer needed, and child tasks once their results have been combined, so only the results of
+    // parts that are not yet combined are retained.
+    private static final class MatchTask<S extends Spliterator<?>> extends CountedCompleter<Result> {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient S spliterator;
+        private final transient BiConsumer<S, Result> partMatcher;
+        private final long splitSize;
+
+        private transient MatchTask<S> prefixTask;
+        private transient MatchTask<S> suffixTask;
+        private transient Result result;
+
+        private MatchTask(S spliterator, BiConsumer<S, Result> partMatcher, long splitSize) {
+            super(null);
+            this.spliterator = spliterator;
+            this.partMatcher = partMatcher;
+            this.splitSize = splitSize;
+        }
+
+        private MatchTask(MatchTask<S> parent, S spliterator) {
+            super(parent);
+            this.spliterator = spliterator;
+            this.partMatcher = parent.partMatcher;
+            this.splitSize = parent.splitSize;
+        }
+
+        @Override
+        public void compute() {
+            S remaining = spliterator;
+            MatchTask<S> task = this;
+            boolean forkSuffix = false;
+            S prefix;
+            // The split off part contains the values that come before the values that remain in the spliterator
+            while (remaining.estimateSize() > splitSize && (prefix = trySplit(remaining)) != null) {
+                MatchTask<S> prefixChild = new MatchTask<>(task, prefix);
+                MatchTask<S> suffixChild = new MatchTask<>(task, remaining);
+                task.prefixTask = prefixChild;
+                task.suffixTask = suffixChild;
+                task.spliterator = null;
+                task.setPendingCount(1);
+
+                MatchTask<S> taskToFork;
+                if (forkSuffix) {
+                    remaining = prefix;
+                    task = prefixChild;
+                    taskToFork = suffixChild;
+                } else {
+                    task = suffixChild;
+                    taskToFork = prefixChild;
+                }
+                forkSuffix = !forkSuffix;
+                taskToFork.fork();
+            }
+            Result leafResult = new Result();
+            partMatcher.accept(remaining, leafResult);
+            task.spliterator = null;
+            task.result = leafResult;
+            task.tryComplete();
+        }
+
+        @SuppressWarnings("unchecked")
+        private S trySplit(S remaining) {
+            return (S) remaining.trySplit();
+        }
+
+        @Override
+        public void onCompletion(CountedCompleter<?> caller) {
+            if (prefixTask != null) {
+                result = prefixTask.result.append(suffixTask.result);
+                prefixTask = null;
+                suffixTask = null;
+            }
+        }
+
+        @Override
+        public Result getRawResult() {
+            return result;
+        }
+    }
+
+    static final class Result {
+
+        private long count;
+        private long failureCount;
+
+        // Indexes are relative to the first value of the part the result is for; these are only created if there are failures
+        private long[] failureIndexes;
+        private Object[] failureValues;
+        private int reportedFailureCount;
+
+        private void addFailure(Object value) {
+            addFailure(count, value);
+            failureCount++;
+        }
+
+        private void addFailure(long index, Object value) {
+            if (reportedFailureCount < MAX_REPORTED_FAILURES) {
+                if (failureIndexes == null) {
+                    failureIndexes = new long[MAX_REPORTED_FAILURES];
+                    failureValues = new Object[MAX_REPORTED_FAILURES];
+                }
+                failureIndexes[reportedFailureCount] = index;
+                failureValues[reportedFailureCount] = value;
+                reportedFailureCount++;
+            }
+        }
+
+        private Result append(Result other) {
+            for (int i = 0; i < other.reportedFailureCount && reportedFailureCount < MAX_REPORTED_FAILURES; i++) {
+                addFailure(count + other.failureIndexes[i], other.failureValues[i]);
+            }
+            count += other.count;
+            failureCount += other.failureCount;
+            return this;
+        }
+
+        long count() {
+            return count;
+        }
+
+        long failureCount() {
+            return failureCount;
+        }
+
+        Map<Long, Object> reportedFailures() {
+            Map<Long, Object> failures = new LinkedHashMap<>();
+            for (int i = 0; i < reportedFailureCount; i++) {
+                failures.put(failureIndexes[i], failureValues[i]);
+            }
+            return failures;
+        }
+    }
+}
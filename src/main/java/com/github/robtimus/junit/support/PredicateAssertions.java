@@ -18,11 +18,17 @@
 package com.github.robtimus.junit.support;
 
 import static com.github.robtimus.junit.support.AssertionFailedErrorBuilder.assertionFailedError;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 
 /**
@@ -201,6 +207,440 @@ public final class PredicateAssertions {
                 .actual(actual);
     }
 
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param <T> The value type.
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @since 3.3
+     */
+    public static <T> void assertAllMatch(Predicate<? super T> matcher, T[] actual) {
+        assertAllMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param <T> The value type.
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static <T> void assertAllMatch(Predicate<? super T> matcher, T[] actual, String message) {
+        assertAllMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param <T> The value type.
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static <T> void assertAllMatch(Predicate<? super T> matcher, T[] actual, Supplier<String> messageSupplier) {
+        assertAllMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static <T> void assertAllMatch(Predicate<? super T> matcher, T[] actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(Arrays.spliterator(actual), matcher), messageOrSupplier);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param <T> The value type.
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @since 3.3
+     */
+    public static <T> void assertAllMatch(Predicate<? super T> matcher, Stream<? extends T> actual) {
+        assertAllMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param <T> The value type.
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static <T> void assertAllMatch(Predicate<? super T> matcher, Stream<? extends T> actual, String message) {
+        assertAllMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param <T> The value type.
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static <T> void assertAllMatch(Predicate<? super T> matcher, Stream<? extends T> actual, Supplier<String> messageSupplier) {
+        assertAllMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static <T> void assertAllMatch(Predicate<? super T> matcher, Stream<? extends T> actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(actual.parallel().spliterator(), matcher), messageOrSupplier);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @since 3.3
+     */
+    public static void assertAllIntsMatch(IntPredicate matcher, int[] actual) {
+        assertAllIntsMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllIntsMatch(IntPredicate matcher, int[] actual, String message) {
+        assertAllIntsMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllIntsMatch(IntPredicate matcher, int[] actual, Supplier<String> messageSupplier) {
+        assertAllIntsMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static void assertAllIntsMatch(IntPredicate matcher, int[] actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(Arrays.spliterator(actual), matcher), messageOrSupplier);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @since 3.3
+     */
+    public static void assertAllIntsMatch(IntPredicate matcher, IntStream actual) {
+        assertAllIntsMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllIntsMatch(IntPredicate matcher, IntStream actual, String message) {
+        assertAllIntsMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllIntsMatch(IntPredicate matcher, IntStream actual, Supplier<String> messageSupplier) {
+        assertAllIntsMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static void assertAllIntsMatch(IntPredicate matcher, IntStream actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(actual.parallel().spliterator(), matcher), messageOrSupplier);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @since 3.3
+     */
+    public static void assertAllLongsMatch(LongPredicate matcher, long[] actual) {
+        assertAllLongsMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllLongsMatch(LongPredicate matcher, long[] actual, String message) {
+        assertAllLongsMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllLongsMatch(LongPredicate matcher, long[] actual, Supplier<String> messageSupplier) {
+        assertAllLongsMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static void assertAllLongsMatch(LongPredicate matcher, long[] actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(Arrays.spliterator(actual), matcher), messageOrSupplier);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @since 3.3
+     */
+    public static void assertAllLongsMatch(LongPredicate matcher, LongStream actual) {
+        assertAllLongsMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllLongsMatch(LongPredicate matcher, LongStream actual, String message) {
+        assertAllLongsMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllLongsMatch(LongPredicate matcher, LongStream actual, Supplier<String> messageSupplier) {
+        assertAllLongsMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static void assertAllLongsMatch(LongPredicate matcher, LongStream actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(actual.parallel().spliterator(), matcher), messageOrSupplier);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @since 3.3
+     */
+    public static void assertAllDoublesMatch(DoublePredicate matcher, double[] actual) {
+        assertAllDoublesMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllDoublesMatch(DoublePredicate matcher, double[] actual, String message) {
+        assertAllDoublesMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied array match the supplied predicate.
+     * <p>
+     * The values are tested in parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The array to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllDoublesMatch(DoublePredicate matcher, double[] actual, Supplier<String> messageSupplier) {
+        assertAllDoublesMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static void assertAllDoublesMatch(DoublePredicate matcher, double[] actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(Arrays.spliterator(actual), matcher), messageOrSupplier);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @since 3.3
+     */
+    public static void assertAllDoublesMatch(DoublePredicate matcher, DoubleStream actual) {
+        assertAllDoublesMatch(matcher, actual, (Object) null);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param message The failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllDoublesMatch(DoublePredicate matcher, DoubleStream actual, String message) {
+        assertAllDoublesMatch(matcher, actual, (Object) message);
+    }
+
+    /**
+     * Asserts that all values of the supplied stream match the supplied predicate.
+     * <p>
+     * The stream is made parallel, so the predicate must be safe to use from multiple threads.
+     * If any values do not match, the failure message contains the number of non-matching values,
+     * and the first 10 of them with their indexes in the stream's encounter order.
+     *
+     * @param matcher The predicate to use.
+     * @param actual The stream to check.
+     * @param messageSupplier The supplier for the failure message to fail with.
+     * @since 3.3
+     */
+    public static void assertAllDoublesMatch(DoublePredicate matcher, DoubleStream actual, Supplier<String> messageSupplier) {
+        assertAllDoublesMatch(matcher, actual, (Object) messageSupplier);
+    }
+
+    private static void assertAllDoublesMatch(DoublePredicate matcher, DoubleStream actual, Object messageOrSupplier) {
+        assertAllMatched(ParallelMatcher.match(actual.parallel().spliterator(), matcher), messageOrSupplier);
+    }
+
+    private static void assertAllMatched(ParallelMatcher.Result result, Object messageOrSupplier) {
+        if (result.failureCount() > 0) {
+            notAllMatching(result, messageOrSupplier).buildAndThrow();
+        }
+    }
+
+    private static AssertionFailedErrorBuilder notAllMatching(ParallelMatcher.Result result, Object messageOrSupplier) {
+        // The actual value maps the indexes of the first non-matching values to those values
+        Map<Long, Object> failures = result.reportedFailures();
+        String reason = result.failureCount() + " of " + result.count() + " values do not match predicate";
+        if (failures.size() < result.failureCount()) {
+            reason += " (showing the first " + failures.size() + ")";
+        }
+        return assertionFailedError()
+                .message(messageOrSupplier)
+                .reason(reason)
+                .expectedMessage("all matching predicate")
+                .actual(failures);
+    }
+
     /**
      * Asserts that the supplied value does not match the supplied predicate.
      *
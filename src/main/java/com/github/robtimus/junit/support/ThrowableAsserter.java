@@ -339,12 +339,26 @@ public final class ThrowableAsserter<R> {
             hasRunAssertions = true;
         }
 
-        Class<?> iterator = errorType;
-        while (iterator != Object.class) {
-            asserter = errors.get(iterator);
+        if (runAssertionsForSuperTypes(actualError, errors)) {
+            hasRunAssertions = true;
+        }
+
+        return hasRunAssertions;
+    }
+
+    static boolean runAssertionsForSuperTypes(Throwable actualError, Map<Class<? extends Throwable>, Consumer<? super Throwable>> errors) {
+        boolean hasRunAssertions = false;
+
+        // Each configured error type can match only once, so stop walking the type hierarchy once all configured error types have been found.
+        // That only happens if every configured error type is a super type of the error type; otherwise the entire hierarchy is walked.
+        int remaining = errors.size();
+        Class<?> iterator = actualError.getClass();
+        while (remaining > 0 && iterator != Object.class) {
+            Consumer<? super Throwable> asserter = errors.get(iterator);
             if (asserter != null) {
                 asserter.accept(actualError);
                 hasRunAssertions = true;
+                remaining--;
             }
             iterator = iterator.getSuperclass();
         }
@@ -469,13 +469,17 @@ public final class ThrowableAssertions {
     private static <T extends Throwable> T assertThrowsExactlyOneOf(Collection<Class<? extends T>> expectedTypes, Executable executable,
             Object messageOrSupplier) {
 
-        return assertOptionallyThrowsExactlyOneOf(expectedTypes, executable, messageOrSupplier)
-                .orElseThrow(() -> assertionFailedError()
-                        .message(messageOrSupplier)
-                        .reasonPattern("Expected one of %s to be thrown, but nothing was thrown.")
-                                .withValues(expectedTypes)
-                                .format()
-                        .build());
+        // Don't use assertOptionallyThrowsExactlyOneOf, to not create an Optional on the success path
+        T thrown = throwsOneOf(expectedTypes, true, executable, messageOrSupplier);
+        if (thrown == null) {
+            throw assertionFailedError()
+                    .message(messageOrSupplier)
+                    .reasonPattern("Expected one of %s to be thrown, but nothing was thrown.")
+                            .withValues(expectedTypes)
+                            .format()
+                    .build();
+        }
+        return thrown;
     }
 
     /**
@@ -623,24 +627,7 @@ public final class ThrowableAssertions {
     private static <T extends Throwable> Optional<T> assertOptionallyThrowsExactlyOneOf(Collection<Class<? extends T>> expectedTypes,
             Executable executable, Object messageOrSupplier) {
 
-        try {
-            executable.execute();
-            return Optional.empty();
-        } catch (Throwable actualException) {
-            for (Class<? extends T> expectedType : expectedTypes) {
-                if (expectedType.equals(actualException.getClass())) {
-                    return Optional.of(expectedType.cast(actualException));
-                }
-            }
-            rethrowIfUnrecoverable(actualException);
-
-            throw unexpectedExceptionTypeThrown()
-                    .message(messageOrSupplier)
-                    .expectedOneOf(expectedTypes)
-                    .actual(actualException.getClass())
-                    .cause(actualException)
-                    .build();
-        }
+        return Optional.ofNullable(throwsOneOf(expectedTypes, true, executable, messageOrSupplier));
     }
 
     /**
@@ -768,13 +755,17 @@ public final class ThrowableAssertions {
     private static <T extends Throwable> T assertThrowsOneOf(Collection<Class<? extends T>> expectedTypes, Executable executable,
             Object messageOrSupplier) {
 
-        return assertOptionallyThrowsOneOf(expectedTypes, executable, messageOrSupplier)
-                .orElseThrow(() -> assertionFailedError()
-                        .message(messageOrSupplier)
-                        .reasonPattern("Expected one of %s to be thrown, but nothing was thrown.")
-                                .withValues(expectedTypes)
-                                .format()
-                        .build());
+        // Don't use assertOptionallyThrowsOneOf, to not create an Optional on the success path
+        T thrown = throwsOneOf(expectedTypes, false, executable, messageOrSupplier);
+        if (thrown == null) {
+            throw assertionFailedError()
+                    .message(messageOrSupplier)
+                    .reasonPattern("Expected one of %s to be thrown, but nothing was thrown.")
+                            .withValues(expectedTypes)
+                            .format()
+                    .build();
+        }
+        return thrown;
     }
 
     /**
@@ -910,13 +901,22 @@ public final class ThrowableAssertions {
     private static <T extends Throwable> Optional<T> assertOptionallyThrowsOneOf(Collection<Class<? extends T>> expectedTypes,
             Executable executable, Object messageOrSupplier) {
 
+        return Optional.ofNullable(throwsOneOf(expectedTypes, false, executable, messageOrSupplier));
+    }
+
+    // Returns null if nothing was thrown
+    private static <T extends Throwable> T throwsOneOf(Collection<Class<? extends T>> expectedTypes, boolean exact, Executable executable,
+            Object messageOrSupplier) {
+
         try {
             executable.execute();
-            return Optional.empty();
+            return null;
         } catch (Throwable actualException) {
+            Class<?> actualType = actualException.getClass();
             for (Class<? extends T> expectedType : expectedTypes) {
-                if (expectedType.isInstance(actualException)) {
-                    return Optional.of(expectedType.cast(actualException));
+                // Class instances are unique per class loader, so exact matches can be checked using identity
+                if (exact ? expectedType == actualType : expectedType.isInstance(actualException)) {
+                    return expectedType.cast(actualException);
                 }
             }
             rethrowIfUnrecoverable(actualException);
@@ -924,7 +924,7 @@ public final class ThrowableAssertions {
             throw unexpectedExceptionTypeThrown()
                     .message(messageOrSupplier)
                     .expectedOneOf(expectedTypes)
-                    .actual(actualException.getClass())
+                    .actual(actualType)
                     .cause(actualException)
                     .build();
         }
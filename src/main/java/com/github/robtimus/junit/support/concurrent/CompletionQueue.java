@@ -0,0 +1,69 @@
+/*
+ * CompletionQueue.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class CompletionQueue<T> implements Iterator<ConcurrentResult<T>> {
+
+    // Marks the end of the queue; only compared by reference
+    private static final ConcurrentResult<?> END = new ConcurrentResult<>((Object) null);
+
+    private final BlockingQueue<ConcurrentResult<?>> queue = new LinkedBlockingQueue<>();
+
+    private ConcurrentResult<?> next;
+
+    void add(ConcurrentResult<T> result) {
+        queue.add(result);
+    }
+
+    void close() {
+        queue.add(END);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = assertDoesNotThrow(queue::take);
+        }
+        return next != END;
+    }
+
+    @Override
+    public ConcurrentResult<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked")
+        ConcurrentResult<T> result = (ConcurrentResult<T>) next;
+        next = null;
+        return result;
+    }
+
+    Stream<ConcurrentResult<T>> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
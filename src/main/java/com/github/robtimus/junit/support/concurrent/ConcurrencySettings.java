@@ -18,7 +18,12 @@
 package com.github.robtimus.junit.support.concurrent;
 
 import static com.github.robtimus.junit.support.concurrent.ConcurrentRunner.validateCount;
+import static com.github.robtimus.junit.support.concurrent.ConcurrentRunner.validateDuration;
 import static com.github.robtimus.junit.support.concurrent.ConcurrentRunner.validateThreadCount;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.function.Executable;
 
 /**
@@ -34,9 +39,21 @@ public final class ConcurrencySettings {
 
     private int threadCount;
 
+    private boolean virtualThreads;
+
+    private ExecutorService executor;
+
+    private Duration timeout;
+
+    private Duration invocationTimeout;
+
     private ConcurrencySettings(int count) {
         this.count = count;
         this.threadCount = Integer.MAX_VALUE;
+        this.virtualThreads = false;
+        this.executor = null;
+        this.timeout = null;
+        this.invocationTimeout = null;
     }
 
     /**
@@ -65,6 +82,68 @@ public final class ConcurrencySettings {
         return this;
     }
 
+    /**
+     * Specifies that virtual threads should be used instead of platform threads.
+     *
+     * @return This object.
+     * @throws UnsupportedOperationException If virtual threads are not supported by the current Java version.
+     * @see ConcurrentRunner#withVirtualThreads()
+     * @since 3.3
+     */
+    public ConcurrencySettings withVirtualThreads() {
+        VirtualThreads.validateSupported();
+        this.virtualThreads = true;
+        this.executor = null;
+        return this;
+    }
+
+    /**
+     * Sets the executor to use.
+     *
+     * @param executor The executor to use.
+     * @return This object.
+     * @throws NullPointerException If the given executor is {@code null}.
+     * @see ConcurrentRunner#withExecutor(ExecutorService)
+     * @since 3.3
+     */
+    public ConcurrencySettings withExecutor(ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.virtualThreads = false;
+        return this;
+    }
+
+    /**
+     * Sets the maximum duration for running all blocks of code.
+     *
+     * @param timeout The maximum duration for running all blocks of code.
+     * @return This object.
+     * @throws NullPointerException If the given duration is {@code null}.
+     * @throws IllegalArgumentException If the given duration is not positive.
+     * @see ConcurrentRunner#withTimeout(Duration)
+     * @since 3.3
+     */
+    public ConcurrencySettings withTimeout(Duration timeout) {
+        validateDuration(timeout);
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets the maximum duration for running a single block of code.
+     *
+     * @param invocationTimeout The maximum duration for running a single block of code.
+     * @return This object.
+     * @throws NullPointerException If the given duration is {@code null}.
+     * @throws IllegalArgumentException If the given duration is not positive.
+     * @see ConcurrentRunner#withInvocationTimeout(Duration)
+     * @since 3.3
+     */
+    public ConcurrencySettings withInvocationTimeout(Duration invocationTimeout) {
+        validateDuration(invocationTimeout);
+        this.invocationTimeout = invocationTimeout;
+        return this;
+    }
+
     /**
      * Returns the number of times to run blocks of code.
      *
@@ -82,4 +161,47 @@ public final class ConcurrencySettings {
     public int threadCount() {
         return threadCount;
     }
+
+    /**
+     * Returns whether or not to use virtual threads.
+     *
+     * @return {@code true} to use virtual threads, or {@code false} to use platform threads.
+     * @since 3.3
+     */
+    public boolean virtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Returns the executor to use.
+     *
+     * @return An {@link Optional} describing the executor to use, or {@link Optional#empty()} if a new executor should be created for each
+     *         concurrent run.
+     * @since 3.3
+     */
+    public Optional<ExecutorService> executor() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * Returns the maximum duration for running all blocks of code.
+     *
+     * @return An {@link Optional} describing the maximum duration for running all blocks of code, or {@link Optional#empty()} if there is no
+     *         maximum.
+     * @since 3.3
+     */
+    public Optional<Duration> timeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    /**
+     * Returns the maximum duration for running a single block of code.
+     *
+     * @return An {@link Optional} describing the maximum duration for running a single block of code, or {@link Optional#empty()} if there is no
+     *         maximum.
+     * @since 3.3
+     */
+    public Optional<Duration> invocationTimeout() {
+        return Optional.ofNullable(invocationTimeout);
+    }
 }
@@ -18,12 +18,16 @@
 package com.github.robtimus.junit.support.concurrent;
 
 import static com.github.robtimus.junit.support.concurrent.ConcurrentResult.throwUnchecked;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,7 +35,7 @@ import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.function.ThrowingSupplier;
 
 /**
- * A class that represents the results produced by a {@link ConcurrentRunner}.
+ * A class that represents the results produced by a {@link ConcurrentRunner} or {@link ProcessRunner}.
  * <p>
  * For each instance of this class, only one method should be called. Calling more than one method will cause an exception to be thrown.
  *
@@ -39,12 +43,28 @@ import org.junit.jupiter.api.function.ThrowingSupplier;
  * @param <T> The type of result.
  * @since 3.0
  */
+@SuppressWarnings("nls")
 public final class ConcurrentResults<T> {
 
     private final Stream<ConcurrentResult<T>> results;
+    private final Supplier<ConcurrentStatistics> statistics;
 
     ConcurrentResults(Stream<ConcurrentResult<T>> results) {
+        this(results, (ConcurrentStatistics) null);
+    }
+
+    ConcurrentResults(Stream<ConcurrentResult<T>> results, ConcurrentStatistics statistics) {
+        this(results, () -> statistics);
+    }
+
+    ConcurrentResults(Stream<ConcurrentResult<T>> results, Supplier<ConcurrentStatistics> statistics) {
         this.results = results;
+        this.statistics = statistics;
+    }
+
+    ConcurrentResults(ConcurrentStatistics statistics) {
+        // Results are not retained
+        this(null, statistics);
     }
 
     /**
@@ -54,9 +74,46 @@ public final class ConcurrentResults<T> {
      * a terminal operator is executed.
      *
      * @return A stream with the results produced by the {@link ConcurrentRunner} that created this object.
+     * @throws IllegalStateException If this object was created using {@link ConcurrentRunner#runFor(Duration)}, which does not retain results.
      */
     public Stream<T> andStreamResults() {
-        return results.map(ConcurrentResult::getOrThrow);
+        return retainedResults().map(ConcurrentResult::getOrThrow);
+    }
+
+    /**
+     * Returns an iterator over the results produced by the {@link ConcurrentRunner} that created this object.
+     * <p>
+     * If any {@link Executable} or {@link ThrowingSupplier} threw an error or exception, the returned iterator will throw an error or exception
+     * when its result is reached.
+     * <p>
+     * If this object was created using {@link ConcurrentRunner#executeStreaming()}, the returned iterator will block until the next result
+     * becomes available.
+     *
+     * @return An iterator over the results produced by the {@link ConcurrentRunner} that created this object.
+     * @throws IllegalStateException If this object was created using {@link ConcurrentRunner#runFor(Duration)}, which does not retain results.
+     * @since 3.3
+     */
+    public Iterator<T> andIterateResults() {
+        return andStreamResults().iterator();
+    }
+
+    /**
+     * Returns a publisher for the results produced by the {@link ConcurrentRunner} that created this object.
+     * The returned publisher supports only one subscriber; any other subscriber will receive an {@link IllegalStateException}.
+     * <p>
+     * If any {@link Executable} or {@link ThrowingSupplier} threw an error or exception, the subscriber will receive it as error once its result
+     * is reached; any remaining results are not published. Because {@link Flow} does not allow {@code null} items, {@code null} results are not
+     * published.
+     * <p>
+     * This method is most useful for objects created using {@link ConcurrentRunner#executeStreaming()}, as results will be published as soon as
+     * they become available.
+     *
+     * @return A publisher for the results produced by the {@link ConcurrentRunner} that created this object.
+     * @throws IllegalStateException If this object was created using {@link ConcurrentRunner#runFor(Duration)}, which does not retain results.
+     * @since 3.3
+     */
+    public Flow.Publisher<T> andPublishResults() {
+        return new ResultPublisher<>(retainedResults().iterator());
     }
 
     /**
@@ -69,10 +126,11 @@ public final class ConcurrentResults<T> {
      * @param collector The collector to use.
      * @return The result of applying the given collector to the results produced by the {@link ConcurrentRunner} that created this object.
      * @throws NullPointerException If the given collector is {@code null}.
+     * @throws IllegalStateException If this object was created using {@link ConcurrentRunner#runFor(Duration)}, which does not retain results.
      */
     public <R> R andCollectResults(Collector<T, ?, R> collector) {
         Objects.requireNonNull(collector);
-        return results.collect(resultCollector(collector));
+        return retainedResults().collect(resultCollector(collector));
     }
 
     /**
@@ -82,6 +140,7 @@ public final class ConcurrentResults<T> {
      * Whether or not this list is modifiable is unspecified.
      *
      * @return A list with the results produced by the {@link ConcurrentRunner} that created this object.
+     * @throws IllegalStateException If this object was created using {@link ConcurrentRunner#runFor(Duration)}, which does not retain results.
      */
     public List<T> andListResults() {
         return andCollectResults(Collectors.toList());
@@ -90,8 +149,15 @@ public final class ConcurrentResults<T> {
     /**
      * Asserts that no {@link Executable} or {@link ThrowingSupplier} threw an error or exception.
      * If any {@link Executable} or {@link ThrowingSupplier} threw an error or exception, this method will throw an error or exception.
+     * <p>
+     * If this object was created using {@link ConcurrentRunner#runFor(Duration)}, this method is equivalent to
+     * {@link ConcurrentStatistics#assertNoFailures()}.
      */
     public void andAssertNoFailures() {
+        if (results == null) {
+            statistics.get().assertNoFailures();
+            return;
+        }
         List<Throwable> failures = results
                 .map(ConcurrentResult::failure)
                 .filter(Objects::nonNull)
@@ -100,6 +166,66 @@ public final class ConcurrentResults<T> {
         throwUnchecked(failures);
     }
 
+    /**
+     * Returns statistics of calling the suppliers of the {@link ConcurrentRunner} that created this object.
+     * These include the throughput, latency percentiles and the number of failures.
+     * <p>
+     * Unlike other methods, this method does not throw any error or exception if any {@link Executable} or {@link ThrowingSupplier} threw an error
+     * or exception. Use {@link ConcurrentStatistics#failureCount()} or {@link ConcurrentStatistics#assertNoFailures()} instead.
+     * <p>
+     * If this object was created using {@link ConcurrentRunner#executeStreaming()}, this method will block until all suppliers have been
+     * called.
+     *
+     * @return Statistics of calling the suppliers of the {@link ConcurrentRunner} that created this object.
+     * @since 3.3
+     */
+    public ConcurrentStatistics andReportStatistics() {
+        return statistics.get();
+    }
+
+    /**
+     * Returns the resources used by calling the suppliers of the {@link ConcurrentRunner} that created this object.
+     * These include CPU time, heap allocation and time spent blocking or waiting, both in total and for the most expensive call.
+     * <p>
+     * Like {@link #andReportStatistics()}, this method does not throw any error or exception if any {@link Executable} or {@link ThrowingSupplier}
+     * threw an error or exception.
+     * <p>
+     * If this object was created using {@link ConcurrentRunner#executeStreaming()}, this method will block until all suppliers have been
+     * called.
+     *
+     * @return The resources used by calling the suppliers of the {@link ConcurrentRunner} that created this object.
+     * @throws IllegalStateException If {@link ConcurrentRunner#withResourceAccounting() resource accounting} was not enabled.
+     * @since 3.3
+     */
+    public ResourceUsageReport andReportResourceUsage() {
+        return statistics.get().resourceUsage();
+    }
+
+    /**
+     * Returns the locks that the threads calling the suppliers of the {@link ConcurrentRunner} that created this object were blocked or waiting
+     * on, ordered from most to least contended.
+     * <p>
+     * Like {@link #andReportStatistics()}, this method does not throw any error or exception if any {@link Executable} or {@link ThrowingSupplier}
+     * threw an error or exception.
+     * <p>
+     * If this object was created using {@link ConcurrentRunner#executeStreaming()}, this method will block until all suppliers have been
+     * called.
+     *
+     * @return The locks that the threads calling the suppliers of the {@link ConcurrentRunner} that created this object were blocked or waiting on.
+     * @throws IllegalStateException If {@link ConcurrentRunner#withContentionSampling(Duration) contention sampling} was not enabled.
+     * @since 3.3
+     */
+    public ContentionReport andReportContention() {
+        return statistics.get().contention();
+    }
+
+    private Stream<ConcurrentResult<T>> retainedResults() {
+        if (results == null) {
+            throw new IllegalStateException("Results are not retained when running for a duration");
+        }
+        return results;
+    }
+
     static <T, R> Collector<ConcurrentResult<T>, ?, R> resultCollector(Collector<T, ?, R> collector) {
         return Collector.of(
                 () -> new ResultCollector<>(collector),
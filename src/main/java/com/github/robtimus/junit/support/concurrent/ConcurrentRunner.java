@@ -19,20 +19,36 @@ package com.github.robtimus.junit.support.concurrent;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.MultipleFailuresError;
 
 /**
  * A class that will run code concurrently.
@@ -44,12 +60,42 @@ import org.junit.jupiter.api.function.ThrowingSupplier;
 @SuppressWarnings("nls")
 public final class ConcurrentRunner<T> {
 
-    private final List<ThrowingSupplier<? extends T>> suppliers;
+    private static final int DEFAULT_MAX_RETAINED_FAILURES = 100;
+
+    // Suppliers are stored with their counts instead of once per call, so memory usage does not depend on the number of calls
+    private final List<SupplierEntry<T>> suppliers;
+    private int invocationCount = 0;
+    // The index of the first call of each phase
+    private final List<Integer> phaseStarts;
+
+    private int rounds = 1;
 
     private int threadCount = Integer.MAX_VALUE;
 
+    private boolean virtualThreads = false;
+
+    private ExecutorService executor = null;
+
+    private Duration warmup = Duration.ZERO;
+
+    private int maxRetainedFailures = DEFAULT_MAX_RETAINED_FAILURES;
+
+    private boolean failFast = false;
+
+    private Duration timeout = null;
+
+    private Duration invocationTimeout = null;
+
+    private boolean resourceAccounting = false;
+
+    private Duration contentionSamplingInterval = null;
+
+    private Long perturbationSeed = null;
+
     private ConcurrentRunner() {
         this.suppliers = new ArrayList<>();
+        this.phaseStarts = new ArrayList<>();
+        this.phaseStarts.add(0);
     }
 
     /**
@@ -79,6 +125,45 @@ public final class ConcurrentRunner<T> {
         return runner.concurrentlyWith(supplier, count);
     }
 
+    /**
+     * Creates a new concurrent runner. The supplier is told which worker calls it, and for which invocation.
+     *
+     * @param <T> The type of result.
+     * @param supplier The first supplier to call.
+     * @return The created concurrent runner.
+     * @throws NullPointerException If the given supplier is {@code null}.
+     * @since 3.3
+     */
+    public static <T> ConcurrentRunner<T> running(IndexedSupplier<? extends T> supplier) {
+        return running(supplier, 1);
+    }
+
+    /**
+     * Creates a new concurrent runner. The supplier is told which worker calls it, and for which invocation.
+     * <p>
+     * This allows work to be partitioned between workers without any shared state, like a shared counter that would otherwise become a point of
+     * contention itself. For instance, each worker can use its own non-thread-safe random number generator:
+     * <pre><code>
+     * Random[] randoms = IntStream.range(0, 4).mapToObj(Random::new).toArray(Random[]::new);
+     * ConcurrentRunner.running((workerIndex, invocationIndex) -&gt; map.put(randoms[workerIndex].nextInt(100), invocationIndex), 1000)
+     *         .withThreadCount(4)
+     *         .execute()
+     *         .andAssertNoFailures();
+     * </code></pre>
+     *
+     * @param <T> The type of result.
+     * @param supplier The first supplier to call.
+     * @param count The number of times to call the supplier.
+     * @return The created concurrent runner.
+     * @throws NullPointerException If the given supplier is {@code null}.
+     * @throws IllegalArgumentException If the given count is not positive.
+     * @since 3.3
+     */
+    public static <T> ConcurrentRunner<T> running(IndexedSupplier<? extends T> supplier, int count) {
+        ConcurrentRunner<T> runner = new ConcurrentRunner<>();
+        return runner.concurrentlyWith(supplier, count);
+    }
+
     /**
      * Creates a new concurrent runner. This is equivalent to calling {@link #running(ThrowingSupplier)} with a supplier that calls
      * {@link Executable#execute() executable.execute()} and then returns {@code null}.
@@ -127,11 +212,40 @@ public final class ConcurrentRunner<T> {
      * @throws IllegalArgumentException If the given count is not positive.
      */
     public ConcurrentRunner<T> concurrentlyWith(ThrowingSupplier<? extends T> supplier, int count) {
+        Objects.requireNonNull(supplier);
+        return concurrentlyWith((workerIndex, invocationIndex) -> supplier.get(), count);
+    }
+
+    /**
+     * Adds a supplier to call concurrently. The supplier is told which worker calls it, and for which invocation.
+     *
+     * @param supplier The additional supplier to call.
+     * @return This object.
+     * @throws NullPointerException If the given supplier is {@code null}.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> concurrentlyWith(IndexedSupplier<? extends T> supplier) {
+        return concurrentlyWith(supplier, 1);
+    }
+
+    /**
+     * Adds a supplier to call concurrently. The supplier is told which worker calls it, and for which invocation.
+     *
+     * @param supplier The additional supplier to call.
+     * @param count The number of times to call the supplier.
+     * @return This object.
+     * @throws NullPointerException If the given supplier is {@code null}.
+     * @throws IllegalArgumentException If the given count is not positive.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> concurrentlyWith(IndexedSupplier<? extends T> supplier, int count) {
         Objects.requireNonNull(supplier);
         validateCount(count);
-        for (int i = 0; i < count; i++) {
-            suppliers.add(supplier);
+        if (count > Integer.MAX_VALUE - invocationCount) {
+            throw new IllegalArgumentException("The total count exceeds " + Integer.MAX_VALUE);
         }
+        suppliers.add(new SupplierEntry<>(supplier, invocationCount, invocationCount + count));
+        invocationCount += count;
         return this;
     }
 
@@ -162,6 +276,23 @@ public final class ConcurrentRunner<T> {
         return concurrentlyWith(asSupplier(executable), count);
     }
 
+    /**
+     * Starts a new phase. Suppliers that are added after calling this method are only called after all suppliers that were added before
+     * have been called, by all threads. The same threads are used for all phases; they wait for each other at the end of each phase.
+     * <p>
+     * Phases can be used for tests where concurrent calls should only start after some other concurrent calls have finished, for instance
+     * concurrent reads that should only start after concurrent writes have finished.
+     * <p>
+     * Phases are not supported by {@link #runFor(Duration)} and {@link #measureScalability(int, Duration)}.
+     *
+     * @return This object.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> nextPhase() {
+        phaseStarts.add(invocationCount);
+        return this;
+    }
+
     /**
      * Sets the number of threads to use. By default each provided supplier will get its own thread.
      *
@@ -175,64 +306,851 @@ public final class ConcurrentRunner<T> {
         return this;
     }
 
+    /**
+     * Specifies that virtual threads should be used instead of platform threads. By default platform threads are used.
+     * <p>
+     * Virtual threads are much cheaper to create than platform threads, which makes it possible to call suppliers concurrently in the hundreds of
+     * thousands. Like with platform threads, each supplier will start at approximately the same time.
+     * <p>
+     * Virtual threads are only supported in Java 21 and higher.
+     *
+     * @return This object.
+     * @throws UnsupportedOperationException If virtual threads are not supported by the current Java version.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withVirtualThreads() {
+        // Validate early, instead of when execute() is called
+        VirtualThreads.validateSupported();
+        this.virtualThreads = true;
+        this.executor = null;
+        return this;
+    }
+
+    /**
+     * Sets the executor to use. By default a new executor is created each time {@link #execute()} is called, and shut down afterwards.
+     * <p>
+     * The given executor will not be shut down, which allows it to be reused by several calls to {@link #execute()}, possibly of different
+     * concurrent runners. This prevents having to create and shut down threads for each call. {@link SharedExecutor} can be used to inject
+     * executors that are shared between tests, and that are shut down automatically.
+     * <p>
+     * The given executor must be able to run at least as many tasks concurrently as the number of threads to use; otherwise {@link #execute()} will
+     * never finish, unless a {@link #withTimeout(Duration) timeout} is set. If the executor is a {@link ThreadPoolExecutor}, the number of threads
+     * is limited to the number of tasks it can run concurrently.
+     * <p>
+     * Setting an executor will override any previous call to {@link #withVirtualThreads()}, and vice versa.
+     *
+     * @param executor The executor to use.
+     * @return This object.
+     * @throws NullPointerException If the given executor is {@code null}.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withExecutor(ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.virtualThreads = false;
+        return this;
+    }
+
+    /**
+     * Sets the duration of the warmup phase for {@link #runFor(Duration)}. By default there is no warmup phase.
+     * <p>
+     * During the warmup phase suppliers are called like they are afterwards, but these calls are not included in the
+     * {@link ConcurrentResults#andReportStatistics() statistics}, and any error or exception they throw is ignored.
+     * This allows code to be optimized by the JIT compiler, caches to be filled, etc., before measuring starts.
+     * <p>
+     * The warmup phase is not used by {@link #execute()}.
+     *
+     * @param warmup The duration of the warmup phase.
+     * @return This object.
+     * @throws NullPointerException If the given duration is {@code null}.
+     * @throws IllegalArgumentException If the given duration is negative.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withWarmup(Duration warmup) {
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException(warmup + " < 0");
+        }
+        this.warmup = warmup;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of errors and exceptions to retain. By default the first 100 errors and exceptions are retained.
+     * <p>
+     * This limit applies to {@link #runFor(Duration)}, {@link #measureScalability(int, Duration)}, {@link #executeAndCollect(Collector)} and to
+     * {@link ConcurrentResults#andReportStatistics() statistics}. Any errors or exceptions beyond this limit are only counted.
+     * It does not apply to the results of {@link #execute()}, which retain every result.
+     *
+     * @param maxRetainedFailures The maximum number of errors and exceptions to retain.
+     * @return This object.
+     * @throws IllegalArgumentException If the given maximum is not positive.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withMaxRetainedFailures(int maxRetainedFailures) {
+        validateCount(maxRetainedFailures);
+        this.maxRetainedFailures = maxRetainedFailures;
+        return this;
+    }
+
+    /**
+     * Specifies that calling suppliers should stop as soon as any {@link Executable} or {@link ThrowingSupplier} throws an error or exception.
+     * No more suppliers will be called, and all threads that are still calling suppliers are interrupted. The results of these calls are
+     * discarded, so only the first error or exception is reported.
+     * <p>
+     * This applies to {@link #executeStreaming()} and {@link #executeAndCollect(Collector)}.
+     *
+     * @return This object.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withFailFast() {
+        this.failFast = true;
+        return this;
+    }
+
+    /**
+     * Sets the maximum duration for calling all suppliers. By default there is no maximum.
+     * <p>
+     * If calling all suppliers takes longer, an {@link AssertionFailedError} is thrown that includes any deadlocked threads and a dump of the
+     * threads that were calling suppliers. These threads are interrupted, but they are not waited for; code that does not respond to interrupts,
+     * like deadlocked code, will keep running in the background.
+     * <p>
+     * The same error is thrown if not all threads have started within the maximum duration, for instance because an
+     * {@link #withExecutor(ExecutorService) executor} cannot run enough tasks concurrently. No suppliers are called in that case.
+     * <p>
+     * For {@link #runFor(Duration)} and {@link #measureScalability(int, Duration)}, the maximum duration should include the duration of any
+     * {@link #withWarmup(Duration) warmup phase} and the given duration.
+     * For {@link #executeStreaming()}, the error is included in the results.
+     *
+     * @param timeout The maximum duration for calling all suppliers.
+     * @return This object.
+     * @throws NullPointerException If the given duration is {@code null}.
+     * @throws IllegalArgumentException If the given duration is not positive.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withTimeout(Duration timeout) {
+        validateDuration(timeout);
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets the maximum duration for a single call of a supplier. By default there is no maximum.
+     * <p>
+     * If any call takes longer, an {@link AssertionFailedError} is thrown like for {@link #withTimeout(Duration)}. Calls are checked at an
+     * interval of a tenth of the maximum duration (but at least 1 millisecond and at most 100 milliseconds), so it can take slightly longer before
+     * a call is detected to have taken too long.
+     *
+     * @param invocationTimeout The maximum duration for a single call of a supplier.
+     * @return This object.
+     * @throws NullPointerException If the given duration is {@code null}.
+     * @throws IllegalArgumentException If the given duration is not positive.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withInvocationTimeout(Duration invocationTimeout) {
+        validateDuration(invocationTimeout);
+        this.invocationTimeout = invocationTimeout;
+        return this;
+    }
+
+    /**
+     * Specifies that the resources used by each call should be measured. This includes CPU time, heap allocation, and the number of times and time
+     * spent blocking on monitors or waiting for notification. These are available through {@link ConcurrentResults#andReportResourceUsage()} and
+     * {@link ConcurrentStatistics#resourceUsage()}.
+     * <p>
+     * Measuring resources adds an overhead of a few microseconds to each call, so this should not be combined with assertions on throughput or
+     * latency. Measuring is done using {@link java.lang.management.ThreadMXBean}; if needed, CPU time measurement, allocated memory measurement and
+     * thread contention monitoring are enabled for the entire JVM, and not disabled afterwards.
+     * <p>
+     * The Java runtime does not provide resource usage for virtual threads. Resource accounting therefore cannot be combined with
+     * {@link #withVirtualThreads()}, and reports no resource usage if the {@link #withExecutor(ExecutorService) executor} uses virtual threads.
+     *
+     * @return This object.
+     * @throws UnsupportedOperationException If resource accounting is not supported by the current Java runtime.
+     *                                           This is the case if modules {@code java.management} and {@code jdk.management} are not available.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withResourceAccounting() {
+        // Validate early, instead of when execute() is called
+        ResourceMeter.validateSupported();
+        this.resourceAccounting = true;
+        return this;
+    }
+
+    /**
+     * Specifies that the threads calling suppliers should be sampled periodically, to find the locks they are blocked or waiting on.
+     * The result is available through {@link ConcurrentResults#andReportContention()} and {@link ConcurrentStatistics#contention()}.
+     * This includes both monitors and locks from package {@code java.util.concurrent.locks}, together with the stack frames that acquired or waited
+     * on them. Threads are only sampled while they are calling a supplier; time spent waiting for other threads, for instance between
+     * {@link #withRounds(int) rounds}, is not included.
+     * <p>
+     * Each sample takes a snapshot of the stack of every thread, which briefly pauses them. Smaller intervals give more accurate results but have
+     * a larger impact on the code being tested; an interval of 1 to 10 milliseconds is usually a good balance.
+     * <p>
+     * The Java runtime does not provide the state of virtual threads. Contention sampling therefore cannot be combined with
+     * {@link #withVirtualThreads()}, and reports no hotspots if the {@link #withExecutor(ExecutorService) executor} uses virtual threads.
+     *
+     * @param interval The interval between samples.
+     * @return This object.
+     * @throws NullPointerException If the given interval is {@code null}.
+     * @throws IllegalArgumentException If the given interval is not positive.
+     * @throws UnsupportedOperationException If contention sampling is not supported by the current Java runtime.
+     *                                           This is the case if module {@code java.management} is not available.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withContentionSampling(Duration interval) {
+        validateDuration(interval);
+        // Validate early, instead of when execute() is called
+        ContentionSampler.validateSupported();
+        this.contentionSamplingInterval = interval;
+        return this;
+    }
+
+    /**
+     * Specifies that the scheduling of threads calling suppliers should be perturbed, using a random seed.
+     * This is equivalent to calling {@link #withPerturbation(long)} with a random seed.
+     *
+     * @return This object.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withPerturbation() {
+        return withPerturbation(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Specifies that the scheduling of threads calling suppliers should be perturbed, using a specific seed.
+     * Before each call, and each time the supplier calls {@link #perturb()}, the calling thread randomly does nothing, yields, spins briefly or
+     * parks for up to 100 microseconds. This makes interleavings that are rare under normal scheduling more likely, so race conditions are found
+     * faster.
+     * <p>
+     * If any call throws an error or exception, the seed is added to it as a suppressed exception. Using the same seed again gives each thread the
+     * same sequence of delays. Because the operating system still schedules the threads, this replays the same bias in scheduling, not the exact
+     * same interleaving; a failure is more likely to be reproduced, but it is not guaranteed to be.
+     * <p>
+     * The delays are included in the measured latencies, so this should not be combined with assertions on throughput or latency.
+     *
+     * @param seed The seed for the random delays.
+     * @return This object.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withPerturbation(long seed) {
+        this.perturbationSeed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of rounds. In each round all provided suppliers are called, using the same threads. Threads wait for each other at the
+     * end of each round, so a round only starts after all suppliers have been called in the previous round. By default there is only one round.
+     * <p>
+     * Rounds make it possible to repeat the same concurrent calls without having to start new threads, and to compare the
+     * {@link #executeRounds() results of each round}, for instance to find out whether a cache speeds up later rounds.
+     * <p>
+     * Rounds are not supported by {@link #runFor(Duration)} and {@link #measureScalability(int, Duration)}.
+     *
+     * @param rounds The number of rounds.
+     * @return This object.
+     * @throws IllegalArgumentException If the given number of rounds is not positive.
+     * @since 3.3
+     */
+    public ConcurrentRunner<T> withRounds(int rounds) {
+        validateCount(rounds);
+        this.rounds = rounds;
+        return this;
+    }
+
     /**
      * Calls all provided suppliers concurrently using the provided {@link #withThreadCount(int) number of threads}.
      * If no thread count has been given a thread for each provided supplier will be used.
      * <p>
      * Note that calling this method will not process any result until a method on the return value is called.
+     * <p>
+     * The results of all calls are retained until they are processed. For a very large number of calls, consider using
+     * {@link #executeAndCollect(Collector)} instead.
+     * <p>
+     * If there are several {@link #withRounds(int) rounds}, the results of all rounds are combined, ordered by round.
      *
      * @return The results of calling the suppliers.
+     * @throws IllegalStateException If the total number of calls for all rounds exceeds {@link Integer#MAX_VALUE}.
      */
     public ConcurrentResults<T> execute() {
-        int poolSize = Math.min(suppliers.size(), threadCount);
-        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        ConcurrentResult<T>[] results = newResults();
+
+        int poolSize = Math.min(invocationCount, threadCount);
+        Phases phases = phases(poolSize);
+        ConcurrentStatistics statistics = run(poolSize, (workerIndex, actualPoolSize, recorder) -> callPhases(workerIndex, phases,
+                (round, index, result) -> results[round * invocationCount + index] = result, recorder, null, null));
+
+        return new ConcurrentResults<>(Arrays.stream(results), statistics);
+    }
+
+    /**
+     * Calls all provided suppliers concurrently for each {@link #withRounds(int) round}, using the provided {@link #withThreadCount(int) number
+     * of threads}. If no thread count has been given a thread for each provided supplier will be used.
+     * <p>
+     * This method is similar to {@link #execute()}, except that the results and statistics of each round are returned separately.
+     * Note that calling this method will not process any result until a method on an element of the return value is called.
+     *
+     * @return A list with the results of calling the suppliers for each round.
+     * @throws IllegalStateException If the total number of calls for all rounds exceeds {@link Integer#MAX_VALUE}.
+     * @since 3.3
+     */
+    public List<ConcurrentResults<T>> executeRounds() {
+        ConcurrentResult<T>[] results = newResults();
+
+        int poolSize = Math.min(invocationCount, threadCount);
+        Phases phases = phases(poolSize);
+        // Each worker records the statistics of each round separately, and adds them to its overall statistics when the round has ended
+        ConcurrentStatistics.Recorder[][] roundRecorders = new ConcurrentStatistics.Recorder[rounds][phases.poolSize()];
+        run(poolSize, (workerIndex, actualPoolSize, recorder) -> callPhases(workerIndex, phases,
+                (round, index, result) -> results[round * invocationCount + index] = result, recorder, null, roundRecorders));
+
+        List<ConcurrentResults<T>> roundResults = new ArrayList<>(rounds);
+        for (int round = 0; round < rounds; round++) {
+            // Workers that did not take part in a round have no recorder for it
+            List<ConcurrentStatistics.Recorder> recorders = Arrays.stream(roundRecorders[round])
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            ConcurrentStatistics statistics = ConcurrentStatistics.combine(recorders, maxRetainedFailures);
+            int startIndex = round * invocationCount;
+            roundResults.add(new ConcurrentResults<>(Arrays.stream(results, startIndex, startIndex + invocationCount), statistics));
+        }
+        return Collections.unmodifiableList(roundResults);
+    }
+
+    private ConcurrentResult<T>[] newResults() {
+        if ((long) rounds * invocationCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The total count for " + rounds + " rounds exceeds " + Integer.MAX_VALUE);
+        }
+        @SuppressWarnings("unchecked")
+        ConcurrentResult<T>[] results = (ConcurrentResult<T>[]) new ConcurrentResult<?>[rounds * invocationCount];
+        return results;
+    }
+
+    private Phases phases(int poolSize) {
+        return new Phases(phaseStarts, invocationCount, rounds, actualPoolSize(poolSize));
+    }
+
+    /**
+     * Calls all provided suppliers concurrently using the provided {@link #withThreadCount(int) number of threads}, and returns the results as
+     * soon as they are available. If no thread count has been given a thread for each provided supplier will be used.
+     * <p>
+     * Unlike {@link #execute()}, this method does not wait until all suppliers have been called. Instead, the returned object provides the
+     * results in the order in which the calls completed. For instance, {@link ConcurrentResults#andStreamResults()} will throw an error or
+     * exception as soon as the first failed call has completed. Combined with {@link #withFailFast()}, this prevents having to wait for all
+     * other calls to complete before a failure is reported.
+     * <p>
+     * Results of calls that have completed but have not yet been consumed are retained.
+     *
+     * @return The results of calling the suppliers, in completion order.
+     * @since 3.3
+     */
+    public ConcurrentResults<T> executeStreaming() {
+        CompletionQueue<T> results = new CompletionQueue<>();
+        FailFast failFastState = failFast ? new FailFast() : null;
+
+        int poolSize = Math.min(invocationCount, threadCount);
+        Phases phases = phases(poolSize);
+        CompletableFuture<ConcurrentStatistics> statistics = runAsync(poolSize, (workerIndex, actualPoolSize, recorder) -> callPhases(workerIndex,
+                phases, (round, index, result) -> results.add(result), recorder, failFastState, null), failFastState);
+
+        statistics.whenComplete((s, failure) -> {
+            if (failure != null) {
+                // Not thrown by any supplier, but make sure it doesn't get lost
+                results.add(new ConcurrentResult<>(failure instanceof CompletionException ? failure.getCause() : failure));
+            }
+            results.close();
+        });
+
+        return new ConcurrentResults<>(results.stream(), () -> join(statistics));
+    }
+
+    /**
+     * Calls all provided suppliers concurrently using the provided {@link #withThreadCount(int) number of threads}, and collects the results.
+     * If no thread count has been given a thread for each provided supplier will be used.
+     * <p>
+     * This method is similar to calling {@link #execute()} and then {@link ConcurrentResults#andCollectResults(Collector)}. The main difference is
+     * that results are not retained; instead, each thread accumulates the results it produces as soon as they are available, and the results of
+     * all threads are combined afterwards. This makes it possible to call suppliers millions of times with a limited amount of memory.
+     * As a consequence, results are accumulated in no particular order.
+     * <p>
+     * Like {@link ConcurrentResults#andCollectResults(Collector)}, this method reports every error and exception that was thrown.
+     * To limit memory usage, only the first {@link #withMaxRetainedFailures(int) 100} errors and exceptions are retained though.
+     * If more errors and exceptions were thrown, the thrown {@link MultipleFailuresError} will only contain those that were retained.
+     *
+     * @param <R> The result type of the collector.
+     * @param collector The collector to use.
+     * @return The result of applying the given collector to the results of calling the suppliers.
+     * @throws NullPointerException If the given collector is {@code null}.
+     * @since 3.3
+     */
+    public <R> R executeAndCollect(Collector<? super T, ?, R> collector) {
+        Objects.requireNonNull(collector);
+        return collect(collector);
+    }
+
+    private <A, R> R collect(Collector<? super T, A, R> collector) {
+        Supplier<A> containerSupplier = collector.supplier();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+
+        int poolSize = Math.min(invocationCount, threadCount);
+        Phases phases = phases(poolSize);
+        Queue<A> containers = new ConcurrentLinkedQueue<>();
+
+        FailFast failFastState = failFast ? new FailFast() : null;
+
+        ConcurrentStatistics statistics = run(poolSize, (workerIndex, actualPoolSize, recorder) -> {
+            A container = containerSupplier.get();
+            callPhases(workerIndex, phases, (round, index, result) -> {
+                if (result.failure() == null) {
+                    accumulator.accept(container, result.result());
+                }
+            }, recorder, failFastState, null);
+            containers.add(container);
+        }, failFastState);
+
+        statistics.assertNoFailures();
+
+        A container = containers.stream()
+                .reduce(collector.combiner())
+                .orElseGet(containerSupplier);
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Calls all provided suppliers concurrently and repeatedly for a specific duration, using the provided {@link #withThreadCount(int) number of
+     * threads}. If no thread count has been given a thread for each provided supplier will be used. Each thread will keep calling its supplier
+     * until the duration has passed; if there are less threads than suppliers, each thread will call several suppliers in turn.
+     * <p>
+     * If a {@link #withWarmup(Duration) warmup} has been given, the given duration starts after the warmup phase has ended.
+     * <p>
+     * Because suppliers can be called a very large number of times, the results of individual calls are not retained. The returned object can
+     * therefore only be used to {@link ConcurrentResults#andReportStatistics() report statistics} and to
+     * {@link ConcurrentResults#andAssertNoFailures() assert that no failures occurred}.
+     *
+     * @param duration The duration to call suppliers for.
+     * @return The results of calling the suppliers.
+     * @throws NullPointerException If the given duration is {@code null}.
+     * @throws IllegalArgumentException If the given duration is not positive.
+     * @throws IllegalStateException If several {@link #withRounds(int) rounds} or {@link #nextPhase() phases} have been specified.
+     * @since 3.3
+     */
+    public ConcurrentResults<T> runFor(Duration duration) {
+        validateDuration(duration);
+        validateSinglePhase();
+
+        int poolSize = Math.min(invocationCount, threadCount);
+        ConcurrentStatistics statistics = runFor(poolSize, duration);
+
+        return new ConcurrentResults<>(statistics);
+    }
+
+    /**
+     * Measures how well the provided suppliers scale with the number of threads. The suppliers are called repeatedly for a specific duration,
+     * like {@link #runFor(Duration)} does, first with 1 thread, then with 2, 4, 8, etc. threads, and finally with the given maximum number of
+     * threads. If there are less suppliers than threads, threads will share suppliers.
+     * <p>
+     * Any {@link #withWarmup(Duration) warmup} is applied to each number of threads. Any {@link #withThreadCount(int) thread count} is ignored.
+     * <p>
+     * For meaningful results, the maximum number of threads should not exceed the number of available processors, unless the suppliers spend
+     * most of their time waiting.
+     *
+     * @param maxThreadCount The maximum number of threads to use.
+     * @param durationPerStep The duration to call suppliers for, for each number of threads.
+     * @return A report with the statistics for each number of threads.
+     * @throws NullPointerException If the given duration is {@code null}.
+     * @throws IllegalArgumentException If the given maximum number of threads is not at least 2, or if the given duration is not positive.
+     * @throws IllegalStateException If an {@link #withExecutor(ExecutorService) executor} has been set that cannot run the given maximum
+     *                                   number of threads concurrently, or if several {@link #withRounds(int) rounds} or
+     *                                   {@link #nextPhase() phases} have been specified.
+     * @since 3.3
+     */
+    public ScalabilityReport measureScalability(int maxThreadCount, Duration durationPerStep) {
+        validateThreadCount(maxThreadCount);
+        validateDuration(durationPerStep);
+        validateSinglePhase();
+        if (executor != null && maxThreadCount(executor) < maxThreadCount) {
+            throw new IllegalStateException("The executor cannot run " + maxThreadCount + " threads concurrently");
+        }
+
+        List<ScalabilityReport.Step> steps = new ArrayList<>();
+        int poolSize = 1;
+        while (true) {
+            steps.add(new ScalabilityReport.Step(poolSize, runFor(poolSize, durationPerStep)));
+            if (poolSize == maxThreadCount) {
+                return new ScalabilityReport(steps);
+            }
+            poolSize = poolSize <= maxThreadCount / 2 ? poolSize * 2 : maxThreadCount;
+        }
+    }
+
+    private void validateSinglePhase() {
+        if (rounds > 1 || phaseStarts.size() > 1) {
+            throw new IllegalStateException("Suppliers cannot be called for a duration with several rounds or phases");
+        }
+    }
+
+    private ConcurrentStatistics runFor(int poolSize, Duration duration) {
+        long warmupInNanos = warmup.toNanos();
+        long durationInNanos = duration.toNanos();
+
+        return run(poolSize, (workerIndex, actualPoolSize, recorder) -> callRepeatedly(workerIndex, actualPoolSize, warmupInNanos,
+                durationInNanos, recorder));
+    }
+
+    private ConcurrentStatistics run(int poolSize, Work work) {
+        return run(poolSize, work, null);
+    }
+
+    private ConcurrentStatistics run(int poolSize, Work work, FailFast failFastState) {
+        if (executor != null) {
+            return join(start(executor, actualPoolSize(poolSize), work, failFastState));
+        }
+
+        ExecutorService newExecutor = newExecutor(poolSize);
+        boolean timedOut = false;
         try {
-            return execute(executor, poolSize);
+            return join(start(newExecutor, poolSize, work, failFastState));
+        } catch (AssertionFailedError e) {
+            // Calls have timed out. Calls that are still running may never finish, so don't wait for them.
+            timedOut = true;
+            newExecutor.shutdownNow();
+            throw e;
         } finally {
-            executor.shutdown();
-            // Since all futures are already joined when this method is called, a 5 second grace period should be more than enough
-            boolean isTerminated = assertDoesNotThrow(() -> executor.awaitTermination(5, TimeUnit.SECONDS));
-            assertTrue(isTerminated, "The executor should have terminated within 5 seconds");
+            if (!timedOut) {
+                newExecutor.shutdown();
+                // Since all futures are already joined when this method is called, a 5 second grace period should be more than enough
+                boolean isTerminated = assertDoesNotThrow(() -> newExecutor.awaitTermination(5, TimeUnit.SECONDS));
+                assertTrue(isTerminated, "The executor should have terminated within 5 seconds");
+            }
+        }
+    }
+
+    private static ConcurrentStatistics join(CompletableFuture<ConcurrentStatistics> statistics) {
+        try {
+            return statistics.join();
+        } catch (CompletionException e) {
+            // Timeouts are reported by completing the future with an AssertionFailedError; throw that as-is
+            if (e.getCause() instanceof AssertionFailedError) {
+                throw (AssertionFailedError) e.getCause();
+            }
+            throw e;
         }
     }
 
-    private ConcurrentResults<T> execute(ExecutorService executor, int poolSize) {
+    private CompletableFuture<ConcurrentStatistics> runAsync(int poolSize, Work work, FailFast failFastState) {
+        if (executor != null) {
+            return start(executor, actualPoolSize(poolSize), work, failFastState);
+        }
+
+        ExecutorService newExecutor = newExecutor(poolSize);
+        try {
+            // The workers have all finished when the returned future completes, so the executor can be shut down at that moment.
+            // The only exception is if calls timed out; calls that are still running may never finish.
+            return start(newExecutor, poolSize, work, failFastState)
+                    .whenComplete((statistics, failure) -> {
+                        if (failure instanceof AssertionFailedError) {
+                            newExecutor.shutdownNow();
+                        } else {
+                            newExecutor.shutdown();
+                        }
+                    });
+        } catch (RuntimeException | Error e) {
+            newExecutor.shutdown();
+            throw e;
+        }
+    }
+
+    private ExecutorService newExecutor(int poolSize) {
+        return virtualThreads
+                ? VirtualThreads.newExecutor()
+                : Executors.newFixedThreadPool(poolSize);
+    }
+
+    private int actualPoolSize(int poolSize) {
+        return executor != null ? Math.min(poolSize, maxThreadCount(executor)) : poolSize;
+    }
+
+    private static int maxThreadCount(ExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+            // Threads beyond the core pool size are only started if the queue does not accept any more tasks
+            return threadPool.getQueue().remainingCapacity() == 0
+                    ? threadPool.getMaximumPoolSize()
+                    : Math.max(1, threadPool.getCorePoolSize());
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private CompletableFuture<ConcurrentStatistics> start(ExecutorService executorToUse, int poolSize, Work work, FailFast failFastState) {
         CountDownLatch readyLatch = new CountDownLatch(poolSize);
         CountDownLatch startLatch = new CountDownLatch(1);
 
-        List<CompletableFuture<ConcurrentResult<T>>> futures = suppliers.stream()
-                .map(supplier -> newFuture(supplier, executor, readyLatch, startLatch))
+        if (resourceAccounting) {
+            if (virtualThreads) {
+                throw new IllegalStateException("Resource accounting is not supported for virtual threads");
+            }
+            ResourceMeter.enable();
+        }
+        if (contentionSamplingInterval != null && virtualThreads) {
+            throw new IllegalStateException("Contention sampling is not supported for virtual threads");
+        }
+        ContentionSampler sampler = contentionSamplingInterval != null ? new ContentionSampler(contentionSamplingInterval.toNanos(), poolSize) : null;
+        Watchdog watchdog = timeout != null || invocationTimeout != null ? new Watchdog(timeout, invocationTimeout, poolSize) : null;
+
+        // Each worker records its own statistics, so recording does not need any synchronization
+        List<Perturber> perturbers = IntStream.range(0, poolSize)
+                .mapToObj(i -> perturbationSeed != null ? new Perturber(perturbationSeed, i) : null)
                 .collect(Collectors.toList());
+        List<ConcurrentStatistics.Recorder> recorders = IntStream.range(0, poolSize)
+                .mapToObj(i -> new ConcurrentStatistics.Recorder(maxRetainedFailures, resourceAccounting, watchdog != null ? watchdog.slot(i) : null,
+                        perturbers.get(i), sampler != null ? sampler.slot(i) : null))
+                .collect(Collectors.toList());
+
+        // Only needed for the thread dump if not all workers start in time
+        Set<Thread> readyWorkers = timeout != null ? ConcurrentHashMap.newKeySet() : null;
 
-        assertDoesNotThrow(() -> readyLatch.await()); // NOSONAR, a method reference gives an ambiguity error
+        CompletableFuture<?>[] workers = IntStream.range(0, poolSize)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    if (readyWorkers != null) {
+                        readyWorkers.add(Thread.currentThread());
+                    }
+                    readyLatch.countDown();
+                    assertDoesNotThrow(() -> startLatch.await()); // NOSONAR, a method reference gives an ambiguity error
+                    if (readyWorkers != null) {
+                        readyWorkers.remove(Thread.currentThread());
+                    }
+                    // If not all workers started in time, workers that start late must not call any suppliers
+                    if (watchdog == null || !watchdog.timedOut()) {
+                        runWorker(work, i, poolSize, recorders.get(i), failFastState, perturbers.get(i));
+                    }
+                }, executorToUse))
+                .toArray(CompletableFuture<?>[]::new);
+
+        // All results and statistics will have been set when all workers have finished.
+        CompletableFuture<ConcurrentStatistics> result = CompletableFuture.allOf(workers)
+                .thenApply(v -> ConcurrentStatistics.combine(recorders, maxRetainedFailures, stopSampling(sampler)));
+
+        if (sampler != null || watchdog != null) {
+            // Also stop if a worker failed unexpectedly, or if the watchdog completed the result because calls timed out
+            result.whenComplete((statistics, failure) -> {
+                if (sampler != null) {
+                    sampler.stop();
+                }
+                if (watchdog != null) {
+                    watchdog.stop();
+                }
+            });
+        }
+
+        if (timeout != null) {
+            // An executor that cannot run all workers concurrently would otherwise make this wait forever
+            boolean ready = assertDoesNotThrow(() -> readyLatch.await(timeout.toNanos(), TimeUnit.NANOSECONDS));
+            if (!ready) {
+                watchdog.notStarted(result, poolSize - (int) readyLatch.getCount(), new ArrayList<>(readyWorkers));
+                startLatch.countDown();
+                return result;
+            }
+        } else {
+            assertDoesNotThrow(() -> readyLatch.await()); // NOSONAR, a method reference gives an ambiguity error
+        }
+        if (sampler != null) {
+            sampler.start();
+        }
+        if (watchdog != null) {
+            watchdog.start(result);
+        }
         startLatch.countDown();
 
-        // Collect and stream, so the futures will all have completed when this method ends.
-        // Without collecting, futures may still be active when this method ends because of lazy evaluation of join.
-        // The final call to stream is to keep ConcurrentResults simpler.
-        Stream<ConcurrentResult<T>> results = futures.stream()
-                .map(CompletableFuture::join)
-                .collect(Collectors.toList())
-                .stream();
+        return result;
+    }
 
-        return new ConcurrentResults<>(results);
+    private static ContentionReport stopSampling(ContentionSampler sampler) {
+        if (sampler == null) {
+            return null;
+        }
+        sampler.stop();
+        return sampler.report();
     }
 
-    private CompletableFuture<ConcurrentResult<T>> newFuture(ThrowingSupplier<? extends T> supplier, ExecutorService executor,
-            CountDownLatch readyLatch, CountDownLatch startLatch) {
+    private static void runWorker(Work work, int workerIndex, int poolSize, ConcurrentStatistics.Recorder recorder, FailFast failFastState,
+            Perturber perturber) {
 
-        return CompletableFuture.supplyAsync(() -> call(supplier, readyLatch, startLatch), executor);
+        // Workers may run in threads of a shared executor, so always undo any per-thread registration
+        if (perturber != null) {
+            perturber.enter();
+        }
+        if (failFastState != null) {
+            failFastState.register();
+        }
+        try {
+            work.run(workerIndex, poolSize, recorder);
+        } finally {
+            if (failFastState != null) {
+                failFastState.unregister();
+            }
+            if (perturber != null) {
+                perturber.exit();
+            }
+        }
     }
 
-    private ConcurrentResult<T> call(ThrowingSupplier<? extends T> supplier, CountDownLatch readyLatch, CountDownLatch startLatch) {
-        readyLatch.countDown();
-        assertDoesNotThrow(() -> startLatch.await()); // NOSONAR, a method reference gives an ambiguity error
+    private void callPhases(int workerIndex, Phases phases, ResultHandler<T> resultHandler, ConcurrentStatistics.Recorder recorder,
+            FailFast failFastState, ConcurrentStatistics.Recorder[][] roundRecorders) {
+
+        // Each worker keeps calling suppliers until all of the current phase have been called, then waits for the other workers.
+        // This limits the number of tasks submitted to the executor to the number of threads, even for shared executors.
+        BooleanSupplier stopped = () -> recorder.timedOut() || failFastState != null && failFastState.failed();
+        int lastRound = phases.rounds() - 1;
+        int lastPhase = phases.phaseCount() - 1;
+        boolean arrived = false;
         try {
-            T result = supplier.get();
-            return new ConcurrentResult<>(result);
+            for (int round = 0; round <= lastRound; round++) {
+                ConcurrentStatistics.Recorder roundRecorder = recorder;
+                if (roundRecorders != null) {
+                    roundRecorder = recorder.newRound();
+                    roundRecorders[round][workerIndex] = roundRecorder;
+                }
+                try {
+                    for (int phase = 0; phase <= lastPhase; phase++) {
+                        if (!callEach(workerIndex, round, phases.phaseEnd(phase), phases.nextIndex(), resultHandler, roundRecorder, failFastState)) {
+                            return;
+                        }
+                        if ((round < lastRound || phase < lastPhase) && !phases.awaitOthers(workerIndex, stopped)) {
+                            // The worker has already arrived for this phase, so it must not leave, as that counts as arriving again
+                            arrived = true;
+                            return;
+                        }
+                    }
+                } finally {
+                    if (roundRecorder != recorder) {
+                        recorder.add(roundRecorder);
+                    }
+                }
+            }
+        } finally {
+            if (!arrived) {
+                // Don't let other workers wait for this worker
+                phases.leave(workerIndex);
+            }
+        }
+    }
+
+    // Returns false if the worker should stop calling suppliers
+    private boolean callEach(int workerIndex, int round, int endIndex, AtomicInteger nextIndex, ResultHandler<T> resultHandler,
+            ConcurrentStatistics.Recorder recorder, FailFast failFastState) {
+
+        long now = System.nanoTime();
+        recorder.start(now);
+        for (int index = nextIndex.getAndIncrement(); index < endIndex; index = nextIndex.getAndIncrement()) {
+            if (failFastState != null && failFastState.failed()) {
+                return false;
+            }
+            ConcurrentResult<T> result = call(supplier(index), workerIndex, index, recorder);
+            long end = System.nanoTime();
+            if (recorder.timedOut()) {
+                // The timeout has already been reported, and this call may have been interrupted because of it
+                return false;
+            }
+            if (failFastState != null && !isFirstFailureOrSuccessBeforeFailure(result, failFastState)) {
+                return false;
+            }
+            recorder.record(now, end, result.failure());
+            resultHandler.handle(round, index, result);
+            // Exclude the time spent by the result handler from the next call's latency
+            now = System.nanoTime();
+        }
+        return true;
+    }
+
+    private static boolean isFirstFailureOrSuccessBeforeFailure(ConcurrentResult<?> result, FailFast failFastState) {
+        // The results of calls that completed after the first failure are discarded, as they may have been interrupted
+        return result.failure() != null
+                ? failFastState.fail()
+                : !failFastState.failed();
+    }
+
+    private void callRepeatedly(int workerIndex, int poolSize, long warmupInNanos, long durationInNanos, ConcurrentStatistics.Recorder recorder) {
+        long now = System.nanoTime();
+        long measureStart = now + warmupInNanos;
+        long deadline = measureStart + durationInNanos;
+        // Each worker calls the suppliers at indexes workerIndex, workerIndex + poolSize, workerIndex + 2 * poolSize, etc.
+        // If there are less suppliers than workers, workers share suppliers.
+        int firstIndex = workerIndex % invocationCount;
+        int index = firstIndex;
+
+        while (now - measureStart < 0 && !recorder.timedOut()) {
+            callIgnoringResult(supplier(index), workerIndex, index, recorder);
+            index = nextIndex(index, firstIndex, poolSize);
+            now = System.nanoTime();
+        }
+
+        recorder.start(now);
+        while (now - deadline < 0 && !recorder.timedOut()) {
+            Throwable failure = callIgnoringResult(supplier(index), workerIndex, index, recorder);
+            long end = System.nanoTime();
+            recorder.record(now, end, failure);
+            index = nextIndex(index, firstIndex, poolSize);
+            now = end;
+        }
+    }
+
+    private int nextIndex(int index, int firstIndex, int poolSize) {
+        int nextIndex = index + poolSize;
+        return nextIndex < invocationCount ? nextIndex : firstIndex;
+    }
+
+    private SupplierEntry<T> supplier(int index) {
+        // Find the first entry with an end index larger than index
+        int low = 0;
+        int high = suppliers.size() - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (suppliers.get(mid).endIndex <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return suppliers.get(low);
+    }
+
+    private ConcurrentResult<T> call(SupplierEntry<T> entry, int workerIndex, int index, ConcurrentStatistics.Recorder recorder) {
+        // Wrap the result or failure after measuring resources, so the allocation of the wrapper is not included
+        T result;
+        recorder.beforeCall();
+        try {
+            result = entry.supplier.get(workerIndex, index - entry.startIndex);
         } catch (Throwable t) {
+            recorder.afterCall();
             return new ConcurrentResult<>(t);
         }
+        recorder.afterCall();
+        return new ConcurrentResult<>(result);
+    }
+
+    private static Throwable callIgnoringResult(SupplierEntry<?> entry, int workerIndex, int index, ConcurrentStatistics.Recorder recorder) {
+        // Don't wrap results or failures, to prevent unnecessary allocations
+        recorder.beforeCall();
+        try {
+            entry.supplier.get(workerIndex, index - entry.startIndex);
+            return null;
+        } catch (Throwable t) {
+            return t;
+        } finally {
+            recorder.afterCall();
+        }
+    }
+
+    /**
+     * Marks a point where the scheduling of the current thread may be perturbed. Suppliers can call this method between steps that may race with
+     * other threads, for instance between reading and writing shared state.
+     * <p>
+     * If the current thread is calling a supplier for a concurrent runner with {@link #withPerturbation(long) perturbation}, it randomly does
+     * nothing, yields, spins briefly or parks for up to 100 microseconds. Otherwise this method does nothing, so it can be left in code that is
+     * also called without perturbation.
+     *
+     * @since 3.3
+     */
+    public static void perturb() {
+        Perturber.perturbCurrentThread();
     }
 
     /**
@@ -261,10 +1179,15 @@ public final class ConcurrentRunner<T> {
      * @throws NullPointerException If the given executable or settings object is {@code null}.
      */
     public static void runConcurrently(Executable executable, ConcurrencySettings settings) {
-        running(executable, settings.count())
-                .withThreadCount(settings.threadCount())
-                .execute()
-                .andAssertNoFailures();
+        ConcurrentRunner<Void> runner = running(executable, settings.count())
+                .withThreadCount(settings.threadCount());
+        if (settings.virtualThreads()) {
+            runner.withVirtualThreads();
+        }
+        settings.executor().ifPresent(runner::withExecutor);
+        settings.timeout().ifPresent(runner::withTimeout);
+        settings.invocationTimeout().ifPresent(runner::withInvocationTimeout);
+        runner.execute().andAssertNoFailures();
     }
 
     /**
@@ -308,6 +1231,30 @@ public final class ConcurrentRunner<T> {
         };
     }
 
+    private static final class SupplierEntry<T> {
+
+        private final IndexedSupplier<? extends T> supplier;
+        // The inclusive start index and exclusive end index of the calls of this supplier
+        private final int startIndex;
+        private final int endIndex;
+
+        private SupplierEntry(IndexedSupplier<? extends T> supplier, int startIndex, int endIndex) {
+            this.supplier = supplier;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+    }
+
+    private interface ResultHandler<T> {
+
+        void handle(int round, int index, ConcurrentResult<T> result);
+    }
+
+    private interface Work {
+
+        void run(int workerIndex, int poolSize, ConcurrentStatistics.Recorder recorder);
+    }
+
     static void validateCount(int count) {
         if (count < 1) {
             throw new IllegalArgumentException(count + " < 1");
@@ -319,4 +1266,10 @@ public final class ConcurrentRunner<T> {
             throw new IllegalArgumentException(threadCount + " < 2");
         }
     }
+
+    static void validateDuration(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(duration + " <= 0");
+        }
+    }
 }
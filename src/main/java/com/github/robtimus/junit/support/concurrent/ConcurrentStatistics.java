@@ -0,0 +1,373 @@
+/*
+ * ConcurrentStatistics.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static com.github.robtimus.junit.support.concurrent.ConcurrentResult.throwUnchecked;
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.opentest4j.MultipleFailuresError;
+
+/**
+ * Statistics of calling suppliers using a {@link ConcurrentRunner}.
+ * <p>
+ * Latencies are recorded in a histogram with a relative error of less than 2%.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class ConcurrentStatistics {
+
+    private final long failureCount;
+    private final List<Throwable> failures;
+    private final long durationInNanos;
+    private final LatencyHistogram latencies;
+    private final ResourceUsageReport resourceUsage;
+    private final ContentionReport contention;
+
+    ConcurrentStatistics(long failureCount, List<Throwable> failures, long durationInNanos, LatencyHistogram latencies,
+            ResourceUsageReport resourceUsage, ContentionReport contention) {
+
+        this.failureCount = failureCount;
+        this.failures = failures;
+        this.durationInNanos = durationInNanos;
+        this.latencies = latencies;
+        this.resourceUsage = resourceUsage;
+        this.contention = contention;
+    }
+
+    /**
+     * Returns the number of times that suppliers were called. For {@link ConcurrentRunner#runFor(Duration)}, calls during the
+     * {@link ConcurrentRunner#withWarmup(Duration) warmup} are not included.
+     *
+     * @return The number of times that suppliers were called.
+     */
+    public long invocationCount() {
+        return latencies.count();
+    }
+
+    /**
+     * Returns the number of times that an {@link Executable} or {@link ThrowingSupplier} threw an error or exception.
+     *
+     * @return The number of times that an {@link Executable} or {@link ThrowingSupplier} threw an error or exception.
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the duration during which suppliers were called.
+     * This is the time between the first call starting and the last call ending, not including any {@link ConcurrentRunner#withWarmup(Duration)
+     * warmup}.
+     *
+     * @return The duration during which suppliers were called.
+     */
+    public Duration duration() {
+        return Duration.ofNanos(durationInNanos);
+    }
+
+    /**
+     * Returns the throughput, in number of calls per second.
+     *
+     * @return The throughput, in number of calls per second.
+     */
+    public double throughput() {
+        return latencies.count() * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, durationInNanos);
+    }
+
+    /**
+     * Returns the latency at a specific percentile. For instance, {@code latency(99)} returns the latency that 99% of all calls did not exceed.
+     *
+     * @param percentile The percentile to return the latency for, between 0 and 100 (both inclusive).
+     * @return The latency at the given percentile, or {@link Duration#ZERO} if no calls were made.
+     * @throws IllegalArgumentException If the given percentile is not between 0 and 100.
+     */
+    public Duration latency(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100; is " + percentile);
+        }
+        return Duration.ofNanos(latencies.valueAtPercentile(percentile));
+    }
+
+    /**
+     * Returns the maximum latency.
+     *
+     * @return The maximum latency, or {@link Duration#ZERO} if no calls were made.
+     */
+    public Duration maxLatency() {
+        return Duration.ofNanos(latencies.max());
+    }
+
+    /**
+     * Returns the resources used by calling the suppliers. This includes CPU time, heap allocation and time spent blocking or waiting.
+     *
+     * @return The resources used by calling the suppliers.
+     * @throws IllegalStateException If {@link ConcurrentRunner#withResourceAccounting() resource accounting} was not enabled.
+     */
+    public ResourceUsageReport resourceUsage() {
+        if (resourceUsage == null) {
+            throw new IllegalStateException("Resource accounting was not enabled");
+        }
+        return resourceUsage;
+    }
+
+    /**
+     * Returns the locks that the threads calling the suppliers were blocked or waiting on.
+     *
+     * @return The locks that the threads calling the suppliers were blocked or waiting on.
+     * @throws IllegalStateException If {@link ConcurrentRunner#withContentionSampling(Duration) contention sampling} was not enabled.
+     */
+    public ContentionReport contention() {
+        if (contention == null) {
+            throw new IllegalStateException("Contention sampling was not enabled");
+        }
+        return contention;
+    }
+
+    /**
+     * Asserts that the throughput is at least a specific number of calls per second.
+     *
+     * @param minimum The minimum number of calls per second.
+     * @return This object.
+     * @throws AssertionError If the throughput is less than the given minimum.
+     */
+    public ConcurrentStatistics assertThroughputAtLeast(double minimum) {
+        double throughput = throughput();
+        if (throughput < minimum) {
+            throw assertionFailure()
+                    .reason(String.format(Locale.ROOT, "expected a throughput of at least %.2f calls/s but was %.2f calls/s", minimum, throughput))
+                    .build();
+        }
+        return this;
+    }
+
+    /**
+     * Asserts that the latency at a specific percentile is at most a specific duration.
+     *
+     * @param percentile The percentile to check the latency for, between 0 and 100 (both inclusive).
+     * @param maximum The maximum latency.
+     * @return This object.
+     * @throws NullPointerException If the given maximum is {@code null}.
+     * @throws IllegalArgumentException If the given percentile is not between 0 and 100.
+     * @throws AssertionError If the latency at the given percentile exceeds the given maximum.
+     */
+    public ConcurrentStatistics assertLatencyAtMost(double percentile, Duration maximum) {
+        Objects.requireNonNull(maximum);
+        Duration latency = latency(percentile);
+        if (latency.compareTo(maximum) > 0) {
+            throw assertionFailure()
+                    .reason(String.format("expected a p%s latency of at most %s but was %s", formatPercentile(percentile), maximum, latency))
+                    .build();
+        }
+        return this;
+    }
+
+    /**
+     * Asserts that no {@link Executable} or {@link ThrowingSupplier} threw an error or exception.
+     * If any {@link Executable} or {@link ThrowingSupplier} threw an error or exception, this method will throw an error or exception.
+     * <p>
+     * To limit memory usage, only the first {@link ConcurrentRunner#withMaxRetainedFailures(int) 100} errors and exceptions are retained.
+     * If more errors and exceptions were thrown, the thrown {@link MultipleFailuresError} will only contain those that were retained.
+     *
+     * @return This object.
+     */
+    public ConcurrentStatistics assertNoFailures() {
+        if (failureCount > failures.size()) {
+            String heading = String.format("%d of %d calls failed; only the first %d failures are included",
+                    failureCount, invocationCount(), failures.size());
+            MultipleFailuresError error = new MultipleFailuresError(heading, failures);
+            failures.forEach(error::addSuppressed);
+            throw error;
+        }
+        throwUnchecked(failures);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d calls in %s (%.2f calls/s), %d failures; latency p50: %s, p99: %s, p99.9: %s, max: %s",
+                invocationCount(), duration(), throughput(), failureCount,
+                latency(50), latency(99), latency(99.9), maxLatency());
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? Long.toString((long) percentile)
+                : Double.toString(percentile);
+    }
+
+    static ConcurrentStatistics combine(List<Recorder> recorders, int maxRetainedFailures) {
+        return combine(recorders, maxRetainedFailures, null);
+    }
+
+    static ConcurrentStatistics combine(List<Recorder> recorders, int maxRetainedFailures, ContentionReport contention) {
+        LatencyHistogram latencies = new LatencyHistogram();
+        long failureCount = 0;
+        List<Throwable> failures = new ArrayList<>();
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        ResourceUsageReport.Accumulator resourceUsage = null;
+        for (Recorder recorder : recorders) {
+            latencies.add(recorder.latencies);
+            if (recorder.resourceUsage != null) {
+                if (resourceUsage == null) {
+                    resourceUsage = new ResourceUsageReport.Accumulator();
+                }
+                resourceUsage.add(recorder.resourceUsage);
+            }
+            failureCount += recorder.failureCount;
+            for (Throwable failure : recorder.failures) {
+                if (failures.size() < maxRetainedFailures) {
+                    failures.add(failure);
+                }
+            }
+            if (recorder.start <= recorder.end) {
+                start = Math.min(start, recorder.start);
+                end = Math.max(end, recorder.end);
+            }
+        }
+        long durationInNanos = start <= end ? end - start : 0;
+        return new ConcurrentStatistics(failureCount, failures, durationInNanos, latencies,
+                resourceUsage != null ? resourceUsage.toReport() : null, contention);
+    }
+
+    static final class Recorder {
+
+        private final int maxRetainedFailures;
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long failureCount = 0;
+        private final List<Throwable> failures = new ArrayList<>();
+        private long start = 0;
+        private long end = -1;
+
+        private final ResourceMeter resourceMeter;
+        private final ResourceUsageReport.Accumulator resourceUsage;
+        private final Watchdog.Slot watchdogSlot;
+        private final Perturber perturber;
+        private final ContentionSampler.Slot samplerSlot;
+
+        Recorder(int maxRetainedFailures) {
+            this(maxRetainedFailures, false, null, null, null);
+        }
+
+        Recorder(int maxRetainedFailures, boolean accountResources, Watchdog.Slot watchdogSlot, Perturber perturber,
+                ContentionSampler.Slot samplerSlot) {
+
+            this(maxRetainedFailures, accountResources ? new ResourceMeter() : null, watchdogSlot, perturber, samplerSlot);
+        }
+
+        private Recorder(int maxRetainedFailures, ResourceMeter resourceMeter, Watchdog.Slot watchdogSlot, Perturber perturber,
+                ContentionSampler.Slot samplerSlot) {
+
+            this.maxRetainedFailures = maxRetainedFailures;
+            this.resourceMeter = resourceMeter;
+            this.resourceUsage = resourceMeter != null ? new ResourceUsageReport.Accumulator() : null;
+            this.watchdogSlot = watchdogSlot;
+            this.perturber = perturber;
+            this.samplerSlot = samplerSlot;
+        }
+
+        // Returns a recorder for a single round, to be added to this recorder once the round has ended.
+        // Both recorders are used by the same thread, so they can share the resource meter.
+        Recorder newRound() {
+            return new Recorder(maxRetainedFailures, resourceMeter, watchdogSlot, perturber, samplerSlot);
+        }
+
+        void add(Recorder round) {
+            latencies.add(round.latencies);
+            if (resourceUsage != null) {
+                resourceUsage.add(round.resourceUsage);
+            }
+            failureCount += round.failureCount;
+            for (Throwable failure : round.failures) {
+                if (failures.size() < maxRetainedFailures) {
+                    failures.add(failure);
+                }
+            }
+            if (round.start <= round.end) {
+                start(round.start);
+                end = round.end;
+            }
+        }
+
+        void start(long startTime) {
+            // Suppliers may be called in several phases; the recording starts with the first phase
+            if (start > end) {
+                start = startTime;
+                end = startTime;
+            }
+        }
+
+        void beforeCall() {
+            if (perturber != null) {
+                perturber.perturb();
+            }
+            if (watchdogSlot != null) {
+                watchdogSlot.callStarted();
+            }
+            // Start sampling after perturbing, so the perturbation itself is not reported as contention
+            if (samplerSlot != null) {
+                samplerSlot.callStarted();
+            }
+            if (resourceMeter != null) {
+                resourceMeter.start();
+            }
+        }
+
+        void afterCall() {
+            if (resourceMeter != null) {
+                resourceMeter.stop();
+            }
+            if (samplerSlot != null) {
+                samplerSlot.callEnded();
+            }
+            if (watchdogSlot != null) {
+                watchdogSlot.callEnded();
+            }
+        }
+
+        boolean timedOut() {
+            return watchdogSlot != null && watchdogSlot.timedOut();
+        }
+
+        void record(long startTime, long endTime, Throwable failure) {
+            latencies.record(endTime - startTime);
+            if (resourceUsage != null) {
+                resourceUsage.record(resourceMeter.usage(endTime - startTime));
+            }
+            if (failure != null) {
+                if (perturber != null) {
+                    perturber.reportSeed(failure);
+                }
+                failureCount++;
+                if (failures.size() < maxRetainedFailures) {
+                    failures.add(failure);
+                }
+            }
+            end = endTime;
+        }
+    }
+}
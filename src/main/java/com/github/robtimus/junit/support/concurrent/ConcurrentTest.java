@@ -0,0 +1,85 @@
+/*
+ * ConcurrentTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * {@code ConcurrentTest} can be used instead of {@link Test} to run a test method several times concurrently, like
+ * {@link ConcurrentRunner#runConcurrently(org.junit.jupiter.api.function.Executable, ConcurrencySettings)}. The test fails if any invocation fails.
+ * <p>
+ * All invocations use the same test instance, so any fields of the test instance are shared between invocations. Lifecycle methods like
+ * {@link org.junit.jupiter.api.BeforeEach BeforeEach} and {@link org.junit.jupiter.api.AfterEach AfterEach} are called only once, before the first
+ * and after the last invocation. Parameters of type {@code int} or {@link Integer} that are annotated with {@link WorkerIndex} or
+ * {@link InvocationIndex} get a different value for each invocation; all other parameters are resolved once and shared between invocations.
+ * <p>
+ * Invocations are run using a {@link SharedExecutor shared executor} with {@link SharedExecutor.Scope#CLASS class scope}, so all concurrent tests in
+ * the same test class reuse the same threads. After the invocations have finished, their {@link ConcurrentStatistics statistics} are published as a
+ * report entry with key {@code statistics}.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@Test
+@ExtendWith(ConcurrentTestExtension.class)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrentTest {
+
+    /**
+     * The number of times to run the test method. This must be positive.
+     */
+    int count();
+
+    /**
+     * The maximum number of threads to use. This must be at least 2. Defaults to {@link #count()}.
+     */
+    int threads() default Integer.MAX_VALUE;
+
+    /**
+     * {@code WorkerIndex} can be used to annotate a parameter of type {@code int} or {@link Integer} of a {@link ConcurrentTest} method.
+     * The parameter is resolved into the index of the worker that runs the invocation, from 0 (inclusive) to the number of threads (exclusive).
+     * Each worker runs its invocations one after the other in the same thread, so the worker index can be used to partition work between threads.
+     *
+     * @author Rob Spoor
+     * @since 3.3
+     */
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface WorkerIndex {
+        // no content
+    }
+
+    /**
+     * {@code InvocationIndex} can be used to annotate a parameter of type {@code int} or {@link Integer} of a {@link ConcurrentTest} method.
+     * The parameter is resolved into the index of the invocation, from 0 (inclusive) to {@link ConcurrentTest#count()} (exclusive).
+     *
+     * @author Rob Spoor
+     * @since 3.3
+     */
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface InvocationIndex {
+        // no content
+    }
+}
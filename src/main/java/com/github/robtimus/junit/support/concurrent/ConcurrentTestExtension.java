@@ -0,0 +1,89 @@
+/*
+ * ConcurrentTestExtension.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import com.github.robtimus.junit.support.concurrent.ConcurrentTest.InvocationIndex;
+import com.github.robtimus.junit.support.concurrent.ConcurrentTest.WorkerIndex;
+
+@SuppressWarnings("nls")
+class ConcurrentTestExtension implements ParameterResolver, InvocationInterceptor {
+
+    private static final String REPORT_ENTRY_KEY = "statistics";
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.isAnnotated(WorkerIndex.class) || parameterContext.isAnnotated(InvocationIndex.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> parameterType = parameterContext.getParameter().getType();
+        if (parameterType != int.class && parameterType != Integer.class) {
+            throw new ParameterResolutionException("Target type not supported: " + parameterType);
+        }
+        // The actual value is set for each invocation
+        return 0;
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+
+        Method method = invocationContext.getExecutable();
+        ConcurrentTest concurrentTest = AnnotationSupport.findAnnotation(method, ConcurrentTest.class)
+                .orElseThrow(IllegalStateException::new);
+        Object target = invocationContext.getTarget().orElse(null);
+        Object[] arguments = invocationContext.getArguments().toArray();
+        Parameter[] parameters = method.getParameters();
+
+        IndexedSupplier<Void> supplier = (workerIndex, invocationIndex) -> {
+            Object[] invocationArguments = arguments.clone();
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].isAnnotationPresent(WorkerIndex.class)) {
+                    invocationArguments[i] = workerIndex;
+                } else if (parameters[i].isAnnotationPresent(InvocationIndex.class)) {
+                    invocationArguments[i] = invocationIndex;
+                }
+            }
+            ReflectionSupport.invokeMethod(method, target, invocationArguments);
+            return null;
+        };
+
+        invocation.skip();
+
+        ConcurrentStatistics statistics = ConcurrentRunner.running(supplier, concurrentTest.count())
+                .withThreadCount(concurrentTest.threads())
+                .withExecutor(SharedExecutorExtension.sharedExecutor(SharedExecutor.Scope.CLASS, extensionContext))
+                .execute()
+                .andReportStatistics();
+
+        // Publish the statistics before asserting, so they are also available for failed tests
+        extensionContext.publishReportEntry(REPORT_ENTRY_KEY, statistics.toString());
+        statistics.assertNoFailures();
+    }
+}
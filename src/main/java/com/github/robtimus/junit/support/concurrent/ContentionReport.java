@@ -0,0 +1,197 @@
+/*
+ * ContentionReport.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * A report of the locks that threads were blocked or waiting on while calling suppliers using a {@link ConcurrentRunner} with
+ * {@link ConcurrentRunner#withContentionSampling(Duration) contention sampling}.
+ * <p>
+ * The threads calling the suppliers are sampled periodically. Each combination of lock, thread state and the frame that acquired or waited on the
+ * lock is a {@link Hotspot hotspot}. The more often threads were found blocked or waiting at a hotspot, the more time they spent there.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class ContentionReport {
+
+    private static final int DEFAULT_MAX_HOTSPOTS = 10;
+
+    private static final String REPORT_ENTRY_KEY = "contention";
+
+    private final long sampleCount;
+    private final List<Hotspot> hotspots;
+
+    ContentionReport(long sampleCount, List<Hotspot> hotspots) {
+        this.sampleCount = sampleCount;
+        hotspots.sort(Comparator.comparingLong(Hotspot::sampleCount).reversed());
+        this.hotspots = Collections.unmodifiableList(hotspots);
+    }
+
+    /**
+     * Returns the total number of samples. Each sample is a snapshot of a single thread, regardless of its state.
+     *
+     * @return The total number of samples.
+     */
+    public long sampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Returns all hotspots, ordered from most to least samples.
+     *
+     * @return An unmodifiable list with all hotspots.
+     */
+    public List<Hotspot> hotspots() {
+        return hotspots;
+    }
+
+    /**
+     * Returns the hotspots with the most samples.
+     *
+     * @param count The maximum number of hotspots to return.
+     * @return An unmodifiable list with at most the given number of hotspots, ordered from most to least samples.
+     * @throws IllegalArgumentException If the given count is negative.
+     */
+    public List<Hotspot> topHotspots(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(count + " < 0");
+        }
+        return hotspots.subList(0, Math.min(count, hotspots.size()));
+    }
+
+    /**
+     * Publishes the hotspots with the most samples as a report entry with key {@code contention}.
+     * This allows contention to be reported without failing the test.
+     *
+     * @param testReporter The test reporter to publish the report entry to.
+     * @param maxHotspots The maximum number of hotspots to include.
+     * @throws NullPointerException If the given test reporter is {@code null}.
+     * @throws IllegalArgumentException If the given maximum number of hotspots is negative.
+     */
+    public void publishTo(TestReporter testReporter, int maxHotspots) {
+        Objects.requireNonNull(testReporter);
+        testReporter.publishEntry(REPORT_ENTRY_KEY, format(topHotspots(maxHotspots)));
+    }
+
+    /**
+     * Returns a string representation of this report. This is a table with the 10 hotspots with the most samples.
+     */
+    @Override
+    public String toString() {
+        return format(topHotspots(DEFAULT_MAX_HOTSPOTS));
+    }
+
+    private String format(List<Hotspot> hotspotsToFormat) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%d samples, %d hotspots%n", sampleCount, hotspots.size()));
+        if (!hotspotsToFormat.isEmpty()) {
+            sb.append(String.format(Locale.ROOT, "%8s %8s %-13s %s%n", "samples", "%", "state", "lock / frame"));
+            for (Hotspot hotspot : hotspotsToFormat) {
+                sb.append(String.format(Locale.ROOT, "%8d %8.2f %-13s %s%n%31s at %s%n",
+                        hotspot.sampleCount, hotspot.fraction() * 100, hotspot.state, hotspot.lock, "", hotspot.frame));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A lock that threads were blocked or waiting on.
+     *
+     * @author Rob Spoor
+     * @since 3.3
+     */
+    public static final class Hotspot {
+
+        private final String lock;
+        private final Thread.State state;
+        private final StackTraceElement frame;
+        private final long sampleCount;
+        private final long totalSampleCount;
+
+        Hotspot(String lock, Thread.State state, StackTraceElement frame, long sampleCount, long totalSampleCount) {
+            this.lock = lock;
+            this.state = state;
+            this.frame = frame;
+            this.sampleCount = sampleCount;
+            this.totalSampleCount = totalSampleCount;
+        }
+
+        /**
+         * Returns a description of the lock. This is the lock's class name followed by {@code @} and its identity hash code in hexadecimal,
+         * for instance {@code java.util.concurrent.locks.ReentrantLock$NonfairSync@1b6d3586}.
+         *
+         * @return A description of the lock.
+         */
+        public String lock() {
+            return lock;
+        }
+
+        /**
+         * Returns the state of the threads. This is {@link Thread.State#BLOCKED} for threads that were waiting to enter a monitor, and
+         * {@link Thread.State#WAITING} or {@link Thread.State#TIMED_WAITING} for threads that were waiting on a monitor or on a lock from package
+         * {@code java.util.concurrent.locks}.
+         *
+         * @return The state of the threads.
+         */
+        public Thread.State state() {
+            return state;
+        }
+
+        /**
+         * Returns the stack frame that acquired or waited on the lock. This is the first frame outside the Java runtime, so for locks from package
+         * {@code java.util.concurrent.locks} this is the frame that called the lock's method.
+         *
+         * @return The stack frame that acquired or waited on the lock, or {@code null} if no stack trace was available.
+         */
+        public StackTraceElement frame() {
+            return frame;
+        }
+
+        /**
+         * Returns the number of samples that found a thread at this hotspot.
+         *
+         * @return The number of samples that found a thread at this hotspot.
+         */
+        public long sampleCount() {
+            return sampleCount;
+        }
+
+        /**
+         * Returns the fraction of all samples that found a thread at this hotspot.
+         *
+         * @return The fraction of all samples that found a thread at this hotspot, between 0 and 1.
+         */
+        public double fraction() {
+            return sampleCount / (double) totalSampleCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s %s at %s: %d samples (%.2f%%)", state, lock, frame, sampleCount, fraction() * 100);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * ContentionSampler.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("nls")
+final class ContentionSampler {
+
+    // Module java.management is an optional dependency.
+    // This class is only loaded if contention sampling is used, and handles the absence of this module.
+    private static final ThreadMXBean THREAD_MX_BEAN;
+
+    private static final int MAX_STACK_DEPTH = 64;
+
+    private static final String[] RUNTIME_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "com.sun." };
+
+    static {
+        ThreadMXBean threadMXBean;
+        try {
+            threadMXBean = ManagementFactory.getThreadMXBean();
+        } catch (LinkageError e) {
+            threadMXBean = null;
+        }
+        THREAD_MX_BEAN = threadMXBean;
+    }
+
+    private final long intervalInNanos;
+    private final Slot[] slots;
+    private final Thread thread;
+    private volatile boolean stopped = false;
+
+    // Only accessed by the sampler thread until it has been joined
+    private final Map<Key, Long> sampleCounts = new HashMap<>();
+    private long sampleCount = 0;
+
+    ContentionSampler(long intervalInNanos, int poolSize) {
+        this.intervalInNanos = intervalInNanos;
+        this.slots = new Slot[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            slots[i] = new Slot();
+        }
+        this.thread = new Thread(this::run, "ConcurrentRunner-contention-sampler");
+        this.thread.setDaemon(true);
+    }
+
+    static void validateSupported() {
+        if (THREAD_MX_BEAN == null) {
+            throw new UnsupportedOperationException("Contention sampling is not supported: module java.management is required");
+        }
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    Slot slot(int workerIndex) {
+        return slots[workerIndex];
+    }
+
+    void stop() {
+        stopped = true;
+        thread.interrupt();
+        // Wait for the sampler thread, so its samples are visible. This method may be called from an interrupted worker thread.
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (!stopped) {
+            sample();
+            try {
+                TimeUnit.NANOSECONDS.sleep(intervalInNanos);
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void sample() {
+        // Only threads that are calling a supplier are sampled, so waiting for other workers, for instance between phases, is not reported
+        long[] ids = new long[slots.length];
+        long[] callCounts = new long[slots.length];
+        Slot[] sampledSlots = new Slot[slots.length];
+        int count = 0;
+        for (Slot slot : slots) {
+            long callCount = slot.callCount;
+            Thread thread = slot.thread;
+            if (isCalling(callCount) && thread != null) {
+                ids[count] = thread.getId();
+                callCounts[count] = callCount;
+                sampledSlots[count] = slot;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        ThreadInfo[] threadInfos = THREAD_MX_BEAN.getThreadInfo(Arrays.copyOf(ids, count), MAX_STACK_DEPTH);
+        for (int i = 0; i < count; i++) {
+            ThreadInfo threadInfo = threadInfos[i];
+            // Thread info is null for threads that have terminated, and for virtual threads.
+            // Threads that have ended their call while taking the snapshot are ignored; they may have been waiting for other workers.
+            if (threadInfo != null && sampledSlots[i].callCount == callCounts[i]) {
+                sampleCount++;
+                LockInfo lockInfo = threadInfo.getLockInfo();
+                if (lockInfo != null && isBlockedOrWaiting(threadInfo.getThreadState())) {
+                    Key key = new Key(lockInfo.toString(), threadInfo.getThreadState(), applicationFrame(threadInfo.getStackTrace()));
+                    sampleCounts.merge(key, 1L, Long::sum);
+                }
+            }
+        }
+    }
+
+    private static boolean isCalling(long callCount) {
+        return (callCount & 1) != 0;
+    }
+
+    private static boolean isBlockedOrWaiting(Thread.State state) {
+        return state == Thread.State.BLOCKED || state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+    }
+
+    private static StackTraceElement applicationFrame(StackTraceElement[] stackTrace) {
+        // For java.util.concurrent locks the top frames are part of the locking implementation; the frame that acquires the lock is more useful
+        for (StackTraceElement element : stackTrace) {
+            if (!isRuntimeClass(element.getClassName())) {
+                return element;
+            }
+        }
+        return stackTrace.length > 0 ? stackTrace[0] : null;
+    }
+
+    private static boolean isRuntimeClass(String className) {
+        for (String runtimePackage : RUNTIME_PACKAGES) {
+            if (className.startsWith(runtimePackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    ContentionReport report() {
+        List<ContentionReport.Hotspot> hotspots = new ArrayList<>(sampleCounts.size());
+        sampleCounts.forEach((key, count) -> hotspots.add(new ContentionReport.Hotspot(key.lock, key.state, key.frame, count, sampleCount)));
+        return new ContentionReport(sampleCount, hotspots);
+    }
+
+    static final class Slot {
+
+        // Each worker only writes to its own slot, so incrementing is safe. The count is odd while a call is in progress.
+        private volatile long callCount;
+        private volatile Thread thread;
+
+        void callStarted() {
+            thread = Thread.currentThread();
+            callCount++;
+        }
+
+        void callEnded() {
+            callCount++;
+        }
+    }
+
+    private static final class Key {
+
+        private final String lock;
+        private final Thread.State state;
+        private final StackTraceElement frame;
+
+        private Key(String lock, Thread.State state, StackTraceElement frame) {
+            this.lock = lock;
+            this.state = state;
+            this.frame = frame;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || o.getClass() != getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return lock.equals(other.lock)
+                    && state == other.state
+                    && Objects.equals(frame, other.frame);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lock, state, frame);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * FailFast.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.util.HashSet;
+import java.util.Set;
+
+final class FailFast {
+
+    private final Set<Thread> threads = new HashSet<>();
+    private volatile boolean failed = false;
+
+    synchronized void register() {
+        threads.add(Thread.currentThread());
+    }
+
+    synchronized void unregister() {
+        threads.remove(Thread.currentThread());
+        if (failed) {
+            // Don't leak any interrupt to other tasks that may be run by the same thread
+            Thread.interrupted();
+        }
+    }
+
+    boolean failed() {
+        return failed;
+    }
+
+    // Returns true if this was the first failure
+    synchronized boolean fail() {
+        if (failed) {
+            return false;
+        }
+        failed = true;
+        // Interrupt all other threads, so they will stop waiting. Because unregister is synchronized as well, only threads that are still
+        // running a worker are interrupted.
+        Thread currentThread = Thread.currentThread();
+        for (Thread thread : threads) {
+            if (thread != currentThread) {
+                thread.interrupt();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * IndexedSupplier.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * A supplier for a {@link ConcurrentRunner} that is told which worker calls it, and for which invocation. This is like {@link ThrowingSupplier},
+ * but allows work to be partitioned without any shared state. For instance, each worker can use its own range of keys or its own pre-built state.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of result.
+ * @since 3.3
+ */
+@FunctionalInterface
+public interface IndexedSupplier<T> {
+
+    /**
+     * Returns a result.
+     *
+     * @param workerIndex The index of the worker that calls this supplier, from 0 (inclusive) to the number of threads (exclusive).
+     *                        Each worker calls suppliers one after the other in the same thread.
+     * @param invocationIndex The index of the invocation, from 0 (inclusive) to the number of times the supplier is called (exclusive).
+     *                            When a supplier is called repeatedly, for instance using {@link ConcurrentRunner#runFor(java.time.Duration)},
+     *                            invocation indexes are reused.
+     * @return The result.
+     * @throws Throwable If an error or exception occurred.
+     */
+    T get(int workerIndex, int invocationIndex) throws Throwable;
+}
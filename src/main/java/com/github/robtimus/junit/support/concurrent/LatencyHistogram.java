@@ -0,0 +1,113 @@
+/*
+ * LatencyHistogram.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+final class LatencyHistogram {
+
+    // Values below 128 nanoseconds are recorded exactly. Larger values are recorded in one bucket per power of two, each divided into 64
+    // sub-buckets. That gives a relative error of less than 2%, with a fixed number of counts regardless of the number of recorded values.
+    // Buckets are only created when needed, as workers usually only record values within a few powers of two.
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = Long.SIZE - SUB_BUCKET_BITS;
+
+    private final long[][] counts = new long[BUCKET_COUNT][];
+    private long count = 0;
+    private long max = 0;
+
+    void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        int bucket = bucket(nonNegativeValue);
+        bucket(bucket)[subBucket(nonNegativeValue, bucket)]++;
+        count++;
+        max = Math.max(max, nonNegativeValue);
+    }
+
+    void add(LatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            long[] otherCounts = other.counts[bucket];
+            if (otherCounts != null) {
+                long[] bucketCounts = bucket(bucket);
+                for (int i = 0; i < otherCounts.length; i++) {
+                    bucketCounts[i] += otherCounts[i];
+                }
+            }
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    private long[] bucket(int bucket) {
+        long[] bucketCounts = counts[bucket];
+        if (bucketCounts == null) {
+            bucketCounts = new long[bucket == 0 ? SUB_BUCKET_COUNT : HALF_SUB_BUCKET_COUNT];
+            counts[bucket] = bucketCounts;
+        }
+        return bucketCounts;
+    }
+
+    long count() {
+        return count;
+    }
+
+    long max() {
+        return max;
+    }
+
+    long valueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            long[] bucketCounts = counts[bucket];
+            if (bucketCounts != null) {
+                for (int subBucket = 0; subBucket < bucketCounts.length; subBucket++) {
+                    seen += bucketCounts[subBucket];
+                    if (seen >= rank) {
+                        return Math.min(highestValue(bucket, subBucket), max);
+                    }
+                }
+            }
+        }
+        return max;
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return 0;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        return highestBit - SUB_BUCKET_BITS + 1;
+    }
+
+    private static int subBucket(long value, int bucket) {
+        // For bucket > 0, value >>> bucket is between HALF_SUB_BUCKET_COUNT (inclusive) and SUB_BUCKET_COUNT (exclusive)
+        return bucket == 0
+                ? (int) value
+                : (int) (value >>> bucket) - HALF_SUB_BUCKET_COUNT;
+    }
+
+    private static long highestValue(int bucket, int subBucket) {
+        return bucket == 0
+                ? subBucket
+                : ((subBucket + HALF_SUB_BUCKET_COUNT + 1L) << bucket) - 1;
+    }
+}
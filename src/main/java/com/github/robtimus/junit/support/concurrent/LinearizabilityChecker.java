@@ -0,0 +1,422 @@
+/*
+ * LinearizabilityChecker.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.opentest4j.AssertionFailedError;
+import com.github.robtimus.junit.support.concurrent.OperationHistory.Operation;
+
+/**
+ * A checker for the linearizability of {@link OperationHistory operation histories}. A history is linearizable if each operation can be assigned
+ * a single point in time between its invocation and response, so that performing the operations one at a time in that order using a
+ * {@link SequentialModel} produces the same outputs.
+ * <p>
+ * {@link Operation#isPending() Pending operations}, that threw an error or exception, may be linearized at any point after their invocation,
+ * either as having taken effect as described by {@link SequentialModel#applyFailed(Object, Object, Throwable)}, or as having had no effect.
+ * <p>
+ * Checking linearizability is done using the algorithm by Wing and Gong, with the improvements by Lowe: combinations of performed operations and
+ * the resulting state are remembered, so each combination is tried at most once. This makes checking histories of tens of thousands of operations
+ * feasible, as long as the number of operations that overlap at any time is limited. This is usually the case for histories recorded using a
+ * {@link ConcurrentRunner}, where the number of overlapping operations is at most the number of threads.
+ * <p>
+ * For objects like maps, where operations on different keys do not affect each other, {@link #withPartitioning(Function) partitioning} can
+ * further reduce the cost of checking. Each partition is then checked separately, in parallel.
+ *
+ * @author Rob Spoor
+ * @param <S> The type of state of the sequential model.
+ * @param <I> The type of operation input.
+ * @param <O> The type of operation output.
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class LinearizabilityChecker<S, I, O> {
+
+    private static final int MAX_REPORTED_OVERLAPPING_OPERATIONS = 10;
+
+    private final SequentialModel<S, I, O> model;
+
+    private Function<? super I, ?> partitioner = null;
+
+    private ForkJoinPool pool = null;
+
+    private LinearizabilityChecker(SequentialModel<S, I, O> model) {
+        this.model = model;
+    }
+
+    /**
+     * Creates a new linearizability checker.
+     *
+     * @param <S> The type of state of the sequential model.
+     * @param <I> The type of operation input.
+     * @param <O> The type of operation output.
+     * @param model The sequential model to check histories against. If {@link #withPartitioning(Function) partitioning} is used, this model
+     *                  may be called concurrently, and should therefore be thread-safe.
+     * @return The created linearizability checker.
+     * @throws NullPointerException If the given model is {@code null}.
+     */
+    public static <S, I, O> LinearizabilityChecker<S, I, O> forModel(SequentialModel<S, I, O> model) {
+        Objects.requireNonNull(model);
+        return new LinearizabilityChecker<>(model);
+    }
+
+    /**
+     * Specifies that histories should be partitioned. Operations with the same partition key are checked together; operations with different
+     * partition keys are checked separately, each starting from the {@link SequentialModel#initialState() initial state}.
+     * <p>
+     * This is only correct if operations with different partition keys do not affect each other, like operations on different keys of a map.
+     *
+     * @param partitioner A function that returns the partition key for operation input. Partition keys must implement
+     *                        {@link Object#equals(Object)} and {@link Object#hashCode()}; {@code null} is allowed.
+     * @return This object.
+     * @throws NullPointerException If the given function is {@code null}.
+     */
+    public LinearizabilityChecker<S, I, O> withPartitioning(Function<? super I, ?> partitioner) {
+        this.partitioner = Objects.requireNonNull(partitioner);
+        return this;
+    }
+
+    /**
+     * Sets the pool to use for checking partitions in parallel. By default the {@link ForkJoinPool#commonPool() common pool} is used.
+     *
+     * @param pool The pool to use for checking partitions in parallel.
+     * @return This object.
+     * @throws NullPointerException If the given pool is {@code null}.
+     */
+    public LinearizabilityChecker<S, I, O> withForkJoinPool(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        return this;
+    }
+
+    /**
+     * Checks whether or not a history is linearizable.
+     *
+     * @param history The history to check.
+     * @return {@code true} if the given history is linearizable, or {@code false} otherwise.
+     * @throws NullPointerException If the given history is {@code null}.
+     */
+    public boolean isLinearizable(OperationHistory<I, O> history) {
+        return check(history) == null;
+    }
+
+    /**
+     * Asserts that a history is linearizable.
+     *
+     * @param history The history to check.
+     * @throws NullPointerException If the given history is {@code null}.
+     * @throws AssertionFailedError If the given history is not linearizable. The message includes the operation for which no valid order could
+     *                                  be found, and operations that overlap with it.
+     */
+    public void assertLinearizable(OperationHistory<I, O> history) {
+        Violation<I, O> violation = check(history);
+        if (violation != null) {
+            throw assertionFailure()
+                    .reason(violation.describe())
+                    .build();
+        }
+    }
+
+    private Violation<I, O> check(OperationHistory<I, O> history) {
+        List<Operation<I, O>> operations = history.operations();
+        if (partitioner == null) {
+            return new Search<>(model, null, false, operations, new AtomicBoolean()).run();
+        }
+
+        // Don't use Collectors.groupingBy, as it does not support null keys
+        Map<Object, List<Operation<I, O>>> partitions = new LinkedHashMap<>();
+        for (Operation<I, O> operation : operations) {
+            partitions.computeIfAbsent(partitioner.apply(operation.input()), k -> new ArrayList<>()).add(operation);
+        }
+
+        // Stop checking other partitions as soon as one is found to be not linearizable
+        AtomicBoolean stop = new AtomicBoolean();
+        ForkJoinPool poolToUse = pool != null ? pool : ForkJoinPool.commonPool();
+        List<ForkJoinTask<Violation<I, O>>> tasks = partitions.entrySet().stream()
+                .map(e -> poolToUse.submit(new Search<>(model, e.getKey(), true, e.getValue(), stop)::run))
+                .collect(Collectors.toList());
+
+        Violation<I, O> violation = null;
+        for (ForkJoinTask<Violation<I, O>> task : tasks) {
+            Violation<I, O> partitionViolation = task.join();
+            if (violation == null) {
+                violation = partitionViolation;
+            }
+        }
+        return violation;
+    }
+
+    private static final class Search<S, I, O> {
+
+        private final SequentialModel<S, I, O> model;
+        private final Object partitionKey;
+        private final boolean partitioned;
+        private final List<Operation<I, O>> operations;
+        private final AtomicBoolean stop;
+
+        private Search(SequentialModel<S, I, O> model, Object partitionKey, boolean partitioned, List<Operation<I, O>> operations,
+                AtomicBoolean stop) {
+
+            this.model = model;
+            this.partitionKey = partitionKey;
+            this.partitioned = partitioned;
+            this.operations = operations;
+            this.stop = stop;
+        }
+
+        private Violation<I, O> run() {
+            Entry<I, O> head = createEntries();
+            BitSet linearized = new BitSet(operations.size());
+            Set<CacheKey<S>> cache = new HashSet<>();
+            Deque<Frame<S, I, O>> calls = new ArrayDeque<>();
+            S state = model.initialState();
+
+            int maxLinearizedCount = -1;
+            Operation<I, O> firstUnlinearizable = null;
+
+            Entry<I, O> entry = head.next;
+            int firstAlternative = 0;
+            while (head.next != null) {
+                if (stop.get()) {
+                    return null;
+                }
+                if (entry.isCall) {
+                    boolean lifted = false;
+                    for (int alternative = firstAlternative; alternative < entry.alternatives() && !lifted; alternative++) {
+                        Optional<S> newState = apply(entry, state, alternative);
+                        if (newState.isPresent() && cache.add(new CacheKey<>(linearized, entry.id, newState.get()))) {
+                            // Linearize the operation at this point, and start again with the remaining operations
+                            calls.push(new Frame<>(entry, state, alternative));
+                            state = newState.get();
+                            linearized.set(entry.id);
+                            entry.lift();
+                            lifted = true;
+                        }
+                    }
+                    firstAlternative = 0;
+                    entry = lifted ? head.next : entry.next;
+                } else {
+                    // The operation responded before it could be linearized; undo the most recently linearized operation and try the next one
+                    if (calls.size() > maxLinearizedCount) {
+                        maxLinearizedCount = calls.size();
+                        firstUnlinearizable = entry.operation;
+                    }
+                    if (calls.isEmpty()) {
+                        stop.set(true);
+                        return new Violation<>(partitionKey, partitioned, operations, maxLinearizedCount, firstUnlinearizable);
+                    }
+                    Frame<S, I, O> frame = calls.pop();
+                    entry = frame.entry;
+                    state = frame.state;
+                    linearized.clear(entry.id);
+                    entry.unlift();
+                    if (frame.alternative + 1 < entry.alternatives()) {
+                        // Retry the same operation with its next alternative
+                        firstAlternative = frame.alternative + 1;
+                    } else {
+                        entry = entry.next;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Optional<S> apply(Entry<I, O> entry, S state, int alternative) {
+            Operation<I, O> operation = entry.operation;
+            if (!operation.isPending()) {
+                return model.apply(state, operation.input(), operation.output());
+            }
+            // A pending operation may have taken effect (alternative 0), or may have had no effect (alternative 1)
+            return alternative == 0
+                    ? model.applyFailed(state, operation.input(), operation.failure())
+                    : Optional.of(state);
+        }
+
+        private Entry<I, O> createEntries() {
+            List<Entry<I, O>> entries = new ArrayList<>(operations.size() * 2);
+            for (int i = 0; i < operations.size(); i++) {
+                Operation<I, O> operation = operations.get(i);
+                Entry<I, O> call = new Entry<>(operation, i, true);
+                Entry<I, O> response = new Entry<>(operation, i, false);
+                call.match = response;
+                entries.add(call);
+                entries.add(response);
+            }
+            // For operations with equal times, which can only occur for manually created histories, treat the operations as overlapping
+            entries.sort(Comparator.comparingLong(Entry<I, O>::time).thenComparing(e -> !e.isCall));
+
+            Entry<I, O> head = new Entry<>(null, -1, false);
+            Entry<I, O> previous = head;
+            for (Entry<I, O> entry : entries) {
+                previous.next = entry;
+                entry.prev = previous;
+                previous = entry;
+            }
+            return head;
+        }
+    }
+
+    private static final class Entry<I, O> {
+
+        private final Operation<I, O> operation;
+        private final int id;
+        private final boolean isCall;
+        private Entry<I, O> match;
+        private Entry<I, O> prev;
+        private Entry<I, O> next;
+
+        private Entry(Operation<I, O> operation, int id, boolean isCall) {
+            this.operation = operation;
+            this.id = id;
+            this.isCall = isCall;
+        }
+
+        private long time() {
+            return isCall ? operation.invokedAt() : operation.respondedAt();
+        }
+
+        private int alternatives() {
+            return operation.isPending() ? 2 : 1;
+        }
+
+        // Removes this call entry and its matching response entry from the list
+        private void lift() {
+            prev.next = next;
+            next.prev = prev;
+            match.prev.next = match.next;
+            if (match.next != null) {
+                match.next.prev = match.prev;
+            }
+        }
+
+        // Reinserts this call entry and its matching response entry into the list; the reverse of lift()
+        private void unlift() {
+            match.prev.next = match;
+            if (match.next != null) {
+                match.next.prev = match;
+            }
+            prev.next = this;
+            next.prev = this;
+        }
+    }
+
+    private static final class Frame<S, I, O> {
+
+        private final Entry<I, O> entry;
+        private final S state;
+        private final int alternative;
+
+        private Frame(Entry<I, O> entry, S state, int alternative) {
+            this.entry = entry;
+            this.state = state;
+            this.alternative = alternative;
+        }
+    }
+
+    private static final class CacheKey<S> {
+
+        private final BitSet linearized;
+        private final S state;
+        private final int hashCode;
+
+        private CacheKey(BitSet linearized, int newlyLinearized, S state) {
+            this.linearized = (BitSet) linearized.clone();
+            this.linearized.set(newlyLinearized);
+            this.state = state;
+            this.hashCode = this.linearized.hashCode() * 31 + Objects.hashCode(state);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || o.getClass() != getClass()) {
+                return false;
+            }
+            CacheKey<?> other = (CacheKey<?>) o;
+            return linearized.equals(other.linearized) && Objects.equals(state, other.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Violation<I, O> {
+
+        private final Object partitionKey;
+        private final boolean partitioned;
+        private final List<Operation<I, O>> operations;
+        private final int linearizedCount;
+        private final Operation<I, O> operation;
+
+        private Violation(Object partitionKey, boolean partitioned, List<Operation<I, O>> operations, int linearizedCount,
+                Operation<I, O> operation) {
+
+            this.partitionKey = partitionKey;
+            this.partitioned = partitioned;
+            this.operations = operations;
+            this.linearizedCount = linearizedCount;
+            this.operation = operation;
+        }
+
+        private String describe() {
+            StringBuilder sb = new StringBuilder();
+            if (partitioned) {
+                sb.append(String.format("Operations for partition key %s are not linearizable", partitionKey));
+            } else {
+                sb.append("Operations are not linearizable");
+            }
+            sb.append(String.format("; at most %d of %d operations could be linearized, which did not include%n  %s%n",
+                    linearizedCount, operations.size(), operation));
+
+            Operation<?, ?>[] overlapping = operations.stream()
+                    .filter(o -> o != operation && o.overlaps(operation))
+                    .limit(MAX_REPORTED_OVERLAPPING_OPERATIONS + 1L)
+                    .toArray(Operation<?, ?>[]::new);
+            if (overlapping.length > 0) {
+                sb.append(String.format("Overlapping operations:%n"));
+                Arrays.stream(overlapping)
+                        .limit(MAX_REPORTED_OVERLAPPING_OPERATIONS)
+                        .forEach(o -> sb.append(String.format("  %s%n", o)));
+                if (overlapping.length > MAX_REPORTED_OVERLAPPING_OPERATIONS) {
+                    sb.append(String.format("  ...%n"));
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * OperationHistory.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * A history of operations on a concurrent object. Each operation records its input, its output, and when it was invoked and when it responded.
+ * Such a history can be checked for linearizability using a {@link LinearizabilityChecker}.
+ * <p>
+ * Operations are recorded by wrapping calls to the concurrent object, usually in suppliers of a {@link ConcurrentRunner}:
+ * <pre><code>
+ * OperationHistory&lt;MapOperation, Integer&gt; history = new OperationHistory&lt;&gt;();
+ * ConcurrentRunner.running(() -&gt; history.record(MapOperation.put("a", 1), () -&gt; map.put("a", 1)), 1000)
+ *         .concurrentlyWith(() -&gt; history.record(MapOperation.get("a"), () -&gt; map.get("a")), 1000)
+ *         .execute()
+ *         .andAssertNoFailures();
+ * </code></pre>
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ * @param <I> The type of operation input.
+ * @param <O> The type of operation output.
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class OperationHistory<I, O> {
+
+    // A logical clock instead of System.nanoTime(), which can return the same value for operations that did not overlap.
+    // Because incrementing an atomic long is linearizable, if one operation responded before another was invoked, its response time is
+    // always smaller than the other operation's invocation time.
+    private final AtomicLong clock = new AtomicLong();
+    private final Queue<Operation<I, O>> operations = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Records an operation.
+     * <p>
+     * If the operation throws an error or exception, it may or may not have taken effect. It is then recorded as a {@link Operation#isPending()
+     * pending} operation: one that never responds, and of which the output is not known.
+     *
+     * @param <R> The type of output of the operation.
+     * @param input The input of the operation. This should describe the operation, including any arguments.
+     * @param operation The operation to record.
+     * @return The output of the operation.
+     * @throws NullPointerException If the given operation is {@code null}.
+     * @throws Throwable If the operation throws an error or exception.
+     */
+    public <R extends O> R record(I input, ThrowingSupplier<R> operation) throws Throwable {
+        Objects.requireNonNull(operation);
+        long invokedAt = clock.getAndIncrement();
+        R output;
+        try {
+            output = operation.get();
+        } catch (Throwable t) {
+            operations.add(new Operation<>(input, null, t, invokedAt, Operation.PENDING));
+            throw t;
+        }
+        long respondedAt = clock.getAndIncrement();
+        operations.add(new Operation<>(input, output, null, invokedAt, respondedAt));
+        return output;
+    }
+
+    void add(I input, O output, long invokedAt, long respondedAt) {
+        operations.add(new Operation<>(input, output, invokedAt, respondedAt));
+    }
+
+    void addPending(I input, Throwable failure, long invokedAt) {
+        operations.add(new Operation<>(input, null, failure, invokedAt, Operation.PENDING));
+    }
+
+    /**
+     * Returns the number of recorded operations.
+     *
+     * @return The number of recorded operations.
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Returns all recorded operations, ordered by invocation time.
+     *
+     * @return An unmodifiable list with all recorded operations.
+     */
+    public List<Operation<I, O>> operations() {
+        List<Operation<I, O>> result = new ArrayList<>(operations);
+        result.sort(Comparator.comparingLong(Operation::invokedAt));
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public String toString() {
+        return "OperationHistory[size=" + operations.size() + "]";
+    }
+
+    /**
+     * A recorded operation.
+     *
+     * @author Rob Spoor
+     * @param <I> The type of operation input.
+     * @param <O> The type of operation output.
+     * @since 3.3
+     */
+    public static final class Operation<I, O> {
+
+        // Like in the algorithm by Wing and Gong, pending operations respond at infinity
+        static final long PENDING = Long.MAX_VALUE;
+
+        private final I input;
+        private final O output;
+        private final Throwable failure;
+        private final long invokedAt;
+        private final long respondedAt;
+
+        Operation(I input, O output, long invokedAt, long respondedAt) {
+            this(input, output, null, invokedAt, respondedAt);
+        }
+
+        Operation(I input, O output, Throwable failure, long invokedAt, long respondedAt) {
+            this.input = input;
+            this.output = output;
+            this.failure = failure;
+            this.invokedAt = invokedAt;
+            this.respondedAt = respondedAt;
+        }
+
+        /**
+         * Returns the input of the operation.
+         *
+         * @return The input of the operation.
+         */
+        public I input() {
+            return input;
+        }
+
+        /**
+         * Returns the output of the operation.
+         *
+         * @return The output of the operation, or {@code null} if the operation is {@link #isPending() pending}.
+         */
+        public O output() {
+            return output;
+        }
+
+        /**
+         * Returns the error or exception thrown by the operation.
+         *
+         * @return The error or exception thrown by the operation, or {@code null} if the operation is not {@link #isPending() pending}.
+         */
+        public Throwable failure() {
+            return failure;
+        }
+
+        /**
+         * Returns whether or not the operation is pending. An operation is pending if it threw an error or exception. Such an operation may or
+         * may not have taken effect, and its output is not known. It never responds; its {@link #respondedAt() response time} is
+         * {@link Long#MAX_VALUE}.
+         *
+         * @return {@code true} if the operation is pending, or {@code false} otherwise.
+         */
+        public boolean isPending() {
+            return respondedAt == PENDING;
+        }
+
+        /**
+         * Returns the logical time when the operation was invoked. This can only be compared to the times of other operations of the same history.
+         *
+         * @return The logical time when the operation was invoked.
+         */
+        public long invokedAt() {
+            return invokedAt;
+        }
+
+        /**
+         * Returns the logical time when the operation responded. This can only be compared to the times of other operations of the same history.
+         *
+         * @return The logical time when the operation responded.
+         */
+        public long respondedAt() {
+            return respondedAt;
+        }
+
+        /**
+         * Returns whether or not this operation overlaps with another operation. If so, neither operation responded before the other was invoked.
+         *
+         * @param other The other operation.
+         * @return {@code true} if this operation overlaps with the given operation, or {@code false} otherwise.
+         * @throws NullPointerException If the given operation is {@code null}.
+         */
+        public boolean overlaps(Operation<?, ?> other) {
+            return invokedAt <= other.respondedAt && other.invokedAt <= respondedAt;
+        }
+
+        @Override
+        public String toString() {
+            return isPending()
+                    ? String.format("%s -> pending (%s) [%d, -]", input, failure, invokedAt)
+                    : String.format("%s -> %s [%d, %d]", input, output, invokedAt, respondedAt);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Perturber.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@SuppressWarnings("nls")
+final class Perturber {
+
+    private static final ThreadLocal<Perturber> CURRENT = new ThreadLocal<>();
+
+    // Out of every 8 perturbations, 4 do nothing, 2 yield, 1 spins and 1 parks.
+    // Doing nothing half of the time keeps some interleavings close to those without perturbation.
+    private static final int ACTION_COUNT = 8;
+    private static final int YIELD_THRESHOLD = 4;
+    private static final int SPIN_THRESHOLD = 6;
+    private static final int PARK_THRESHOLD = 7;
+
+    private static final int MAX_SPINS = 1_000;
+    private static final long MAX_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    Perturber(long seed, int workerIndex) {
+        this.seed = seed;
+        // Each worker gets its own deterministic sequence of perturbations
+        this.random = new SplittableRandom(seed + workerIndex * GOLDEN_GAMMA);
+    }
+
+    void enter() {
+        CURRENT.set(this);
+    }
+
+    void exit() {
+        CURRENT.remove();
+    }
+
+    static void perturbCurrentThread() {
+        Perturber perturber = CURRENT.get();
+        if (perturber != null) {
+            perturber.perturb();
+        }
+    }
+
+    void perturb() {
+        int action = random.nextInt(ACTION_COUNT);
+        if (action >= PARK_THRESHOLD) {
+            LockSupport.parkNanos(1 + random.nextLong(MAX_PARK_NANOS));
+        } else if (action >= SPIN_THRESHOLD) {
+            for (int i = random.nextInt(MAX_SPINS); i >= 0; i--) {
+                Thread.onSpinWait();
+            }
+        } else if (action >= YIELD_THRESHOLD) {
+            Thread.yield();
+        }
+    }
+
+    void reportSeed(Throwable failure) {
+        // The same error or exception may be thrown several times, possibly concurrently; report the seed only once
+        synchronized (failure) {
+            for (Throwable suppressed : failure.getSuppressed()) {
+                if (suppressed instanceof SeedReport) {
+                    return;
+                }
+            }
+            failure.addSuppressed(new SeedReport(seed));
+        }
+    }
+
+    static final class SeedReport extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        SeedReport(long seed) {
+            super(String.format("Schedule perturbation seed: %d; use withPerturbation(%dL) to replay", seed, seed), null, false, false);
+        }
+    }
+}
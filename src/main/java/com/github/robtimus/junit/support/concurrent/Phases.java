@@ -0,0 +1,140 @@
+/*
+ * Phases.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+final class Phases {
+
+    // The time to wait for other workers before checking whether the execution was stopped
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    // The maximum number of parties of a Phaser
+    static final int MAX_PARTIES = 0xFFFF;
+
+    private final int[] phaseStarts;
+    private final int invocationCount;
+    private final int rounds;
+    private final int poolSize;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final int partiesPerPhaser;
+    private final Phaser[] phasers;
+
+    Phases(List<Integer> phaseStarts, int invocationCount, int rounds, int poolSize) {
+        this(phaseStarts, invocationCount, rounds, poolSize, MAX_PARTIES);
+    }
+
+    Phases(List<Integer> phaseStarts, int invocationCount, int rounds, int poolSize, int partiesPerPhaser) {
+        this.phaseStarts = phaseStarts.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.invocationCount = invocationCount;
+        this.rounds = rounds;
+        this.poolSize = poolSize;
+        this.partiesPerPhaser = partiesPerPhaser;
+        // Without more than one phase in total there is nothing to wait for
+        this.phasers = rounds * this.phaseStarts.length > 1 ? createPhasers() : null;
+    }
+
+    private Phaser[] createPhasers() {
+        if (poolSize <= partiesPerPhaser) {
+            return new Phaser[] { new Barrier(poolSize) };
+        }
+        // A Phaser has a limited number of parties, so use a tree of phasers for more workers. Each worker uses one of the child phasers;
+        // a child phaser arrives at the root phaser when all of its workers have arrived, and deregisters when all of its workers have left.
+        Barrier root = new Barrier(0);
+        Phaser[] children = new Phaser[(poolSize - 1) / partiesPerPhaser + 1];
+        for (int i = 0; i < children.length; i++) {
+            int parties = Math.min(partiesPerPhaser, poolSize - i * partiesPerPhaser);
+            children[i] = new Phaser(root, parties);
+        }
+        return children;
+    }
+
+    private Phaser phaser(int workerIndex) {
+        return phasers[workerIndex / partiesPerPhaser];
+    }
+
+    int rounds() {
+        return rounds;
+    }
+
+    int poolSize() {
+        return poolSize;
+    }
+
+    int phaseCount() {
+        return phaseStarts.length;
+    }
+
+    int phaseEnd(int phase) {
+        return phase + 1 < phaseStarts.length ? phaseStarts[phase + 1] : invocationCount;
+    }
+
+    AtomicInteger nextIndex() {
+        return nextIndex;
+    }
+
+    // Returns false if waiting stopped before all other workers arrived; the current worker should then not call any more suppliers
+    boolean awaitOthers(int workerIndex, BooleanSupplier stopped) {
+        Phaser phaser = phaser(workerIndex);
+        int phase = phaser.arrive();
+        while (true) {
+            try {
+                phaser.awaitAdvanceInterruptibly(phase, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (@SuppressWarnings("unused") TimeoutException e) {
+                // A worker that stopped calling suppliers will never arrive, so don't wait for it
+                if (stopped.getAsBoolean()) {
+                    return false;
+                }
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                // Workers are only interrupted if they should stop, so stop waiting but preserve the interrupt
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    // Called when a worker stops before it has called all suppliers of all rounds, while it is not waiting for other workers
+    void leave(int workerIndex) {
+        if (phasers != null) {
+            phaser(workerIndex).arriveAndDeregister();
+        }
+    }
+
+    private final class Barrier extends Phaser {
+
+        private Barrier(int parties) {
+            super(parties);
+        }
+
+        @Override
+        protected boolean onAdvance(int phase, int registeredParties) {
+            // Only the last worker to arrive calls this method, and all other workers are waiting, so nobody is taking indexes.
+            // For a tree of phasers, this method is only called for the root.
+            nextIndex.set(phaseStarts[(phase + 1) % phaseStarts.length]);
+            return registeredParties == 0;
+        }
+    }
+}
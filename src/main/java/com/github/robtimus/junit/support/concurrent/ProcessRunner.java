@@ -0,0 +1,417 @@
+/*
+ * ProcessRunner.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static com.github.robtimus.junit.support.concurrent.ConcurrentRunner.validateCount;
+import static com.github.robtimus.junit.support.concurrent.ConcurrentRunner.validateDuration;
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * A class that will run code concurrently in several processes. Where {@link ConcurrentRunner} runs code in several threads of the same JVM,
+ * this class starts several child JVMs with the same class path, and lets each one call the same static entry point at approximately the same
+ * time. This makes it possible to test code that coordinates between processes, for instance using file locks, memory-mapped files or local
+ * sockets.
+ * <p>
+ * The entry point is a static method that has either no parameters, or a single parameter of type {@code int}. If it has a parameter, it gets
+ * the index of the process that calls it, from 0 (inclusive) to the number of processes (exclusive). The result of the entry point, or the error
+ * or exception it throws, is sent back to the current JVM, and becomes available through the {@link ConcurrentResults} returned by
+ * {@link #execute()}. Results and errors and exceptions must therefore be serializable. If a result is not serializable, it is replaced by a
+ * {@link java.io.NotSerializableException}. If an error or exception is not serializable, it is replaced by an {@link AssertionFailedError} with
+ * the same message and stack trace.
+ * <p>
+ * Each child process connects to the current JVM using a local socket. The entry point is only called after all child processes have connected,
+ * so the startup time of the JVMs does not affect how concurrent the calls are. The latencies in the returned statistics are measured by the
+ * child processes themselves. Each child process gets a random token that is generated for each call to {@link #execute()}; connections that
+ * do not start with this token are closed without reading anything else from them.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class ProcessRunner {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    static final int TOKEN_LENGTH = 16;
+
+    // Child processes send their token and index as soon as they have connected, so this only needs to cover slow machines
+    private static final long HANDSHAKE_TIMEOUT_MILLIS = 10_000;
+
+    private final Class<?> entryPointClass;
+    private final String methodName;
+    private final int count;
+
+    private final List<String> jvmArguments = new ArrayList<>();
+
+    private Duration timeout = null;
+
+    private long handshakeTimeoutMillis = HANDSHAKE_TIMEOUT_MILLIS;
+
+    private ProcessRunner(Class<?> entryPointClass, String methodName, int count) {
+        this.entryPointClass = entryPointClass;
+        this.methodName = methodName;
+        this.count = count;
+    }
+
+    /**
+     * Creates a new process runner.
+     *
+     * @param entryPointClass The class that contains the entry point.
+     * @param methodName The name of the entry point. This must be a static method that has either no parameters, or a single parameter of type
+     *                       {@code int} that will be set to the index of the process.
+     * @param count The number of processes to start.
+     * @return The created process runner.
+     * @throws NullPointerException If the given class or method name is {@code null}.
+     * @throws IllegalArgumentException If the given class does not have a matching static method, or if the given count is not positive.
+     */
+    public static ProcessRunner running(Class<?> entryPointClass, String methodName, int count) {
+        Objects.requireNonNull(entryPointClass);
+        Objects.requireNonNull(methodName);
+        validateCount(count);
+        // Validate early, instead of in the child processes
+        findEntryPoint(entryPointClass, methodName);
+        return new ProcessRunner(entryPointClass, methodName, count);
+    }
+
+    /**
+     * Adds arguments for the child JVMs, for instance system properties or memory settings.
+     * By default no JVM arguments are used; the JVM arguments of the current JVM are not inherited.
+     *
+     * @param arguments The JVM arguments to add.
+     * @return This object.
+     * @throws NullPointerException If any of the given arguments is {@code null}.
+     */
+    public ProcessRunner withJvmArguments(String... arguments) {
+        for (String argument : arguments) {
+            jvmArguments.add(Objects.requireNonNull(argument));
+        }
+        return this;
+    }
+
+    /**
+     * Sets a timeout for all processes. If not all processes have reported their result within the given timeout, all processes that are still
+     * running are destroyed, and an {@link AssertionFailedError} is thrown from {@link #execute()}. By default there is no timeout.
+     *
+     * @param timeout The timeout, including the time it takes to start the child JVMs.
+     * @return This object.
+     * @throws NullPointerException If the given timeout is {@code null}.
+     * @throws IllegalArgumentException If the given timeout is not positive.
+     */
+    public ProcessRunner withTimeout(Duration timeout) {
+        validateDuration(timeout);
+        this.timeout = timeout;
+        return this;
+    }
+
+    // Allows tests to use a shorter handshake timeout
+    ProcessRunner withHandshakeTimeout(Duration handshakeTimeout) {
+        validateDuration(handshakeTimeout);
+        this.handshakeTimeoutMillis = handshakeTimeout.toMillis();
+        return this;
+    }
+
+    /**
+     * Starts the child processes, lets them call the entry point concurrently, and waits until all have reported their result.
+     * <p>
+     * The output of the child processes is written to the output of the current JVM.
+     *
+     * @return The results of calling the entry point, ordered by process index.
+     * @throws AssertionFailedError If a child process exited before it was ready to call the entry point, or if the timeout expired.
+     * @throws UncheckedIOException If an I/O error occurred while starting or communicating with the child processes.
+     */
+    public ConcurrentResults<Object> execute() {
+        long deadline = timeout != null ? System.nanoTime() + timeout.toNanos() : Long.MAX_VALUE;
+        List<Process> processes = new ArrayList<>(count);
+        Socket[] sockets = new Socket[count];
+        byte[] token = new byte[TOKEN_LENGTH];
+        new SecureRandom().nextBytes(token);
+        try (ServerSocket serverSocket = new ServerSocket(0, count, InetAddress.getLoopbackAddress())) {
+            for (int i = 0; i < count; i++) {
+                processes.add(startProcess(serverSocket.getLocalPort(), token, i));
+            }
+            awaitConnections(serverSocket, token, sockets, processes, deadline);
+
+            ConcurrentStatistics.Recorder recorder = new ConcurrentStatistics.Recorder(count);
+            recorder.start(System.nanoTime());
+            // Only now let the child processes call the entry point; this acts as a start barrier for all processes
+            for (Socket socket : sockets) {
+                socket.getOutputStream().write(1);
+                socket.getOutputStream().flush();
+            }
+
+            @SuppressWarnings("unchecked")
+            ConcurrentResult<Object>[] results = (ConcurrentResult<Object>[]) new ConcurrentResult<?>[count];
+            for (int i = 0; i < count; i++) {
+                results[i] = readResult(sockets[i], i, deadline, recorder);
+            }
+            return new ConcurrentResults<>(Arrays.stream(results), ConcurrentStatistics.combine(Collections.singletonList(recorder), count));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            closeAll(sockets);
+            destroyAll(processes);
+        }
+    }
+
+    private Process startProcess(int port, byte[] token, int processIndex) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.add("-cp");
+        command.add(classPath());
+        command.add(ProcessRunnerChild.class.getName());
+        command.add(Integer.toString(port));
+        command.add(Base64.getEncoder().encodeToString(token));
+        command.add(Integer.toString(processIndex));
+        command.add(entryPointClass.getName());
+        command.add(methodName);
+
+        return new ProcessBuilder(command)
+                .inheritIO()
+                .start();
+    }
+
+    private static String classPath() {
+        // If the current JVM uses the module path, add its entries to the class path of the child JVMs, as they are all needed
+        String classPath = System.getProperty("java.class.path", "");
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath == null || modulePath.isEmpty()) {
+            return classPath;
+        }
+        return classPath.isEmpty() ? modulePath : classPath + File.pathSeparator + modulePath;
+    }
+
+    private void awaitConnections(ServerSocket serverSocket, byte[] token, Socket[] sockets, List<Process> processes, long deadline)
+            throws IOException {
+
+        // Accept with a short timeout, so child processes that fail to start are detected
+        serverSocket.setSoTimeout((int) POLL_INTERVAL_MILLIS);
+        int connected = 0;
+        while (connected < sockets.length) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (@SuppressWarnings("unused") SocketTimeoutException e) {
+                checkProcesses(sockets, processes);
+                checkDeadline(deadline);
+                continue;
+            }
+            // Accepted sockets don't inherit the timeout of the server socket
+            long remaining = timeout != null ? TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) : handshakeTimeoutMillis;
+            socket.setSoTimeout((int) Math.max(1, Math.min(remaining, handshakeTimeoutMillis)));
+            int processIndex = readProcessIndex(socket.getInputStream(), token, sockets);
+            if (processIndex >= 0) {
+                sockets[processIndex] = socket;
+                connected++;
+            } else {
+                // Not one of the child processes, or a child process that already connected
+                close(socket);
+                checkDeadline(deadline);
+            }
+        }
+    }
+
+    static int readProcessIndex(InputStream inputStream, byte[] token, Socket[] sockets) {
+        // Returns -1 if the token is wrong, the index is not valid or already connected, or the connection doesn't send them in time
+        try {
+            DataInputStream input = new DataInputStream(inputStream);
+            byte[] receivedToken = new byte[token.length];
+            input.readFully(receivedToken);
+            if (!MessageDigest.isEqual(token, receivedToken)) {
+                return -1;
+            }
+            int processIndex = input.readInt();
+            return processIndex >= 0 && processIndex < sockets.length && sockets[processIndex] == null
+                    ? processIndex
+                    : -1;
+        } catch (@SuppressWarnings("unused") IOException e) {
+            return -1;
+        }
+    }
+
+    private static void checkProcesses(Socket[] sockets, List<Process> processes) {
+        for (int i = 0; i < sockets.length; i++) {
+            Process process = processes.get(i);
+            if (sockets[i] == null && !process.isAlive()) {
+                throw assertionFailure()
+                        .reason(String.format("Process %d exited with code %d before it was ready", i, process.exitValue()))
+                        .build();
+            }
+        }
+    }
+
+    private void checkDeadline(long deadline) {
+        if (timeout != null && System.nanoTime() - deadline >= 0) {
+            throw timeoutFailure();
+        }
+    }
+
+    private AssertionFailedError timeoutFailure() {
+        return assertionFailure()
+                .reason("Processes did not complete within " + timeout)
+                .build();
+    }
+
+    private ConcurrentResult<Object> readResult(Socket socket, int processIndex, long deadline, ConcurrentStatistics.Recorder recorder)
+            throws IOException {
+
+        if (timeout != null) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw timeoutFailure();
+            }
+            socket.setSoTimeout((int) Math.min(remaining, Integer.MAX_VALUE));
+        } else {
+            // Without a timeout the entry point may take as long as it needs; the handshake timeout no longer applies
+            socket.setSoTimeout(0);
+        }
+
+        DataInputStream input = new DataInputStream(socket.getInputStream());
+        long latency;
+        boolean failed;
+        byte[] payload;
+        try {
+            latency = input.readLong();
+            failed = input.readBoolean();
+            int length = input.readInt();
+            if (length < 0) {
+                AssertionFailedError failure = assertionFailure()
+                        .reason(String.format("Process %d reported a result with invalid length %d", processIndex, length))
+                        .build();
+                return new ConcurrentResult<>(failure);
+            }
+            // Don't allocate the reported length up-front; readNBytes only allocates as much as is actually sent
+            payload = input.readNBytes(length);
+            if (payload.length < length) {
+                throw new EOFException();
+            }
+        } catch (@SuppressWarnings("unused") SocketTimeoutException e) {
+            throw timeoutFailure();
+        } catch (@SuppressWarnings("unused") EOFException e) {
+            AssertionFailedError failure = assertionFailure()
+                    .reason(String.format("Process %d exited without reporting a result", processIndex))
+                    .build();
+            return new ConcurrentResult<>(failure);
+        }
+        long end = System.nanoTime();
+
+        Object value = deserialize(payload);
+        Throwable failure = failed ? (Throwable) value : null;
+        // The latency is measured by the child process; the end time is measured here, so all times are relative to the clock of this JVM
+        recorder.record(end - latency, end, failure);
+        return failed ? new ConcurrentResult<>(failure) : new ConcurrentResult<>(value);
+    }
+
+    private Object deserialize(byte[] payload) throws IOException {
+        try (ObjectInputStream input = new EntryPointObjectInputStream(new ByteArrayInputStream(payload), entryPointClass.getClassLoader())) {
+            return input.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void closeAll(Socket[] sockets) {
+        for (Socket socket : sockets) {
+            if (socket != null) {
+                close(socket);
+            }
+        }
+    }
+
+    private static void close(Socket socket) {
+        try {
+            socket.close();
+        } catch (@SuppressWarnings("unused") IOException e) {
+            // ignore
+        }
+    }
+
+    private static void destroyAll(List<Process> processes) {
+        // Processes that have reported their result exit on their own; any other process has failed or timed out
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static Method findEntryPoint(Class<?> entryPointClass, String methodName) {
+        Method method = ReflectionSupport.findMethod(entryPointClass, methodName)
+                .or(() -> ReflectionSupport.findMethod(entryPointClass, methodName, int.class))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        String.format("%s does not have a method %s() or %s(int)", entryPointClass.getName(), methodName, methodName)));
+        if (!Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalArgumentException(String.format("%s.%s is not static", entryPointClass.getName(), methodName));
+        }
+        return method;
+    }
+
+    private static final class EntryPointObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        private EntryPointObjectInputStream(InputStream input, ClassLoader classLoader) throws IOException {
+            super(input);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // Results may be of classes that are only visible to the class loader of the entry point class
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (@SuppressWarnings("unused") ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * ProcessRunnerChild.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Base64;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.AssertionFailedError;
+
+// The main class of the child processes started by ProcessRunner
+final class ProcessRunnerChild {
+
+    private ProcessRunnerChild() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.parseInt(args[0]);
+        byte[] token = Base64.getDecoder().decode(args[1]);
+        int processIndex = Integer.parseInt(args[2]);
+        Method entryPoint = ProcessRunner.findEntryPoint(Class.forName(args[3]), args[4]);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            // The token lets the parent process distinguish its child processes from other local processes
+            output.write(token);
+            output.writeInt(processIndex);
+            output.flush();
+
+            // Wait until all processes are ready; if the parent process has stopped there is nothing to do
+            if (socket.getInputStream().read() == -1) {
+                return;
+            }
+
+            Object[] arguments = entryPoint.getParameterCount() == 0 ? new Object[0] : new Object[] { processIndex };
+            Object result = null;
+            Throwable failure = null;
+            long start = System.nanoTime();
+            try {
+                result = ReflectionSupport.invokeMethod(entryPoint, null, arguments);
+            } catch (Throwable t) {
+                failure = t;
+            }
+            long latency = System.nanoTime() - start;
+
+            byte[] payload = failure != null ? serializeFailure(failure) : serializeResult(result);
+            // A result that could not be serialized is reported as failure
+            boolean failed = failure != null || payload == null;
+            if (payload == null) {
+                payload = serialize(new NotSerializableException(result.getClass().getName()));
+            }
+
+            output.writeLong(latency);
+            output.writeBoolean(failed);
+            output.writeInt(payload.length);
+            output.write(payload);
+            output.flush();
+        }
+        // Don't wait for any non-daemon threads started by the entry point
+        System.exit(0);
+    }
+
+    private static byte[] serializeResult(Object result) throws IOException {
+        try {
+            return serialize(result);
+        } catch (@SuppressWarnings("unused") NotSerializableException e) {
+            return null;
+        }
+    }
+
+    private static byte[] serializeFailure(Throwable failure) throws IOException {
+        try {
+            return serialize(failure);
+        } catch (@SuppressWarnings("unused") NotSerializableException e) {
+            AssertionFailedError replacement = assertionFailure()
+                    .reason(failure.toString())
+                    .build();
+            replacement.setStackTrace(failure.getStackTrace());
+            return serialize(replacement);
+        }
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * ResourceMeter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.concurrent.TimeUnit;
+import com.sun.management.ThreadMXBean;
+
+@SuppressWarnings("nls")
+final class ResourceMeter {
+
+    // Modules java.management and jdk.management are optional dependencies.
+    // This class is only loaded if resource accounting is used, and handles the absence of these modules.
+    private static final ThreadMXBean THREAD_MX_BEAN;
+    private static final String UNSUPPORTED_REASON;
+
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    static {
+        ThreadMXBean threadMXBean = null;
+        String unsupportedReason = null;
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof ThreadMXBean)) {
+                unsupportedReason = "allocated memory measurement is not supported";
+            } else {
+                threadMXBean = (ThreadMXBean) bean;
+                unsupportedReason = unsupportedReason(threadMXBean);
+            }
+        } catch (LinkageError e) {
+            unsupportedReason = "modules java.management and jdk.management are required";
+        }
+        THREAD_MX_BEAN = unsupportedReason == null ? threadMXBean : null;
+        UNSUPPORTED_REASON = unsupportedReason;
+    }
+
+    private long threadId;
+    private long cpuTime;
+    private long allocatedBytes;
+    private long blockedCount;
+    private long blockedTime;
+    private long waitedCount;
+    private long waitedTime;
+
+    private final long[] usage = new long[ResourceUsage.METRIC_COUNT];
+    private final long allocationOverhead;
+
+    ResourceMeter() {
+        // Reading the allocated bytes may itself allocate, depending on the Java version. Measure this once, so it can be subtracted.
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            start();
+            stop();
+            overhead = Math.min(overhead, usage[ResourceUsage.ALLOCATED_BYTES]);
+        }
+        allocationOverhead = overhead;
+    }
+
+    private static String unsupportedReason(ThreadMXBean threadMXBean) {
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            return "CPU time measurement is not supported";
+        }
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            return "allocated memory measurement is not supported";
+        }
+        if (!threadMXBean.isThreadContentionMonitoringSupported()) {
+            return "thread contention monitoring is not supported";
+        }
+        return null;
+    }
+
+    static void validateSupported() {
+        if (UNSUPPORTED_REASON != null) {
+            throw new UnsupportedOperationException("Resource accounting is not supported: " + UNSUPPORTED_REASON);
+        }
+    }
+
+    static void enable() {
+        validateSupported();
+        // These are JVM-wide settings. They are not disabled afterwards, as other code or concurrently running tests may rely on them.
+        if (!THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+            THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+        }
+        if (!THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+            THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        }
+        if (!THREAD_MX_BEAN.isThreadContentionMonitoringEnabled()) {
+            THREAD_MX_BEAN.setThreadContentionMonitoringEnabled(true);
+        }
+    }
+
+    void start() {
+        @SuppressWarnings("deprecation")
+        long currentThreadId = Thread.currentThread().getId();
+        threadId = currentThreadId;
+
+        ThreadInfo threadInfo = THREAD_MX_BEAN.getThreadInfo(threadId);
+        // Thread info is not available for virtual threads
+        blockedCount = threadInfo != null ? threadInfo.getBlockedCount() : -1;
+        blockedTime = threadInfo != null ? threadInfo.getBlockedTime() : -1;
+        waitedCount = threadInfo != null ? threadInfo.getWaitedCount() : -1;
+        waitedTime = threadInfo != null ? threadInfo.getWaitedTime() : -1;
+        cpuTime = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        // Read the allocated bytes last, so any allocation for reading the other values is not included
+        allocatedBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+    }
+
+    void stop() {
+        // Read the allocated bytes first, so any allocation for reading the other values is not included
+        long newAllocatedBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long newCpuTime = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        ThreadInfo threadInfo = THREAD_MX_BEAN.getThreadInfo(threadId);
+
+        usage[ResourceUsage.ALLOCATED_BYTES] = difference(allocatedBytes, newAllocatedBytes);
+        usage[ResourceUsage.CPU_TIME] = difference(cpuTime, newCpuTime);
+        if (threadInfo != null) {
+            usage[ResourceUsage.BLOCKED_COUNT] = difference(blockedCount, threadInfo.getBlockedCount());
+            usage[ResourceUsage.BLOCKED_TIME] = TimeUnit.MILLISECONDS.toNanos(difference(blockedTime, threadInfo.getBlockedTime()));
+            usage[ResourceUsage.WAITED_COUNT] = difference(waitedCount, threadInfo.getWaitedCount());
+            usage[ResourceUsage.WAITED_TIME] = TimeUnit.MILLISECONDS.toNanos(difference(waitedTime, threadInfo.getWaitedTime()));
+        } else {
+            usage[ResourceUsage.BLOCKED_COUNT] = 0;
+            usage[ResourceUsage.BLOCKED_TIME] = 0;
+            usage[ResourceUsage.WAITED_COUNT] = 0;
+            usage[ResourceUsage.WAITED_TIME] = 0;
+        }
+    }
+
+    long[] usage(long wallTime) {
+        usage[ResourceUsage.WALL_TIME] = wallTime;
+        usage[ResourceUsage.ALLOCATED_BYTES] = Math.max(0, usage[ResourceUsage.ALLOCATED_BYTES] - allocationOverhead);
+        return usage;
+    }
+
+    private static long difference(long oldValue, long newValue) {
+        // Values are -1 if they are not available, for instance for virtual threads
+        return oldValue < 0 || newValue < 0 ? 0 : Math.max(0, newValue - oldValue);
+    }
+}
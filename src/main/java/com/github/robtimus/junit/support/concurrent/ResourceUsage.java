@@ -0,0 +1,128 @@
+/*
+ * ResourceUsage.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.time.Duration;
+
+/**
+ * The resources used by calling suppliers using a {@link ConcurrentRunner}. This can be the resources used by a single call, or an aggregate for
+ * several calls; see {@link ResourceUsageReport}.
+ * <p>
+ * Blocked and waited times are only measured with millisecond precision.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class ResourceUsage {
+
+    // Values are stored in an array, so they can be aggregated without having to repeat code for each metric
+    static final int WALL_TIME = 0;
+    static final int CPU_TIME = 1;
+    static final int ALLOCATED_BYTES = 2;
+    static final int BLOCKED_COUNT = 3;
+    static final int BLOCKED_TIME = 4;
+    static final int WAITED_COUNT = 5;
+    static final int WAITED_TIME = 6;
+    static final int METRIC_COUNT = 7;
+
+    private final long[] values;
+
+    ResourceUsage(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the elapsed time.
+     *
+     * @return The elapsed time.
+     */
+    public Duration wallTime() {
+        return Duration.ofNanos(values[WALL_TIME]);
+    }
+
+    /**
+     * Returns the CPU time. This includes both user and system time.
+     *
+     * @return The CPU time.
+     */
+    public Duration cpuTime() {
+        return Duration.ofNanos(values[CPU_TIME]);
+    }
+
+    /**
+     * Returns the number of bytes allocated on the heap.
+     *
+     * @return The number of bytes allocated on the heap.
+     */
+    public long allocatedBytes() {
+        return values[ALLOCATED_BYTES];
+    }
+
+    /**
+     * Returns the number of times threads blocked to enter or reenter a monitor.
+     *
+     * @return The number of times threads blocked to enter or reenter a monitor.
+     */
+    public long blockedCount() {
+        return values[BLOCKED_COUNT];
+    }
+
+    /**
+     * Returns the time that threads were blocked to enter or reenter a monitor.
+     *
+     * @return The time that threads were blocked to enter or reenter a monitor.
+     */
+    public Duration blockedTime() {
+        return Duration.ofNanos(values[BLOCKED_TIME]);
+    }
+
+    /**
+     * Returns the number of times threads waited for notification, for instance using {@link Object#wait()} or
+     * {@link java.util.concurrent.locks.LockSupport#park()}. The latter is used by most classes in package {@code java.util.concurrent}, including
+     * {@link java.util.concurrent.locks.ReentrantLock}.
+     *
+     * @return The number of times threads waited for notification.
+     */
+    public long waitedCount() {
+        return values[WAITED_COUNT];
+    }
+
+    /**
+     * Returns the time that threads waited for notification, for instance using {@link Object#wait()} or
+     * {@link java.util.concurrent.locks.LockSupport#park()}.
+     *
+     * @return The time that threads waited for notification.
+     */
+    public Duration waitedTime() {
+        return Duration.ofNanos(values[WAITED_TIME]);
+    }
+
+    long value(int metric) {
+        return values[metric];
+    }
+
+    @Override
+    public String toString() {
+        return "wall time: " + wallTime()
+                + ", CPU time: " + cpuTime()
+                + ", allocated: " + allocatedBytes() + " bytes"
+                + ", blocked: " + blockedCount() + " times, " + blockedTime()
+                + ", waited: " + waitedCount() + " times, " + waitedTime();
+    }
+}
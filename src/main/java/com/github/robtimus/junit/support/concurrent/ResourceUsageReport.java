@@ -0,0 +1,182 @@
+/*
+ * ResourceUsageReport.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A report of the resources used by calling suppliers using a {@link ConcurrentRunner} with {@link ConcurrentRunner#withResourceAccounting()
+ * resource accounting}. It contains both the {@link #total() total} resource usage of all calls, and the {@link #max() maximum} resource usage of
+ * any single call.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class ResourceUsageReport {
+
+    private final long invocationCount;
+    private final ResourceUsage total;
+    private final ResourceUsage max;
+
+    private ResourceUsageReport(long invocationCount, ResourceUsage total, ResourceUsage max) {
+        this.invocationCount = invocationCount;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Returns the number of calls for which resource usage was recorded.
+     *
+     * @return The number of calls for which resource usage was recorded.
+     */
+    public long invocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * Returns the total resource usage of all calls.
+     *
+     * @return The total resource usage of all calls.
+     */
+    public ResourceUsage total() {
+        return total;
+    }
+
+    /**
+     * Returns the maximum resource usage of any single call. Each value is the maximum for that value only; the values need not come from the same
+     * call.
+     *
+     * @return The maximum resource usage of any single call.
+     */
+    public ResourceUsage max() {
+        return max;
+    }
+
+    /**
+     * Asserts that no call allocated more than a specific number of bytes on the heap.
+     *
+     * @param maximum The maximum number of bytes.
+     * @return This object.
+     * @throws AssertionError If any call allocated more than the given number of bytes.
+     */
+    public ResourceUsageReport assertAllocatedBytesAtMost(long maximum) {
+        long allocatedBytes = max.allocatedBytes();
+        if (allocatedBytes > maximum) {
+            throw assertionFailure()
+                    .reason(String.format("expected each call to allocate at most %d bytes but a call allocated %d bytes", maximum, allocatedBytes))
+                    .build();
+        }
+        return this;
+    }
+
+    /**
+     * Asserts that no call used more than a specific amount of CPU time.
+     *
+     * @param maximum The maximum CPU time.
+     * @return This object.
+     * @throws NullPointerException If the given maximum is {@code null}.
+     * @throws AssertionError If any call used more than the given amount of CPU time.
+     */
+    public ResourceUsageReport assertCpuTimeAtMost(Duration maximum) {
+        Objects.requireNonNull(maximum);
+        Duration cpuTime = max.cpuTime();
+        if (cpuTime.compareTo(maximum) > 0) {
+            throw assertionFailure()
+                    .reason(String.format("expected each call to use at most %s CPU time but a call used %s", maximum, cpuTime))
+                    .build();
+        }
+        return this;
+    }
+
+    /**
+     * Asserts that the total time that threads were blocked to enter or reenter a monitor is at most a specific fraction of the total wall time.
+     * For instance, {@code assertBlockedTimeRatioAtMost(0.05)} asserts that calls spent at most 5% of their time blocked.
+     *
+     * @param maximum The maximum fraction of the total wall time, usually between 0 and 1.
+     * @return This object.
+     * @throws AssertionError If the total blocked time exceeds the given fraction of the total wall time.
+     */
+    public ResourceUsageReport assertBlockedTimeRatioAtMost(double maximum) {
+        assertRatioAtMost(ResourceUsage.BLOCKED_TIME, maximum, "blocked");
+        return this;
+    }
+
+    /**
+     * Asserts that the total time that threads waited for notification is at most a specific fraction of the total wall time.
+     * For instance, {@code assertWaitedTimeRatioAtMost(0.05)} asserts that calls spent at most 5% of their time waiting.
+     *
+     * @param maximum The maximum fraction of the total wall time, usually between 0 and 1.
+     * @return This object.
+     * @throws AssertionError If the total waited time exceeds the given fraction of the total wall time.
+     */
+    public ResourceUsageReport assertWaitedTimeRatioAtMost(double maximum) {
+        assertRatioAtMost(ResourceUsage.WAITED_TIME, maximum, "waiting");
+        return this;
+    }
+
+    private void assertRatioAtMost(int metric, double maximum, String description) {
+        double ratio = ratio(metric);
+        if (ratio > maximum) {
+            throw assertionFailure()
+                    .reason(String.format(Locale.ROOT, "expected at most %.2f%% of the wall time to be spent %s but was %.2f%% (%s of %s)",
+                            maximum * 100, description, ratio * 100, Duration.ofNanos(total.value(metric)), total.wallTime()))
+                    .build();
+        }
+    }
+
+    private double ratio(int metric) {
+        long wallTime = total.value(ResourceUsage.WALL_TIME);
+        return wallTime == 0 ? 0 : total.value(metric) / (double) wallTime;
+    }
+
+    @Override
+    public String toString() {
+        return invocationCount + " calls; total: " + total + "; max: " + max;
+    }
+
+    static final class Accumulator {
+
+        private long invocationCount = 0;
+        private final long[] totals = new long[ResourceUsage.METRIC_COUNT];
+        private final long[] maxima = new long[ResourceUsage.METRIC_COUNT];
+
+        void record(long[] values) {
+            invocationCount++;
+            for (int i = 0; i < values.length; i++) {
+                totals[i] += values[i];
+                maxima[i] = Math.max(maxima[i], values[i]);
+            }
+        }
+
+        void add(Accumulator other) {
+            invocationCount += other.invocationCount;
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += other.totals[i];
+                maxima[i] = Math.max(maxima[i], other.maxima[i]);
+            }
+        }
+
+        ResourceUsageReport toReport() {
+            return new ResourceUsageReport(invocationCount, new ResourceUsage(totals.clone()), new ResourceUsage(maxima.clone()));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * ResultPublisher.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@SuppressWarnings("nls")
+final class ResultPublisher<T> implements Flow.Publisher<T> {
+
+    private final Iterator<ConcurrentResult<T>> results;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    ResultPublisher(Iterator<ConcurrentResult<T>> results) {
+        this.results = results;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException("Results can only be published to one subscriber"));
+            return;
+        }
+
+        ResultSubscription subscription = new ResultSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+
+        // Waiting for results and for demand both block, so use a dedicated thread
+        Thread thread = new Thread(subscription::publish, "ConcurrentResults-publisher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private final class ResultSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private long demand = 0;
+        private boolean cancelled = false;
+        private IllegalArgumentException invalidRequest = null;
+
+        private ResultSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public synchronized void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("non-positive request: " + n);
+            } else {
+                // Cap at Long.MAX_VALUE, which means unbounded
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        private void publish() {
+            try {
+                while (results.hasNext()) {
+                    ConcurrentResult<T> result = results.next();
+                    Throwable failure = result.failure();
+                    if (failure != null) {
+                        signalError(failure);
+                        return;
+                    }
+                    // Flow does not allow null items
+                    if (result.result() != null) {
+                        if (!awaitDemand()) {
+                            return;
+                        }
+                        subscriber.onNext(result.result());
+                    }
+                }
+                if (!isCancelled()) {
+                    subscriber.onComplete();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                signalError(e);
+            } catch (RuntimeException | Error e) {
+                signalError(e);
+            }
+        }
+
+        private synchronized boolean awaitDemand() throws InterruptedException {
+            while (demand == 0 && !cancelled && invalidRequest == null) {
+                wait();
+            }
+            if (invalidRequest != null) {
+                cancelled = true;
+                subscriber.onError(invalidRequest);
+                return false;
+            }
+            if (cancelled) {
+                return false;
+            }
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+            return true;
+        }
+
+        private synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void signalError(Throwable error) {
+            if (!isCancelled()) {
+                subscriber.onError(error);
+            }
+        }
+    }
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            // Nothing will be published
+        }
+
+        @Override
+        public void cancel() {
+            // Nothing will be published
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * ScalabilityReport.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * A report of how well code scales with the number of threads, as created by {@link ConcurrentRunner#measureScalability(int, Duration)}.
+ * <p>
+ * For each number of threads, this report contains the {@link Step#speedup() speedup} and {@link Step#efficiency() parallel efficiency}.
+ * The speedup is the throughput relative to the throughput with 1 thread. The parallel efficiency is the speedup divided by the number of threads.
+ * Code that scales perfectly has a parallel efficiency of 1; code that is effectively single threaded, for instance because of lock contention,
+ * has a parallel efficiency of 1 divided by the number of threads.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@SuppressWarnings("nls")
+public final class ScalabilityReport {
+
+    private final List<Step> steps;
+
+    ScalabilityReport(List<Step> steps) {
+        this.steps = Collections.unmodifiableList(steps);
+        double baseThroughput = steps.get(0).statistics.throughput();
+        for (Step step : steps) {
+            step.speedup = baseThroughput > 0
+                    ? step.statistics.throughput() / baseThroughput
+                    : Double.NaN;
+        }
+    }
+
+    /**
+     * Returns the steps of this report, one for each number of threads, ordered by number of threads.
+     *
+     * @return An unmodifiable list with the steps of this report.
+     */
+    public List<Step> steps() {
+        return steps;
+    }
+
+    /**
+     * Asserts that the parallel efficiency is at least a specific value for each number of threads.
+     * For instance, {@code assertScalesAtLeast(0.7)} asserts that 4 threads have a throughput of at least 2.8 times that of 1 thread.
+     *
+     * @param minimumEfficiency The minimum parallel efficiency, usually between 0 and 1.
+     * @return This object.
+     * @throws AssertionError If the parallel efficiency is less than the given minimum for any number of threads.
+     */
+    public ScalabilityReport assertScalesAtLeast(double minimumEfficiency) {
+        for (Step step : steps) {
+            double efficiency = step.efficiency();
+            if (!(efficiency >= minimumEfficiency)) {
+                throw assertionFailure()
+                        .reason(String.format(Locale.ROOT, "expected a parallel efficiency of at least %.2f but was %.2f with %d threads%n%s",
+                                minimumEfficiency, efficiency, step.threadCount, this))
+                        .build();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Asserts that no {@link Executable} or {@link ThrowingSupplier} threw an error
+     * or exception for any number of threads. This method calls {@link ConcurrentStatistics#assertNoFailures()} for each step.
+     *
+     * @return This object.
+     */
+    public ScalabilityReport assertNoFailures() {
+        steps.forEach(step -> step.statistics.assertNoFailures());
+        return this;
+    }
+
+    /**
+     * Returns a string representation of this report. This is a table with a row for each number of threads.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%8s %16s %8s %11s %8s%n", "threads", "calls/s", "speedup", "efficiency", "failures"));
+        for (Step step : steps) {
+            sb.append(String.format(Locale.ROOT, "%8d %16.2f %8.2f %11.2f %8d%n",
+                    step.threadCount, step.statistics.throughput(), step.speedup, step.efficiency(), step.statistics.failureCount()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The results for a single number of threads.
+     *
+     * @author Rob Spoor
+     * @since 3.3
+     */
+    public static final class Step {
+
+        private final int threadCount;
+        private final ConcurrentStatistics statistics;
+        private double speedup;
+
+        Step(int threadCount, ConcurrentStatistics statistics) {
+            this.threadCount = threadCount;
+            this.statistics = statistics;
+        }
+
+        /**
+         * Returns the number of threads used.
+         *
+         * @return The number of threads used.
+         */
+        public int threadCount() {
+            return threadCount;
+        }
+
+        /**
+         * Returns the statistics of calling the suppliers with the number of threads.
+         *
+         * @return The statistics of calling the suppliers with the number of threads.
+         */
+        public ConcurrentStatistics statistics() {
+            return statistics;
+        }
+
+        /**
+         * Returns the speedup: the throughput relative to the throughput with 1 thread.
+         *
+         * @return The speedup, or {@link Double#NaN} if no calls were made with 1 thread.
+         */
+        public double speedup() {
+            return speedup;
+        }
+
+        /**
+         * Returns the parallel efficiency: the speedup divided by the number of threads.
+         *
+         * @return The parallel efficiency, or {@link Double#NaN} if no calls were made with 1 thread.
+         */
+        public double efficiency() {
+            return speedup / threadCount;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SequentialModel.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.util.Optional;
+
+/**
+ * A sequential specification of a concurrent object, used by a {@link LinearizabilityChecker}.
+ * It describes how the object should behave if operations are performed one at a time.
+ * <p>
+ * States are immutable. They must implement {@link Object#equals(Object)} and {@link Object#hashCode()}, as the checker uses them to remember
+ * which combinations of state and performed operations it has already tried.
+ *
+ * @author Rob Spoor
+ * @param <S> The type of state.
+ * @param <I> The type of operation input.
+ * @param <O> The type of operation output.
+ * @since 3.3
+ */
+public interface SequentialModel<S, I, O> {
+
+    /**
+     * Returns the state before any operation is performed.
+     *
+     * @return The state before any operation is performed.
+     */
+    S initialState();
+
+    /**
+     * Performs an operation.
+     *
+     * @param state The state before the operation is performed. This must not be modified.
+     * @param input The input of the operation.
+     * @param output The output of the operation as recorded.
+     * @return An {@link Optional} describing the state after the operation is performed,
+     *         or {@link Optional#empty()} if performing the operation in the given state cannot produce the given output.
+     */
+    Optional<S> apply(S state, I input, O output);
+
+    /**
+     * Performs an operation that is {@link OperationHistory.Operation#isPending() pending}, because it threw an error or exception.
+     * Such an operation may or may not have taken effect. A {@link LinearizabilityChecker} tries both, using this method for the former.
+     * <p>
+     * By default this method returns {@link Optional#empty()}, which means that failed operations are never assumed to have taken effect.
+     * Models should override this method if operations can throw errors or exceptions after they have taken effect.
+     *
+     * @param state The state before the operation is performed. This must not be modified.
+     * @param input The input of the operation.
+     * @param failure The error or exception thrown by the operation.
+     * @return An {@link Optional} describing the state after the operation has taken effect,
+     *         or {@link Optional#empty()} if the operation cannot have taken effect.
+     */
+    default Optional<S> applyFailed(S state, I input, Throwable failure) {
+        return Optional.empty();
+    }
+}
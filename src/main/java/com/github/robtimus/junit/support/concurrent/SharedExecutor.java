@@ -0,0 +1,67 @@
+/*
+ * SharedExecutor.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * {@code SharedExecutor} can be used to annotate a field or a parameter in a lifecycle method or test method of type {@link ExecutorService} that
+ * should be resolved into an executor that can be shared by several {@link ConcurrentRunner} instances.
+ * This executor can be passed to {@link ConcurrentRunner#withExecutor(ExecutorService)} or {@link ConcurrencySettings#withExecutor(ExecutorService)}.
+ * <p>
+ * Shared executors reuse their threads, which prevents having to create and shut down threads for each concurrent run. They can run any number of
+ * tasks concurrently, and threads that have not been used for a while will be stopped.
+ * Shared executors are shut down automatically when they go out of scope; they should not be shut down manually.
+ *
+ * @author Rob Spoor
+ * @since 3.3
+ */
+@ExtendWith(SharedExecutorExtension.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SharedExecutor {
+
+    /**
+     * The scope of the executor. Defaults to {@link Scope#CLASS}.
+     */
+    Scope value() default Scope.CLASS;
+
+    /**
+     * The possible scopes of shared executors.
+     *
+     * @author Rob Spoor
+     * @since 3.3
+     */
+    enum Scope {
+        /**
+         * Indicates that an executor is shared by all tests in the same test class.
+         * Each nested test class gets its own executor.
+         */
+        CLASS,
+
+        /**
+         * Indicates that an executor is shared by all tests that are executed by the same test engine.
+         */
+        ENGINE
+    }
+}
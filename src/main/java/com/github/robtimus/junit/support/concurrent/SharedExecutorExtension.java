@@ -0,0 +1,95 @@
+/*
+ * SharedExecutorExtension.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.JUnitException;
+import com.github.robtimus.junit.support.extension.AnnotationBasedInjectingExtension;
+import com.github.robtimus.junit.support.extension.AutoCloseableResource;
+import com.github.robtimus.junit.support.extension.InjectionTarget;
+
+@SuppressWarnings("nls")
+class SharedExecutorExtension extends AnnotationBasedInjectingExtension<SharedExecutor> {
+
+    private static final Namespace NAMESPACE = Namespace.create(SharedExecutorExtension.class);
+
+    SharedExecutorExtension() {
+        super(SharedExecutor.class, MethodHandles.lookup());
+    }
+
+    @Override
+    protected Optional<JUnitException> validateTarget(InjectionTarget target, SharedExecutor sharedExecutor, ExtensionContext context) {
+        Class<?> targetType = target.type();
+        return targetType == ExecutorService.class
+                ? Optional.empty()
+                : Optional.of(target.createException("Target type not supported: " + targetType));
+    }
+
+    @Override
+    protected Object resolveValue(InjectionTarget target, SharedExecutor sharedExecutor, ExtensionContext context) {
+        return sharedExecutor(sharedExecutor.value(), context);
+    }
+
+    @SuppressWarnings("resource")
+    static ExecutorService sharedExecutor(SharedExecutor.Scope scope, ExtensionContext context) {
+        ExtensionContext scopeContext = scope == SharedExecutor.Scope.ENGINE
+                ? context.getRoot()
+                : classContext(context);
+        return scopeContext.getStore(NAMESPACE)
+                .getOrComputeIfAbsent(CloseableExecutor.class, k -> new CloseableExecutor(), CloseableExecutor.class)
+                .executor;
+    }
+
+    private static ExtensionContext classContext(ExtensionContext context) {
+        ExtensionContext current = context;
+        while (current.getTestMethod().isPresent()) {
+            current = current.getParent().orElseThrow(IllegalStateException::new);
+        }
+        return current;
+    }
+
+    private static final class CloseableExecutor implements AutoCloseableResource {
+
+        private final ExecutorService executor;
+
+        private CloseableExecutor() {
+            ThreadFactory threadFactory = Executors.defaultThreadFactory();
+            // Use daemon threads, so an executor that is not shut down will not prevent the JVM from exiting
+            executor = Executors.newCachedThreadPool(r -> {
+                Thread thread = threadFactory.newThread(r);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            executor.shutdown();
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The executor should have terminated within 5 seconds");
+            }
+        }
+    }
+}
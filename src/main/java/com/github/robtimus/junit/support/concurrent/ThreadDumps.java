@@ -0,0 +1,117 @@
+/*
+ * ThreadDumps.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@SuppressWarnings("nls")
+final class ThreadDumps {
+
+    // Module java.management is an optional dependency. Callers must handle a LinkageError if it's not available.
+
+    private ThreadDumps() {
+    }
+
+    @SuppressWarnings("deprecation")
+    static void appendDump(StringBuilder sb, Collection<Thread> threads) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        long[] deadlockedThreadIds = threadMXBean.isSynchronizerUsageSupported()
+                ? threadMXBean.findDeadlockedThreads()
+                : threadMXBean.findMonitorDeadlockedThreads();
+        if (deadlockedThreadIds != null) {
+            sb.append(String.format("%n%nDeadlock detected:%n"));
+            for (ThreadInfo threadInfo : threadMXBean.getThreadInfo(deadlockedThreadIds)) {
+                if (threadInfo != null) {
+                    sb.append(String.format("  \"%s\" is waiting for %s, which is held by \"%s\"%n",
+                            threadInfo.getThreadName(), threadInfo.getLockName(), threadInfo.getLockOwnerName()));
+                }
+            }
+        }
+
+        // Include deadlocked threads that are not calling suppliers, as they are part of the problem
+        Set<Long> threadIds = new LinkedHashSet<>();
+        threads.forEach(thread -> threadIds.add(thread.getId()));
+        if (deadlockedThreadIds != null) {
+            Arrays.stream(deadlockedThreadIds).forEach(threadIds::add);
+        }
+
+        long[] ids = threadIds.stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(ids, threadMXBean.isObjectMonitorUsageSupported(),
+                threadMXBean.isSynchronizerUsageSupported());
+
+        sb.append(String.format("%n%nThreads:%n"));
+        for (ThreadInfo threadInfo : threadInfos) {
+            // Thread info is null for threads that have terminated, and for virtual threads
+            if (threadInfo != null) {
+                appendThread(sb, threadInfo);
+            }
+        }
+    }
+
+    private static void appendThread(StringBuilder sb, ThreadInfo threadInfo) {
+        // ThreadInfo.toString() includes at most 8 stack frames, so format the thread info completely
+        sb.append(String.format("\"%s\" #%d %s", threadInfo.getThreadName(), threadInfo.getThreadId(), threadInfo.getThreadState()));
+        if (threadInfo.getLockName() != null) {
+            sb.append(" on ").append(threadInfo.getLockName());
+        }
+        if (threadInfo.getLockOwnerName() != null) {
+            sb.append(String.format(" owned by \"%s\" #%d", threadInfo.getLockOwnerName(), threadInfo.getLockOwnerId()));
+        }
+        sb.append(System.lineSeparator());
+
+        StackTraceElement[] stackTrace = threadInfo.getStackTrace();
+        MonitorInfo[] lockedMonitors = threadInfo.getLockedMonitors();
+        for (int i = 0; i < stackTrace.length; i++) {
+            sb.append(String.format("    at %s%n", stackTrace[i]));
+            if (i == 0 && threadInfo.getLockInfo() != null) {
+                sb.append(String.format("    - %s %s%n", lockAction(threadInfo.getThreadState()), threadInfo.getLockInfo()));
+            }
+            for (MonitorInfo lockedMonitor : lockedMonitors) {
+                if (lockedMonitor.getLockedStackDepth() == i) {
+                    sb.append(String.format("    - locked %s%n", lockedMonitor));
+                }
+            }
+        }
+
+        LockInfo[] lockedSynchronizers = threadInfo.getLockedSynchronizers();
+        if (lockedSynchronizers.length > 0) {
+            sb.append(String.format("    Locked synchronizers:%n"));
+            for (LockInfo lockedSynchronizer : lockedSynchronizers) {
+                sb.append(String.format("    - %s%n", lockedSynchronizer));
+            }
+        }
+        sb.append(System.lineSeparator());
+    }
+
+    private static String lockAction(Thread.State state) {
+        return state == Thread.State.BLOCKED
+                ? "blocked on"
+                : "waiting on";
+    }
+}
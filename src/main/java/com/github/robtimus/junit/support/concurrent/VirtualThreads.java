@@ -0,0 +1,72 @@
+/*
+ * VirtualThreads.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@SuppressWarnings("nls")
+final class VirtualThreads {
+
+    // Virtual threads are only available in Java 21 and up, while this library targets Java 11.
+    // Thread.ofVirtual().factory() and Executors.newThreadPerTaskExecutor(ThreadFactory) are therefore looked up reflectively once.
+    private static final ThreadFactory FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        ThreadFactory factory;
+        Method newThreadPerTaskExecutor;
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            // Use the public Thread.Builder interface; the actual builder class is not accessible
+            factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            factory = null;
+            newThreadPerTaskExecutor = null;
+        }
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    static void validateSupported() {
+        if (FACTORY == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or higher; current version: "
+                    + System.getProperty("java.version"));
+        }
+    }
+
+    static ExecutorService newExecutor() {
+        validateSupported();
+        // Virtual threads are cheap to create, so there is no need to pool them.
+        // This also prevents the overhead of shutting down a thread pool with a large number of workers.
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, FACTORY);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
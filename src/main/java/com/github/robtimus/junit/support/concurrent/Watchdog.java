@@ -0,0 +1,177 @@
+/*
+ * Watchdog.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.opentest4j.AssertionFailedError;
+
+@SuppressWarnings("nls")
+final class Watchdog {
+
+    private static final long MIN_POLL_INTERVAL = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_POLL_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Duration timeout;
+    private final Duration invocationTimeout;
+    private final Slot[] slots;
+    private final long pollIntervalInNanos;
+    private final Thread thread;
+    private volatile boolean stopped = false;
+    private volatile boolean timedOut = false;
+
+    private CompletableFuture<?> future;
+    private long startTime;
+
+    Watchdog(Duration timeout, Duration invocationTimeout, int poolSize) {
+        this.timeout = timeout;
+        this.invocationTimeout = invocationTimeout;
+        this.slots = new Slot[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            slots[i] = new Slot();
+        }
+        // Poll often enough to detect timeouts within 10% of their duration
+        long shortestTimeout = Math.min(nanosOrMax(timeout), nanosOrMax(invocationTimeout));
+        this.pollIntervalInNanos = Math.max(MIN_POLL_INTERVAL, Math.min(MAX_POLL_INTERVAL, shortestTimeout / 10));
+        this.thread = new Thread(this::run, "ConcurrentRunner-watchdog");
+        this.thread.setDaemon(true);
+    }
+
+    private static long nanosOrMax(Duration duration) {
+        return duration != null ? duration.toNanos() : Long.MAX_VALUE;
+    }
+
+    Slot slot(int workerIndex) {
+        return slots[workerIndex];
+    }
+
+    void start(CompletableFuture<?> futureToComplete) {
+        this.future = futureToComplete;
+        this.startTime = System.nanoTime();
+        thread.start();
+    }
+
+    void stop() {
+        stopped = true;
+        thread.interrupt();
+    }
+
+    boolean timedOut() {
+        return timedOut;
+    }
+
+    // Called instead of start if not all workers started within the timeout; the given workers are waiting for the others to start
+    void notStarted(CompletableFuture<?> futureToComplete, int startedCount, List<Thread> startedWorkers) {
+        this.future = futureToComplete;
+        String reason = String.format("Only %d of %d threads started within %s; the executor may not be able to run that many tasks concurrently",
+                startedCount, slots.length, timeout);
+        fail(reason, startedWorkers);
+    }
+
+    private void run() {
+        while (!stopped) {
+            String reason = checkTimeouts(System.nanoTime());
+            if (reason != null) {
+                timeout(reason);
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(pollIntervalInNanos);
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private String checkTimeouts(long now) {
+        if (timeout != null && now - startTime >= timeout.toNanos()) {
+            return "Calls did not complete within " + timeout;
+        }
+        if (invocationTimeout != null) {
+            long invocationTimeoutInNanos = invocationTimeout.toNanos();
+            for (Slot slot : slots) {
+                // Read the thread first; callStart is written before it
+                Thread worker = slot.thread;
+                if (worker != null && now - slot.callStart >= invocationTimeoutInNanos) {
+                    return String.format("A call in thread \"%s\" did not complete within %s", worker.getName(), invocationTimeout);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void timeout(String reason) {
+        List<Thread> workers = activeWorkers();
+
+        fail(reason, workers);
+
+        // Allow calls that respond to interrupts to stop; deadlocked calls will never stop
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void fail(String reason, List<Thread> workers) {
+        StringBuilder sb = new StringBuilder(reason);
+        try {
+            ThreadDumps.appendDump(sb, workers);
+        } catch (@SuppressWarnings("unused") LinkageError e) {
+            sb.append(String.format("%n%nNo thread dump available: module java.management is required"));
+        }
+        AssertionFailedError error = assertionFailure()
+                .reason(sb.toString())
+                .build();
+
+        // Set the flag before completing the future, so workers stop before anything can process their interrupted calls
+        timedOut = true;
+        future.completeExceptionally(error);
+    }
+
+    private List<Thread> activeWorkers() {
+        List<Thread> workers = new ArrayList<>(slots.length);
+        for (Slot slot : slots) {
+            Thread worker = slot.thread;
+            if (worker != null) {
+                workers.add(worker);
+            }
+        }
+        return workers;
+    }
+
+    final class Slot {
+
+        private long callStart;
+        // Non-null while a call is in progress
+        private volatile Thread thread;
+
+        void callStarted() {
+            callStart = System.nanoTime();
+            thread = Thread.currentThread();
+        }
+
+        void callEnded() {
+            thread = null;
+        }
+
+        boolean timedOut() {
+            return timedOut;
+        }
+    }
+}
@@ -26,6 +26,8 @@ module com.github.robtimus.junit.support {
     requires org.junit.platform.commons;
     requires org.mockito;
     requires static java.logging;
+    requires static java.management;
+    requires static jdk.management;
     requires static org.apache.logging.log4j;
     requires static org.apache.logging.log4j.core;
     requires static ch.qos.logback.classic;
@@ -32,9 +32,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AssertionFailureBuilder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -2809,6 +2817,139 @@ class AssertionFailedErrorBuilderTest {
             }
         }
 
+        @Nested
+        @DisplayName("with limits")
+        class WithLimits {
+
+            @Test
+            @DisplayName("default limits")
+            void testDefaultLimits() {
+                int[] expected = new int[10_000_000];
+                int[] actual = new int[10_000_000];
+                actual[0] = 1;
+
+                AssertionFailedError error = assertionFailedError()
+                        .expected(expected)
+                        .actual(actual)
+                        .build();
+
+                String expectedString = objectToString(Arrays.copyOf(expected, 100)).replace("]", ", ...and 9,999,900 more]");
+                String actualString = objectToString(Arrays.copyOf(actual, 100)).replace("]", ", ...and 9,999,900 more]");
+
+                assertEquals("expected: <" + expectedString + "> but was: <" + actualString + ">", error.getMessage());
+                assertSame(expected, error.getExpected().getEphemeralValue());
+                assertEquals(expectedString, error.getExpected().getStringRepresentation());
+                assertSame(actual, error.getActual().getEphemeralValue());
+                assertEquals(actualString, error.getActual().getStringRepresentation());
+            }
+
+            @Test
+            @DisplayName("custom limits")
+            void testCustomLimits() {
+                List<Integer> expected = Arrays.asList(1, 2, 3, 4, 5);
+                String actual = "abcdefghijklmno";
+
+                AssertionFailedError error = assertionFailedError()
+                        .maxElements(3)
+                        .maxValueLength(10)
+                        .reasonPattern("some reason with %s")
+                                .withValue(expected)
+                                .format()
+                        .expected(expected)
+                        .actual(actual)
+                        .build();
+
+                assertEquals("some reason with <[1, 2, 3, ...and 2 more]>, "
+                        + "expected: <[1, 2, 3, ...and 2 more]> but was: <abcdefghij...and 5 more characters>", error.getMessage());
+                assertSame(expected, error.getExpected().getEphemeralValue());
+                assertSame(actual, error.getActual().getEphemeralValue());
+            }
+
+            @Test
+            @DisplayName("multiple values")
+            void testMultipleValues() {
+                AssertionFailedError error = assertionFailedError()
+                        .maxElements(2)
+                        .expectedOneOf(1, 2, 3, 4)
+                        .actual(5)
+                        .build();
+
+                assertEquals("expected: one of <1>, <2>, ...and 2 more but was: <5>", error.getMessage());
+                assertEquals(Arrays.asList(1, 2, 3, 4), error.getExpected().getEphemeralValue());
+                assertEquals("[1, 2, ...and 2 more]", error.getExpected().getStringRepresentation());
+            }
+
+            @Test
+            @DisplayName("invalid limits")
+            void testInvalidLimits() {
+                AssertionFailedErrorBuilder builder = assertionFailedError();
+
+                assertThrows(IllegalArgumentException.class, () -> builder.maxElements(0));
+                assertThrows(IllegalArgumentException.class, () -> builder.maxValueLength(0));
+            }
+        }
+
+        @Nested
+        @DisplayName("with byte arrays")
+        class WithByteArrays {
+
+            @Test
+            @DisplayName("different content")
+            void testDifferentContent() {
+                byte[] expected = new byte[10_000_000];
+                byte[] actual = expected.clone();
+                actual[5_000_000] = 'A';
+
+                AssertionFailedError error = assertionFailedError()
+                        .message("some message")
+                        .expected(expected)
+                        .actual(actual)
+                        .build();
+
+                String zeroes = "00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|";
+                String expectedMessage = "some message ==> byte arrays differ at index [5000000]\n"
+                        + "expected length: 10000000, actual length: 10000000, differing bytes shown: 1\n"
+                        + " 004c4b30  " + zeroes + "\n"
+                        + "-004c4b40  " + zeroes + "\n"
+                        + "+004c4b40  41 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |A...............|\n"
+                        + "           ^^\n"
+                        + " 004c4b50  " + zeroes + "\n"
+                        + " 004c4b60  " + zeroes;
+                assertEquals(expectedMessage, error.getMessage());
+                assertSame(expected, error.getExpected().getEphemeralValue());
+                assertSame(actual, error.getActual().getEphemeralValue());
+            }
+
+            @Test
+            @DisplayName("with prefix")
+            void testWithPrefix() {
+                byte[] expected = { 1, 2, 3 };
+                byte[] actual = { 1, 2, 4 };
+
+                AssertionFailedError error = assertionFailedError()
+                        .prefixed("not").expected(expected)
+                        .actual(actual)
+                        .build();
+
+                assertEquals("expected: not <[1, 2, 3]> but was: <[1, 2, 4]>", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("same content")
+            void testSameContent() {
+                byte[] expected = { 1, 2, 3 };
+                byte[] actual = { 1, 2, 3 };
+
+                AssertionFailedError error = assertionFailedError()
+                        .expected(expected)
+                        .actual(actual)
+                        .build();
+
+                assertEquals("expected: [B@" + Integer.toHexString(System.identityHashCode(expected)) + "<[1, 2, 3]> but was: [B@"
+                        + Integer.toHexString(System.identityHashCode(actual)) + "<[1, 2, 3]>", error.getMessage());
+            }
+        }
+
         private void assertEqualErrors(AssertionFailedError expected, AssertionFailedError actual) {
             assertEquals(expected.getMessage(), actual.getMessage());
             assertEqualValueWrappers(expected.getExpected(), actual.getExpected());
@@ -3033,5 +3174,82 @@ class AssertionFailedErrorBuilderTest {
                 }
             }));
         }
+
+        @Test
+        @DisplayName("recursive Object[]")
+        void testRecursiveObjectArray() {
+            Object[] array = new Object[2];
+            array[0] = "foo";
+            array[1] = array;
+            assertEquals(Arrays.deepToString(array), objectToString(array));
+        }
+
+        @Test
+        @DisplayName("with limits")
+        void testWithLimits() {
+            assertEquals("[1, 2, ...and 1 more]", objectToString(new int[] { 1, 2, 3 }, 2, 100));
+            assertEquals("[[1, 2, ...and 1 more], [4], ...and 1 more]", objectToString(new int[][] { { 1, 2, 3 }, { 4 }, { 5 } }, 2, 100));
+            assertEquals("[...and 3 more]", objectToString(new int[] { 1, 2, 3 }, 3, 1));
+            assertEquals("[1, 2, ...and 1 more]", objectToString(Arrays.asList(1, 2, 3), 2, 100));
+            assertEquals("[1, 2, 3]", objectToString(Arrays.asList(1, 2, 3), 3, 100));
+
+            Map<Integer, String> map = new TreeMap<>();
+            map.put(1, "a");
+            map.put(2, "b");
+            map.put(3, "c");
+            assertEquals("{1=a, 2=b, ...and 1 more}", objectToString(map, 2, 100));
+
+            assertEquals("foo...and 3 more characters", objectToString("foobar", 2, 3));
+            assertEquals("[foo...and 3 more characters]", objectToString(new String[] { "foobar" }, 2, 4));
+        }
+
+        @Test
+        @DisplayName("with limits for nested containers")
+        void testWithLimitsForNestedContainers() {
+            List<Integer> largeList = IntStream.range(0, 1_000_000).boxed().collect(Collectors.toList());
+            assertEquals("[[0, 1, ...and 999,998 more]]", objectToString(Collections.singletonList(largeList), 2, 100));
+            assertEquals("[[0, 1, ...and 999,998 more], foo]", objectToString(new Object[] { largeList, "foo" }, 2, 100));
+
+            Map<String, List<Integer>> map = Collections.singletonMap("a", largeList);
+            assertEquals("{a=[0, 1, ...and 999,998 more]}", objectToString(map, 2, 100));
+            assertEquals("[{a=[0, 1, ...and 999,998 more]}]", objectToString(Collections.singletonList(map), 2, 100));
+
+            // The length limit applies to the entire string, not per nested container
+            assertEquals("[[0, 1, 2, 3, ...and 999,996 more]]", objectToString(Collections.singletonList(largeList), 100, 10));
+        }
+
+        @Test
+        @DisplayName("recursive collections and maps")
+        void testRecursiveCollectionsAndMaps() {
+            List<Object> list = new ArrayList<>();
+            list.add("foo");
+            list.add(list);
+            assertEquals(list.toString(), objectToString(list, 100, 100));
+
+            Map<String, Object> map = new HashMap<>();
+            map.put("a", map);
+            assertEquals(map.toString(), objectToString(map, 100, 100));
+
+            List<Object> outer = new ArrayList<>();
+            List<Object> inner = new ArrayList<>();
+            outer.add(inner);
+            inner.add(outer);
+            assertEquals("[[[...]]]", objectToString(outer, 100, 100));
+        }
+
+        @Test
+        @DisplayName("collection with custom string representation")
+        void testCollectionWithCustomStringRepresentation() {
+            List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public String toString() {
+                    return "custom";
+                }
+            };
+            assertEquals("custom", objectToString(list, 2, 100));
+            assertEquals("[custom]", objectToString(Collections.singletonList(list), 2, 100));
+        }
     }
 }
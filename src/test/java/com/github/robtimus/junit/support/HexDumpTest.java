@@ -0,0 +1,112 @@
+/*
+ * HexDumpTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class HexDumpTest {
+
+    @Test
+    @DisplayName("windowStart(long)")
+    void testWindowStart() {
+        assertEquals(0, HexDump.windowStart(0));
+        assertEquals(0, HexDump.windowStart(31));
+        assertEquals(16, HexDump.windowStart(32));
+        assertEquals(0xFFFF_FFF0L, HexDump.windowStart(0x1_0000_0005L));
+    }
+
+    @Test
+    @DisplayName("tailLength(long)")
+    void testTailLength() {
+        assertEquals(64, HexDump.tailLength(0));
+        assertEquals(33, HexDump.tailLength(31));
+        assertEquals(48, HexDump.tailLength(32));
+    }
+
+    @Test
+    @DisplayName("dump(long, byte[])")
+    void testDump() {
+        byte[] bytes = "0123456789abcdef\u0000\u007f~".getBytes();
+        String expected = "00000010  30 31 32 33 34 35 36 37  38 39 61 62 63 64 65 66  |0123456789abcdef|\n"
+                + "00000020  00 7f 7e                                          |..~|";
+        assertEquals(expected, HexDump.dump(16, bytes));
+        assertEquals("", HexDump.dump(0, new byte[0]));
+    }
+
+    @Nested
+    @DisplayName("diff(long, byte[], long, byte[], long)")
+    class Diff {
+
+        @Test
+        @DisplayName("different bytes")
+        void testDifferentBytes() {
+            byte[] expected = "0123456789abcdef0123456789abcdef".getBytes();
+            byte[] actual = "0123456789abcdef0X23456789abcdeX".getBytes();
+            String diff = " 00000000  30 31 32 33 34 35 36 37  38 39 61 62 63 64 65 66  |0123456789abcdef|\n"
+                    + "-00000010  30 31 32 33 34 35 36 37  38 39 61 62 63 64 65 66  |0123456789abcdef|\n"
+                    + "+00000010  30 58 32 33 34 35 36 37  38 39 61 62 63 64 65 58  |0X23456789abcdeX|\n"
+                    + "              ^^                                         ^^";
+            assertEquals("expected length: 100, actual length: 100, differing bytes shown: 2\n" + diff, HexDump.diff(0, expected, 100, actual, 100));
+        }
+
+        @Test
+        @DisplayName("different lengths")
+        void testDifferentLengths() {
+            byte[] expected = "foo".getBytes();
+            byte[] actual = "foobar".getBytes();
+            String diff = "-00000000  66 6f 6f                                          |foo|\n"
+                    + "+00000000  66 6f 6f 62 61 72                                 |foobar|\n"
+                    + "                    ^^ ^^ ^^";
+            assertEquals("expected length: 3, differing bytes shown: 3\n" + diff, HexDump.diff(0, expected, 3, actual, -1));
+        }
+
+        @Test
+        @DisplayName("missing row")
+        void testMissingRow() {
+            byte[] expected = new byte[17];
+            byte[] actual = new byte[16];
+            String diff = " 00000000  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n"
+                    + "-00000010  00" + " ".repeat(48) + "|.|\n"
+                    + "           ^^";
+            assertEquals("differing bytes shown: 1\n" + diff, HexDump.diff(0, expected, -1, actual, -1));
+        }
+
+        @Test
+        @DisplayName("large offset")
+        void testLargeOffset() {
+            byte[] expected = { 1 };
+            byte[] actual = { 2 };
+            String diff = "-100000000  01" + " ".repeat(48) + "|.|\n"
+                    + "+100000000  02" + " ".repeat(48) + "|.|\n"
+                    + "            ^^";
+            assertEquals("differing bytes shown: 1\n" + diff, HexDump.diff(0x1_0000_0000L, expected, -1, actual, -1));
+        }
+    }
+
+    @Test
+    @DisplayName("countDifferences(byte[], byte[])")
+    void testCountDifferences() {
+        assertEquals(0, HexDump.countDifferences(new byte[] { 1, 2 }, new byte[] { 1, 2 }));
+        assertEquals(1, HexDump.countDifferences(new byte[] { 1, 2 }, new byte[] { 1, 3 }));
+        assertEquals(3, HexDump.countDifferences(new byte[] { 1, 2 }, new byte[] { 2, 2, 3, 4 }));
+    }
+}
@@ -17,13 +17,23 @@
 
 package com.github.robtimus.junit.support;
 
+import static com.github.robtimus.junit.support.IOAssertions.assertAllSerializable;
 import static com.github.robtimus.junit.support.IOAssertions.assertContainsContent;
+import static com.github.robtimus.junit.support.IOAssertions.assertContentDigest;
 import static com.github.robtimus.junit.support.IOAssertions.assertNotSerializable;
+import static com.github.robtimus.junit.support.IOAssertions.assertSameContent;
 import static com.github.robtimus.junit.support.IOAssertions.assertSerializable;
+import static com.github.robtimus.junit.support.IOAssertions.assertSerializationRoundTrip;
+import static com.github.robtimus.junit.support.IOAssertions.assertSerializedSizeAtMost;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -31,10 +41,28 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
 import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Serializable;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.apache.commons.io.input.BrokenInputStream;
@@ -44,6 +72,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
+import com.github.robtimus.junit.support.IOAssertions.ContentDigest;
+import com.github.robtimus.junit.support.IOAssertions.SerializationRoundTrip;
 
 @SuppressWarnings("nls")
 class IOAssertionsTest {
@@ -135,6 +165,154 @@ class IOAssertionsTest {
             }
         }
 
+        @Nested
+        @DisplayName("Reader does not contain large content")
+        class ReaderDoesNotContainLargeContent {
+
+            @Test
+            @DisplayName("different character")
+            void testDifferentCharacter() {
+                String content = repeat('a', 100_000);
+                StringReader reader = new StringReader(content.substring(0, 50_000) + "b" + content.substring(50_001));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                String expected = "..." + repeat('a', 33) + "...";
+                String actual = "..." + repeat('a', 16) + "b" + repeat('a', 16) + "...";
+                assertEquals("content differs at index [50000], expected: <" + expected + "> but was: <" + actual + ">", error.getMessage());
+                assertEquals(expected, error.getExpected().getValue());
+                assertEquals(actual, error.getActual().getValue());
+            }
+
+            @Test
+            @DisplayName("content too short")
+            void testContentTooShort() {
+                String content = repeat('a', 100);
+                StringReader reader = new StringReader(repeat('a', 50));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content, "error"));
+                String expected = "..." + repeat('a', 33) + "...";
+                String actual = "..." + repeat('a', 16);
+                assertEquals("error ==> content differs at index [50], expected: <" + expected + "> but was: <" + actual + ">", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too long")
+            void testContentTooLong() {
+                String content = repeat('a', 100);
+                StringReader reader = new StringReader(repeat('a', 200));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                assertEquals("content differs at index [100], expected: <..." + repeat('a', 16) + "> but was: <..." + repeat('a', 33) + "...>",
+                        error.getMessage());
+            }
+
+            @Test
+            @DisplayName("control characters are escaped")
+            void testControlCharactersEscaped() {
+                String content = "foo\tbar\u0001" + repeat('a', 100);
+                StringReader reader = new StringReader("foo\tbaz\u0001" + repeat('a', 100));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                assertThat(error.getMessage(), startsWith("content differs at index [6], expected: <foo\\tbar\\u0001a"));
+                assertThat(error.getMessage(), containsString("but was: <foo\\tbaz\\u0001a"));
+            }
+
+            @Test
+            @DisplayName("reading stops at first difference")
+            void testReadingStopsAtFirstDifference() throws IOException {
+                String content = repeat('a', 100_000);
+                StringReader reader = new StringReader("b" + content.substring(1));
+                assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                assertEquals('a', reader.read());
+            }
+        }
+
+        @Nested
+        @DisplayName("Reader does not contain large multi-line content")
+        class ReaderDoesNotContainLargeMultiLineContent {
+
+            @Test
+            @DisplayName("different line")
+            void testDifferentLine() {
+                String content = lines(1, 1000);
+                String actualContent = content.replace("line 500\n", "changed\n");
+                StringReader reader = new StringReader(actualContent);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                String expectedMessage = "content differs at line 500, column 1:\n"
+                        + "@@ -497,7 +497,7 @@\n"
+                        + " line 497\n"
+                        + " line 498\n"
+                        + " line 499\n"
+                        + "-line 500\n"
+                        + "+changed\n"
+                        + " line 501\n"
+                        + " line 502\n"
+                        + " line 503";
+                assertEquals(expectedMessage, error.getMessage());
+                assertEquals(content, error.getExpected().getValue());
+                assertEquals(actualContent, error.getActual().getValue());
+            }
+
+            @Test
+            @DisplayName("different line terminator")
+            void testDifferentLineTerminator() {
+                String content = "line1\nline2\t" + repeat('a', 100);
+                StringReader reader = new StringReader("line1\r\nline2\t" + repeat('a', 100));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content, "error"));
+                String expectedMessage = "error ==> content differs at line 1, column 6:\n"
+                        + "@@ -1,2 +1,2 @@\n"
+                        + "-line1\n"
+                        + "+line1\\r\n"
+                        + " line2\\t" + repeat('a', 100) + "\n"
+                        + "\\ No newline at end of content";
+                assertEquals(expectedMessage, error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too short")
+            void testContentTooShort() {
+                String content = lines(1, 10);
+                StringReader reader = new StringReader(lines(1, 8));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                String expectedMessage = "content differs at line 9, column 1:\n"
+                        + "@@ -6,5 +6,3 @@\n"
+                        + " line 6\n"
+                        + " line 7\n"
+                        + " line 8\n"
+                        + "-line 9\n"
+                        + "-line 10";
+                assertEquals(expectedMessage, error.getMessage());
+            }
+
+            @Test
+            @DisplayName("many differences")
+            void testManyDifferences() {
+                String content = lines(1, 1000);
+                String actualContent = content.replace("0\n", "0 changed\n");
+                StringReader reader = new StringReader(actualContent);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                assertThat(error.getMessage(), startsWith("content differs at line 10, column 8:\n@@ -7,7 +7,7 @@\n"));
+                assertThat(error.getMessage(), endsWith("\n..."));
+                assertEquals(4, error.getMessage().split("@@ ").length);
+                assertEquals(actualContent, error.getActual().getValue());
+            }
+
+            @Test
+            @DisplayName("content much longer")
+            void testContentMuchLonger() throws IOException {
+                String content = lines(1, 100);
+                StringReader reader = new StringReader(content + lines(101, 1_000_000));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(reader, content));
+                assertThat(error.getMessage(), startsWith("content differs at line 101, column 1:\n@@ -98,3 +98,"));
+                assertThat(error.getMessage(), endsWith("\n...\n\\ Remaining content not compared"));
+                assertNotEquals(-1, reader.read());
+            }
+
+            private String lines(int from, int to) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = from; i <= to; i++) {
+                    sb.append("line ").append(i).append('\n');
+                }
+                return sb.toString();
+            }
+        }
+
         @Nested
         @DisplayName("Reader throws exception")
         class ReaderThrowsException {
@@ -242,6 +420,60 @@ class IOAssertionsTest {
             }
         }
 
+        @Nested
+        @DisplayName("InputStream does not contain large content")
+        class InputStreamDoesNotContainLargeContent {
+
+            @Test
+            @DisplayName("different byte")
+            void testDifferentByte() {
+                byte[] content = new byte[100_000];
+                byte[] actualContent = content.clone();
+                actualContent[50_000] = (byte) 0xAB;
+                ByteArrayInputStream inputStream = new ByteArrayInputStream(actualContent);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(inputStream, content));
+                assertEquals("array contents differ at index [50000]\n" + zeroesDiff("expected length: 100000, ", 50_000, "ab"), error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too short")
+            void testContentTooShort() {
+                byte[] content = "foobar".getBytes();
+                ByteArrayInputStream inputStream = new ByteArrayInputStream("foo".getBytes());
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(inputStream, content));
+                assertEquals("array lengths differ, expected: <6> but was: <3>", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too long")
+            void testContentTooLong() {
+                byte[] content = "foo".getBytes();
+                InputStream inputStream = new SequenceInputStream(new ByteArrayInputStream(content), new ByteArrayInputStream(new byte[100_000]));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(inputStream, content, "error"));
+                assertEquals("error ==> content is longer than expected, expected: <3> but was: at least <8195>", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("longer content is not read entirely")
+            void testLongerContentIsNotReadEntirely() {
+                byte[] content = "foo".getBytes();
+                ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[1_000_000]);
+                assertThrows(AssertionFailedError.class, () -> assertContainsContent(inputStream, content));
+                assertThat(inputStream.available(), greaterThan(0));
+            }
+
+            @Test
+            @DisplayName("reading stops at first difference")
+            void testReadingStopsAtFirstDifference() {
+                byte[] content = new byte[1_000_000];
+                byte[] actualContent = content.clone();
+                actualContent[10] = 1;
+                ByteArrayInputStream inputStream = new ByteArrayInputStream(actualContent);
+                assertThrows(AssertionFailedError.class, () -> assertContainsContent(inputStream, content));
+                assertThat(inputStream.available(), greaterThan(0));
+            }
+        }
+
         @Nested
         @DisplayName("InputStream throws exception")
         class InputStreamThrowsException {
@@ -279,6 +511,216 @@ class IOAssertionsTest {
             }
         }
 
+        @Nested
+        @DisplayName("ByteBuffer contains content")
+        class ByteBufferContainsContent {
+
+            @Test
+            @DisplayName("heap buffer")
+            void testHeapBuffer() {
+                byte[] content = "foo".getBytes();
+                ByteBuffer buffer = ByteBuffer.wrap("xfoox".getBytes(), 1, 3);
+                assertContainsContent(buffer, content);
+                assertContainsContent(buffer, content, "error");
+                assertContainsContent(buffer, content, () -> "error");
+                assertEquals(1, buffer.position());
+                assertEquals(4, buffer.limit());
+            }
+
+            @Test
+            @DisplayName("direct buffer")
+            void testDirectBuffer() {
+                byte[] content = new byte[100_000];
+                new Random(content.length).nextBytes(content);
+                ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+                buffer.put(content).flip();
+                assertContainsContent(buffer, content);
+                assertEquals(0, buffer.position());
+                assertEquals(content.length, buffer.limit());
+            }
+        }
+
+        @Nested
+        @DisplayName("ByteBuffer does not contain content")
+        class ByteBufferDoesNotContainContent {
+
+            @Test
+            @DisplayName("different byte")
+            void testDifferentByte() {
+                byte[] content = new byte[100_000];
+                ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+                buffer.put(50_000, (byte) 0xAB);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(buffer, content));
+                assertEquals("array contents differ at index [50000]\n"
+                        + zeroesDiff("expected length: 100000, actual length: 100000, ", 50_000, "ab"), error.getMessage());
+                assertEquals(0, buffer.position());
+            }
+
+            @Test
+            @DisplayName("content too short")
+            void testContentTooShort() {
+                ByteBuffer buffer = ByteBuffer.wrap("foo".getBytes());
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertContainsContent(buffer, "foobar".getBytes(), "error"));
+                assertEquals("error ==> array lengths differ, expected: <6> but was: <3>", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too long")
+            void testContentTooLong() {
+                ByteBuffer buffer = ByteBuffer.wrap("foobar".getBytes());
+                Supplier<String> messageSupplier = () -> "error";
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertContainsContent(buffer, "foo".getBytes(), messageSupplier));
+                assertEquals("error ==> array lengths differ, expected: <3> but was: <6>", error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("ReadableByteChannel contains content")
+        class ReadableByteChannelContainsContent {
+
+            @Test
+            @DisplayName("without message or message supplier")
+            void testWithoutMessageOrMessageSupplier() {
+                byte[] content = new byte[100_000];
+                new Random(content.length).nextBytes(content);
+                assertContainsContent(Channels.newChannel(new ByteArrayInputStream(content)), content);
+            }
+
+            @Test
+            @DisplayName("with message")
+            void testWithMessage() {
+                byte[] content = "foo".getBytes();
+                assertContainsContent(Channels.newChannel(new ByteArrayInputStream(content)), content, "error");
+            }
+
+            @Test
+            @DisplayName("with message supplier")
+            void testWithMessageSupplier() {
+                byte[] content = "foo".getBytes();
+                assertContainsContent(Channels.newChannel(new ByteArrayInputStream(content)), content, () -> "error");
+            }
+        }
+
+        @Nested
+        @DisplayName("ReadableByteChannel does not contain content")
+        class ReadableByteChannelDoesNotContainContent {
+
+            @Test
+            @DisplayName("different byte")
+            void testDifferentByte() {
+                byte[] content = new byte[100_000];
+                byte[] actualContent = content.clone();
+                actualContent[50_000] = (byte) 0xAB;
+                ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(actualContent));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(channel, content, "error"));
+                assertEquals("error ==> array contents differ at index [50000]\n" + zeroesDiff("expected length: 100000, ", 50_000, "ab"),
+                        error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too short")
+            void testContentTooShort() {
+                ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream("foo".getBytes()));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(channel, "foobar".getBytes()));
+                assertEquals("array lengths differ, expected: <6> but was: <3>", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too long")
+            void testContentTooLong() {
+                ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(new byte[100_003]));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(channel, new byte[3]));
+                assertEquals("content is longer than expected, expected: <3> but was: at least <8192>", error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("CharBuffer contains content")
+        class CharBufferContainsContent {
+
+            @Test
+            @DisplayName("without message or message supplier")
+            void testWithoutMessageOrMessageSupplier() {
+                CharBuffer buffer = CharBuffer.wrap("xfoox", 1, 4);
+                assertContainsContent(buffer, "foo");
+                assertEquals(1, buffer.position());
+                assertEquals(4, buffer.limit());
+            }
+
+            @Test
+            @DisplayName("with message")
+            void testWithMessage() {
+                CharBuffer buffer = CharBuffer.wrap("foo".toCharArray());
+                assertContainsContent(buffer, "foo", "error");
+            }
+
+            @Test
+            @DisplayName("with message supplier")
+            void testWithMessageSupplier() {
+                CharBuffer buffer = CharBuffer.wrap("foo");
+                assertContainsContent(buffer, "foo", () -> "error");
+            }
+        }
+
+        @Nested
+        @DisplayName("CharBuffer does not contain content")
+        class CharBufferDoesNotContainContent {
+
+            @Test
+            @DisplayName("small content")
+            void testSmallContent() {
+                CharBuffer buffer = CharBuffer.wrap("bar");
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(buffer, "foo"));
+                assertEquals("expected: <foo> but was: <bar>", error.getMessage());
+                assertEquals(0, buffer.position());
+            }
+
+            @Test
+            @DisplayName("large content")
+            void testLargeContent() {
+                String content = repeat('a', 100_000);
+                CharBuffer buffer = CharBuffer.wrap(content.substring(0, 50_000) + "b" + content.substring(50_001));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(buffer, content, "error"));
+                String expected = "..." + repeat('a', 33) + "...";
+                String actual = "..." + repeat('a', 16) + "b" + repeat('a', 16) + "...";
+                assertEquals("error ==> content differs at index [50000], expected: <" + expected + "> but was: <" + actual + ">",
+                        error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too short")
+            void testContentTooShort() {
+                CharBuffer buffer = CharBuffer.wrap(repeat('a', 50));
+                Supplier<String> messageSupplier = () -> "error";
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertContainsContent(buffer, repeat('a', 100), messageSupplier));
+                String expected = "..." + repeat('a', 33) + "...";
+                String actual = "..." + repeat('a', 16);
+                assertEquals("error ==> content differs at index [50], expected: <" + expected + "> but was: <" + actual + ">", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("multi-line content")
+            void testMultiLineContent() {
+                String content = "line 1\nline 2\nline 3\nline 4\nline 5\nline 6\nline 7\nline 8\nline 9\n";
+                CharBuffer buffer = CharBuffer.wrap(content.replace("line 5", "changed"));
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContainsContent(buffer, content));
+                String expectedMessage = "content differs at line 5, column 1:\n"
+                        + "@@ -2,7 +2,7 @@\n"
+                        + " line 2\n"
+                        + " line 3\n"
+                        + " line 4\n"
+                        + "-line 5\n"
+                        + "+changed\n"
+                        + " line 6\n"
+                        + " line 7\n"
+                        + " line 8";
+                assertEquals(expectedMessage, error.getMessage());
+            }
+        }
+
         @Nested
         @DisplayName("InputStream contains string content")
         class InputStreamContainsStringContent {
@@ -424,6 +866,443 @@ class IOAssertionsTest {
         }
     }
 
+    @Nested
+    @DisplayName("assertSameContent")
+    class AssertSameContent {
+
+        @Nested
+        @DisplayName("InputStream")
+        class InputStreamContent {
+
+            @Test
+            @DisplayName("same content")
+            void testSameContent() {
+                byte[] content = randomContent(100_000);
+                assertSameContent(new ByteArrayInputStream(content), new ByteArrayInputStream(content));
+                assertSameContent(new ByteArrayInputStream(content), new ByteArrayInputStream(content), "error");
+                assertSameContent(new ByteArrayInputStream(content), new ByteArrayInputStream(content), () -> "error");
+            }
+
+            @Test
+            @DisplayName("empty content")
+            void testEmptyContent() {
+                assertSameContent(new ByteArrayInputStream(new byte[0]), new ByteArrayInputStream(new byte[0]));
+            }
+
+            @Test
+            @DisplayName("different byte")
+            void testDifferentByte() {
+                byte[] content = new byte[100_000];
+                byte[] actualContent = content.clone();
+                actualContent[50_000] = (byte) 0xAB;
+                InputStream inputStream = new ByteArrayInputStream(actualContent);
+                InputStream expectedContent = new ByteArrayInputStream(content);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(inputStream, expectedContent));
+                assertEquals("content differs at index [50000]\n" + zeroesDiff("", 50_000, "ab"), error.getMessage());
+            }
+
+            @Test
+            @DisplayName("different byte at chunk boundary")
+            void testDifferentByteAtChunkBoundary() {
+                byte[] content = new byte[100_000];
+                byte[] actualContent = content.clone();
+                actualContent[8192] = 1;
+                InputStream inputStream = new ByteArrayInputStream(actualContent);
+                InputStream expectedContent = new ByteArrayInputStream(content);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(inputStream, expectedContent, "error"));
+                assertEquals("error ==> content differs at index [8192]\n" + zeroesDiff("", 8192, "01"), error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too short")
+            void testContentTooShort() {
+                InputStream inputStream = new ByteArrayInputStream(new byte[3]);
+                InputStream expectedContent = new ByteArrayInputStream(new byte[100_000]);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(inputStream, expectedContent));
+                assertEquals("content is shorter than expected, expected: at least <8192> but was: <3>", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content too long")
+            void testContentTooLong() {
+                InputStream inputStream = new ByteArrayInputStream(new byte[100_000]);
+                InputStream expectedContent = new ByteArrayInputStream(new byte[8192]);
+                Supplier<String> messageSupplier = () -> "error";
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertSameContent(inputStream, expectedContent, messageSupplier));
+                assertEquals("error ==> content is longer than expected, expected: <8192> but was: at least <16384>", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("longer content is not read entirely")
+            void testLongerContentIsNotReadEntirely() {
+                ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[1_000_000]);
+                InputStream expectedContent = new ByteArrayInputStream(new byte[8192]);
+                assertThrows(AssertionFailedError.class, () -> assertSameContent(inputStream, expectedContent));
+                assertThat(inputStream.available(), greaterThan(0));
+            }
+
+            @Test
+            @DisplayName("reading stops at first difference")
+            void testReadingStopsAtFirstDifference() {
+                byte[] content = new byte[1_000_000];
+                byte[] actualContent = content.clone();
+                actualContent[10] = 1;
+                ByteArrayInputStream inputStream = new ByteArrayInputStream(actualContent);
+                ByteArrayInputStream expectedContent = new ByteArrayInputStream(content);
+                assertThrows(AssertionFailedError.class, () -> assertSameContent(inputStream, expectedContent));
+                assertThat(inputStream.available(), greaterThan(0));
+                assertThat(expectedContent.available(), greaterThan(0));
+            }
+
+            @Test
+            @DisplayName("InputStream throws exception")
+            void testThrowsException() {
+                @SuppressWarnings("resource")
+                InputStream inputStream = new BrokenInputStream();
+                InputStream expectedContent = new ByteArrayInputStream(new byte[0]);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(inputStream, expectedContent, "error"));
+                assertThat(error.getMessage(), startsWith("error ==> Unexpected exception thrown: " + IOException.class.getName()));
+            }
+        }
+
+        @Nested
+        @DisplayName("Path")
+        class PathContent {
+
+            @Test
+            @DisplayName("same content")
+            void testSameContent() throws IOException {
+                byte[] content = randomContent(100_000);
+                Path file = createFile(content);
+                Path expectedFile = createFile(content);
+                try {
+                    assertSameContent(file, expectedFile);
+                    assertSameContent(file, expectedFile, "error");
+                    assertSameContent(file, expectedFile, () -> "error");
+                } finally {
+                    Files.delete(file);
+                    Files.delete(expectedFile);
+                }
+            }
+
+            @Test
+            @DisplayName("empty content")
+            void testEmptyContent() throws IOException {
+                Path file = createFile(new byte[0]);
+                try {
+                    assertSameContent(file, file);
+                } finally {
+                    Files.delete(file);
+                }
+            }
+
+            @Test
+            @DisplayName("different byte")
+            void testDifferentByte() throws IOException {
+                byte[] content = new byte[100_000];
+                byte[] actualContent = content.clone();
+                actualContent[50_000] = (byte) 0xAB;
+                Path file = createFile(actualContent);
+                Path expectedFile = createFile(content);
+                try {
+                    AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(file, expectedFile, "error"));
+                    assertEquals("error ==> content differs at index [50000]\n"
+                            + zeroesDiff("expected length: 100000, actual length: 100000, ", 50_000, "ab"), error.getMessage());
+                } finally {
+                    Files.delete(file);
+                    Files.delete(expectedFile);
+                }
+            }
+
+            @Test
+            @DisplayName("different byte near start and end")
+            void testDifferentByteNearStartAndEnd() throws IOException {
+                Path file = createFile("foo".getBytes());
+                Path expectedFile = createFile("fob".getBytes());
+                try {
+                    AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(file, expectedFile));
+                    String expectedMessage = "content differs at index [2]\n"
+                            + "expected length: 3, actual length: 3, differing bytes shown: 1\n"
+                            + "-00000000  66 6f 62                                          |fob|\n"
+                            + "+00000000  66 6f 6f                                          |foo|\n"
+                            + "                 ^^";
+                    assertEquals(expectedMessage, error.getMessage());
+                    assertEquals("00000000  66 6f 62                                          |fob|", error.getExpected().getStringRepresentation());
+                    assertEquals("00000000  66 6f 6f                                          |foo|", error.getActual().getStringRepresentation());
+                } finally {
+                    Files.delete(file);
+                    Files.delete(expectedFile);
+                }
+            }
+
+            @Test
+            @DisplayName("content lengths differ")
+            void testContentLengthsDiffer() throws IOException {
+                Path file = createFile(new byte[100_000]);
+                Path expectedFile = createFile(new byte[3]);
+                try {
+                    Supplier<String> messageSupplier = () -> "error";
+                    AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                            () -> assertSameContent(file, expectedFile, messageSupplier));
+                    assertEquals("error ==> content lengths differ, expected: <3> but was: <100000>", error.getMessage());
+                } finally {
+                    Files.delete(file);
+                    Files.delete(expectedFile);
+                }
+            }
+
+            @Test
+            @DisplayName("same content larger than mapped files")
+            void testSameContentLargerThanMappedFiles() throws IOException {
+                long size = 100L * 1024 * 1024 + 3;
+                Path file = createSparseFile(size, (byte) 1);
+                Path expectedFile = createSparseFile(size, (byte) 1);
+                try {
+                    assertSameContent(file, expectedFile);
+                } finally {
+                    Files.delete(file);
+                    Files.delete(expectedFile);
+                }
+            }
+
+            @Test
+            @DisplayName("different content larger than mapped files")
+            void testDifferentContentLargerThanMappedFiles() throws IOException {
+                long size = 100L * 1024 * 1024 + 3;
+                Path file = createSparseFile(size, (byte) 1);
+                Path expectedFile = createSparseFile(size, (byte) 2);
+                try {
+                    AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(file, expectedFile));
+                    assertThat(error.getMessage(), startsWith("content differs at index [" + (size - 1) + "]\n"
+                            + "expected length: " + size + ", actual length: " + size + ", differing bytes shown: 1\n"));
+                } finally {
+                    Files.delete(file);
+                    Files.delete(expectedFile);
+                }
+            }
+
+            @Test
+            @DisplayName("non-existing file")
+            void testNonExistingFile() throws IOException {
+                Path file = createFile(new byte[0]);
+                Files.delete(file);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(file, file));
+                assertThat(error.getMessage(), startsWith("Unexpected exception thrown: " + NoSuchFileException.class.getName()));
+            }
+
+            private Path createFile(byte[] content) throws IOException {
+                Path file = Files.createTempFile("IOAssertionsTest", ".bin");
+                return Files.write(file, content);
+            }
+
+            private Path createSparseFile(long size, byte lastByte) throws IOException {
+                Path file = Files.createTempFile("IOAssertionsTest", ".bin");
+                // Only the last byte is written; the file system is free to not store the zeroes before it
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.write(ByteBuffer.wrap(new byte[] { lastByte }), size - 1);
+                }
+                return file;
+            }
+        }
+
+        @Nested
+        @DisplayName("ReadableByteChannel")
+        class ReadableByteChannelContent {
+
+            @Test
+            @DisplayName("same content")
+            void testSameContent() {
+                byte[] content = randomContent(100_000);
+                assertSameContent(channel(content), channel(content));
+                assertSameContent(channel(content), channel(content), "error");
+                assertSameContent(channel(content), channel(content), () -> "error");
+            }
+
+            @Test
+            @DisplayName("different byte")
+            void testDifferentByte() {
+                byte[] content = new byte[100_000];
+                byte[] actualContent = content.clone();
+                actualContent[50_000] = (byte) 0xAB;
+                ReadableByteChannel channel = channel(actualContent);
+                ReadableByteChannel expectedContent = channel(content);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(channel, expectedContent));
+                assertEquals("content differs at index [50000]\n" + zeroesDiff("", 50_000, "ab"), error.getMessage());
+            }
+
+            @Test
+            @DisplayName("content lengths differ")
+            void testContentLengthsDiffer() {
+                ReadableByteChannel channel = channel(new byte[3]);
+                ReadableByteChannel expectedContent = channel(new byte[4]);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSameContent(channel, expectedContent, "error"));
+                assertEquals("error ==> content lengths differ, expected: <4> but was: <3>", error.getMessage());
+            }
+
+            private ReadableByteChannel channel(byte[] content) {
+                return Channels.newChannel(new ByteArrayInputStream(content));
+            }
+        }
+
+        private byte[] randomContent(int length) {
+            byte[] content = new byte[length];
+            new Random(length).nextBytes(content);
+            return content;
+        }
+    }
+
+    @Nested
+    @DisplayName("assertContentDigest")
+    class AssertContentDigest {
+
+        private static final String FOO_DIGEST = "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae";
+
+        @Nested
+        @DisplayName("InputStream")
+        class InputStreamContent {
+
+            @Test
+            @DisplayName("matching digest")
+            void testMatchingDigest() {
+                assertContentDigest(new ByteArrayInputStream("foo".getBytes()), "SHA-256", FOO_DIGEST);
+                assertContentDigest(new ByteArrayInputStream("foo".getBytes()), "SHA-256", FOO_DIGEST.toUpperCase(), "error");
+                assertContentDigest(new ByteArrayInputStream("foo".getBytes()), "SHA-256", FOO_DIGEST, () -> "error");
+            }
+
+            @Test
+            @DisplayName("large content")
+            void testLargeContent() throws NoSuchAlgorithmException {
+                byte[] content = new byte[1_000_000];
+                new Random(content.length).nextBytes(content);
+                String expectedDigest = toHex(MessageDigest.getInstance("SHA-256").digest(content));
+                ContentDigest digest = assertContentDigest(new ByteArrayInputStream(content), "SHA-256", expectedDigest);
+                assertEquals(1_000_000, digest.size());
+            }
+
+            @Test
+            @DisplayName("returned digest")
+            void testReturnedDigest() {
+                ContentDigest digest = assertContentDigest(new ByteArrayInputStream("foo".getBytes()), "SHA-256", FOO_DIGEST.toUpperCase());
+                assertEquals("SHA-256", digest.algorithm());
+                assertEquals(FOO_DIGEST, digest.digest());
+                assertEquals(3, digest.size());
+                assertFalse(digest.duration().isNegative());
+                assertThat(digest.throughput(), greaterThan(0D));
+                assertEquals("3 bytes, digested in " + digest.duration(), digest.toString());
+            }
+
+            @Test
+            @DisplayName("non-matching digest")
+            void testNonMatchingDigest() {
+                InputStream inputStream = new ByteArrayInputStream("foo".getBytes());
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContentDigest(inputStream, "SHA-256", "abc"));
+                assertEquals("SHA-256 digest differs for 3 bytes, expected: <abc> but was: <" + FOO_DIGEST + ">", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("non-matching digest with message")
+            void testNonMatchingDigestWithMessage() {
+                InputStream inputStream = new ByteArrayInputStream("foo".getBytes());
+                Supplier<String> messageSupplier = () -> "error";
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertContentDigest(inputStream, "SHA-256", "abc", messageSupplier));
+                assertEquals("error ==> SHA-256 digest differs for 3 bytes, expected: <abc> but was: <" + FOO_DIGEST + ">", error.getMessage());
+            }
+
+            @Test
+            @DisplayName("unknown algorithm")
+            void testUnknownAlgorithm() {
+                ByteArrayInputStream inputStream = new ByteArrayInputStream("foo".getBytes());
+                assertThrows(IllegalArgumentException.class, () -> assertContentDigest(inputStream, "unknown", FOO_DIGEST));
+                assertEquals(3, inputStream.available());
+            }
+
+            @Test
+            @DisplayName("InputStream throws exception")
+            void testThrowsException() {
+                @SuppressWarnings("resource")
+                InputStream inputStream = new BrokenInputStream();
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContentDigest(inputStream, "SHA-256", FOO_DIGEST));
+                assertThat(error.getMessage(), startsWith("Unexpected exception thrown: " + IOException.class.getName()));
+            }
+        }
+
+        @Nested
+        @DisplayName("ReadableByteChannel")
+        class ReadableByteChannelContent {
+
+            @Test
+            @DisplayName("matching digest")
+            void testMatchingDigest() {
+                assertEquals(FOO_DIGEST, assertContentDigest(channel("foo"), "SHA-256", FOO_DIGEST).digest());
+                assertEquals(FOO_DIGEST, assertContentDigest(channel("foo"), "SHA-256", FOO_DIGEST, "error").digest());
+                assertEquals(FOO_DIGEST, assertContentDigest(channel("foo"), "SHA-256", FOO_DIGEST, () -> "error").digest());
+            }
+
+            @Test
+            @DisplayName("non-matching digest")
+            void testNonMatchingDigest() {
+                ReadableByteChannel channel = channel("foo");
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContentDigest(channel, "MD5", FOO_DIGEST, "error"));
+                assertEquals("error ==> MD5 digest differs for 3 bytes, expected: <" + FOO_DIGEST + "> but was: <acbd18db4cc2f85cedef654fccc4a4d8>",
+                        error.getMessage());
+            }
+
+            private ReadableByteChannel channel(String content) {
+                return Channels.newChannel(new ByteArrayInputStream(content.getBytes()));
+            }
+        }
+
+        @Nested
+        @DisplayName("Path")
+        class PathContent {
+
+            @Test
+            @DisplayName("matching digest")
+            void testMatchingDigest() throws IOException {
+                Path file = Files.write(Files.createTempFile("IOAssertionsTest", ".txt"), "foo".getBytes());
+                try {
+                    assertEquals(3, assertContentDigest(file, "SHA-256", FOO_DIGEST).size());
+                    assertEquals(3, assertContentDigest(file, "SHA-256", FOO_DIGEST, "error").size());
+                    assertEquals(3, assertContentDigest(file, "SHA-256", FOO_DIGEST, () -> "error").size());
+                } finally {
+                    Files.delete(file);
+                }
+            }
+
+            @Test
+            @DisplayName("non-matching digest")
+            void testNonMatchingDigest() throws IOException {
+                Path file = Files.createTempFile("IOAssertionsTest", ".txt");
+                try {
+                    AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContentDigest(file, "SHA-256", FOO_DIGEST));
+                    assertEquals("SHA-256 digest differs for 0 bytes, expected: <" + FOO_DIGEST
+                            + "> but was: <e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855>", error.getMessage());
+                } finally {
+                    Files.delete(file);
+                }
+            }
+
+            @Test
+            @DisplayName("non-existing file")
+            void testNonExistingFile() throws IOException {
+                Path file = Files.createTempFile("IOAssertionsTest", ".txt");
+                Files.delete(file);
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertContentDigest(file, "SHA-256", FOO_DIGEST));
+                assertThat(error.getMessage(), startsWith("Unexpected exception thrown: " + NoSuchFileException.class.getName()));
+            }
+        }
+
+        private String toHex(byte[] bytes) {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : bytes) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        }
+    }
+
     @Nested
     @DisplayName("assertSerializable(T)")
     class AssertSerializable {
@@ -604,4 +1483,157 @@ class IOAssertionsTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("assertSerializationRoundTrip(T)")
+    class AssertSerializationRoundTrip {
+
+        @Test
+        @DisplayName("with serializable object")
+        void testWithSerializableObject() {
+            UUID input = UUID.randomUUID();
+            SerializationRoundTrip<UUID> roundTrip = assertSerializationRoundTrip(input);
+            assertEquals(input, roundTrip.deserialized());
+            assertNotSame(input, roundTrip.deserialized());
+            assertThat(roundTrip.serializedSize(), greaterThan(0));
+            assertFalse(roundTrip.serializationTime().isNegative());
+            assertFalse(roundTrip.deserializationTime().isNegative());
+            assertThat(roundTrip.toString(), startsWith(roundTrip.serializedSize() + " bytes, serialized in "));
+        }
+
+        @Test
+        @DisplayName("with non-serializable object")
+        void testWithNonSerializableObject() {
+            Object input = new Object();
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSerializationRoundTrip(input, "error"));
+            assertThat(error.getMessage(), startsWith("error ==> Unexpected exception thrown: " + NotSerializableException.class.getName()));
+        }
+    }
+
+    @Nested
+    @DisplayName("assertSerializedSizeAtMost(T, int)")
+    class AssertSerializedSizeAtMost {
+
+        @Test
+        @DisplayName("with small enough object")
+        void testWithSmallEnoughObject() {
+            String input = UUID.randomUUID().toString();
+            int size = assertSerializationRoundTrip(input).serializedSize();
+            assertEquals(input, assertSerializedSizeAtMost(input, size).deserialized());
+            assertEquals(input, assertSerializedSizeAtMost(input, size, "error").deserialized());
+            assertEquals(input, assertSerializedSizeAtMost(input, size, () -> "error").deserialized());
+        }
+
+        @Test
+        @DisplayName("with too large object")
+        void testWithTooLargeObject() {
+            String input = UUID.randomUUID().toString();
+            int size = assertSerializationRoundTrip(input).serializedSize();
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSerializedSizeAtMost(input, size - 1));
+            assertEquals("serialized size is too large, expected: at most <" + (size - 1) + "> but was: <" + size + ">", error.getMessage());
+        }
+
+        @Test
+        @DisplayName("with too large object and message supplier")
+        void testWithTooLargeObjectAndMessageSupplier() {
+            byte[] input = new byte[1000];
+            Supplier<String> messageSupplier = () -> "error";
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSerializedSizeAtMost(input, 1000, messageSupplier));
+            assertThat(error.getMessage(), startsWith("error ==> serialized size is too large, expected: at most <1000> but was: <"));
+        }
+
+        @Test
+        @DisplayName("with non-serializable object")
+        void testWithNonSerializableObject() {
+            Object input = new Object();
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertSerializedSizeAtMost(input, 1000));
+            assertThat(error.getMessage(), startsWith("Unexpected exception thrown: " + NotSerializableException.class.getName()));
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllSerializable(Collection)")
+    class AssertAllSerializable {
+
+        @Test
+        @DisplayName("with serializable objects")
+        void testWithSerializableObjects() {
+            List<UUID> input = Arrays.asList(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+            List<UUID> deserialized = assertAllSerializable(input);
+            assertEquals(input, deserialized);
+            for (int i = 0; i < input.size(); i++) {
+                assertNotSame(input.get(i), deserialized.get(i));
+            }
+            assertEquals(input, assertAllSerializable(input, "error"));
+            assertEquals(input, assertAllSerializable(input, () -> "error"));
+        }
+
+        @Test
+        @DisplayName("with objects of different sizes")
+        void testWithObjectsOfDifferentSizes() {
+            List<Object> input = Arrays.asList(repeat('a', 10_000), "b", null, repeat('c', 100));
+            assertEquals(input, assertAllSerializable(input));
+        }
+
+        @Test
+        @DisplayName("with empty collection")
+        void testWithEmptyCollection() {
+            assertEquals(Collections.emptyList(), assertAllSerializable(Collections.emptyList()));
+        }
+
+        @Test
+        @DisplayName("with non-serializable object")
+        void testWithNonSerializableObject() {
+            List<Object> input = Arrays.asList("foo", new Object());
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllSerializable(input));
+            assertThat(error.getMessage(),
+                    startsWith("Unexpected exception thrown for object at index [1]: " + NotSerializableException.class.getName()));
+            assertInstanceOf(NotSerializableException.class, error.getCause());
+        }
+
+        @Test
+        @DisplayName("with non-serializable object and message")
+        void testWithNonSerializableObjectAndMessage() {
+            List<Object> input = Arrays.asList(new Object(), "foo");
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllSerializable(input, "error"));
+            assertThat(error.getMessage(), startsWith("error ==> Unexpected exception thrown for object at index [0]: "));
+        }
+
+        @Test
+        @DisplayName("with object that throws an unchecked exception when serialized")
+        void testWithObjectThatThrowsUncheckedException() {
+            List<Object> input = Arrays.asList("foo", new FailingSerializable());
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllSerializable(input));
+            assertThat(error.getMessage(),
+                    startsWith("Unexpected exception thrown for object at index [1]: " + IllegalStateException.class.getName()));
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+        }
+    }
+
+    private static final class FailingSerializable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private void writeObject(@SuppressWarnings("unused") ObjectOutputStream output) {
+            throw new IllegalStateException("not now");
+        }
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    // Returns the expected hex dump for zeroes with one different byte at index, which must be a multiple of 16 and at least 16
+    private static String zeroesDiff(String lengths, long index, String actualHex) {
+        String zeroes = "00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|";
+        return lengths + "differing bytes shown: 1\n"
+                + String.format(" %08x  %s\n", index - 16, zeroes)
+                + String.format("-%08x  %s\n", index, zeroes)
+                + String.format("+%08x  %s%s\n", index, actualHex, zeroes.substring(2))
+                + "           ^^\n"
+                + String.format(" %08x  %s\n", index + 16, zeroes)
+                + String.format(" %08x  %s", index + 32, zeroes);
+    }
 }
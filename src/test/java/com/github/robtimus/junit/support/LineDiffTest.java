@@ -0,0 +1,122 @@
+/*
+ * LineDiffTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class LineDiffTest {
+
+    @Test
+    @DisplayName("lines(CharSequence)")
+    void testLines() {
+        assertEquals(Arrays.asList("a\n", "b\r\n", "c\r", "d"), LineDiff.lines("a\nb\r\nc\rd"));
+        assertEquals(Arrays.asList("a\n", "\n"), LineDiff.lines("a\n\n"));
+        assertEquals(Collections.emptyList(), LineDiff.lines(""));
+    }
+
+    @Nested
+    @DisplayName("unifiedDiff(CharSequence, CharSequence, int, boolean)")
+    class UnifiedDiff {
+
+        @Test
+        @DisplayName("equal content")
+        void testEqualContent() {
+            assertEquals("", LineDiff.unifiedDiff("a\nb\n", "a\nb\n", 1, false));
+        }
+
+        @Test
+        @DisplayName("inserted line")
+        void testInsertedLine() {
+            assertEquals("@@ -1,2 +1,3 @@\n a\n+x\n b", LineDiff.unifiedDiff("a\nb\n", "a\nx\nb\n", 1, false));
+        }
+
+        @Test
+        @DisplayName("deleted line")
+        void testDeletedLine() {
+            assertEquals("@@ -10,3 +10,2 @@\n a\n-x\n b", LineDiff.unifiedDiff("a\nx\nb\n", "a\nb\n", 10, false));
+        }
+
+        @Test
+        @DisplayName("empty content")
+        void testEmptyContent() {
+            assertEquals("@@ -0,0 +1 @@\n+a", LineDiff.unifiedDiff("", "a\n", 1, false));
+        }
+
+        @Test
+        @DisplayName("separate hunks")
+        void testSeparateHunks() {
+            String expected = "1\n2\n3\n4\n5\n6\n7\n8\n9\n10\n11\n12\n";
+            String actual = "x\n2\n3\n4\n5\n6\n7\n8\n9\n10\n11\ny\n";
+            assertEquals("@@ -1,4 +1,4 @@\n-1\n+x\n 2\n 3\n 4\n@@ -9,4 +9,4 @@\n 9\n 10\n 11\n-12\n+y",
+                    LineDiff.unifiedDiff(expected, actual, 1, false));
+        }
+
+        @Test
+        @DisplayName("close changes are combined")
+        void testCloseChangesCombined() {
+            String expected = "1\n2\n3\n4\n5\n6\n7\n8\n";
+            String actual = "x\n2\n3\n4\n5\n6\n7\ny\n";
+            assertEquals("@@ -1,8 +1,8 @@\n-1\n+x\n 2\n 3\n 4\n 5\n 6\n 7\n-8\n+y", LineDiff.unifiedDiff(expected, actual, 1, false));
+        }
+
+        @Test
+        @DisplayName("missing newline at end")
+        void testMissingNewlineAtEnd() {
+            assertEquals("@@ -1 +1 @@\n-a\n+a\n\\ No newline at end of content", LineDiff.unifiedDiff("a\n", "a", 1, false));
+        }
+
+        @Test
+        @DisplayName("long lines are truncated")
+        void testLongLinesTruncated() {
+            char[] chars = new char[1000];
+            Arrays.fill(chars, 'a');
+            String line = new String(chars);
+            String diff = LineDiff.unifiedDiff("b\n", line + "\n", 1, false);
+            assertEquals("@@ -1 +1 @@\n-b\n+" + line.substring(0, 200) + "...", diff);
+        }
+
+        @Test
+        @DisplayName("too many edits")
+        void testTooManyEdits() {
+            StringBuilder expected = new StringBuilder();
+            StringBuilder actual = new StringBuilder();
+            for (int i = 0; i < 600; i++) {
+                expected.append("expected ").append(i).append('\n');
+                actual.append("actual ").append(i).append('\n');
+            }
+            String diff = LineDiff.unifiedDiff(expected, actual, 1, false);
+            assertThat(diff, startsWith("@@ -1,600 +1,600 @@\n-expected 0\n-expected 1\n"));
+            assertThat(diff, endsWith("\n-expected 49\n..."));
+        }
+
+        @Test
+        @DisplayName("truncated content")
+        void testTruncatedContent() {
+            assertEquals("@@ -1 +1 @@\n-a\n+b\n\\ Remaining content not compared", LineDiff.unifiedDiff("a\n", "b\n", 1, true));
+        }
+    }
+}
@@ -17,6 +17,10 @@
 
 package com.github.robtimus.junit.support;
 
+import static com.github.robtimus.junit.support.PredicateAssertions.assertAllDoublesMatch;
+import static com.github.robtimus.junit.support.PredicateAssertions.assertAllIntsMatch;
+import static com.github.robtimus.junit.support.PredicateAssertions.assertAllLongsMatch;
+import static com.github.robtimus.junit.support.PredicateAssertions.assertAllMatch;
 import static com.github.robtimus.junit.support.PredicateAssertions.assertDoesNotMatch;
 import static com.github.robtimus.junit.support.PredicateAssertions.assertDoubleDoesNotMatch;
 import static com.github.robtimus.junit.support.PredicateAssertions.assertDoubleMatches;
@@ -28,6 +32,14 @@ import static com.github.robtimus.junit.support.PredicateAssertions.assertMatche
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -284,6 +296,598 @@ class PredicateAssertionsTest {
         }
     }
 
+    @Nested
+    @DisplayName("assertAllMatch(Predicate, Object[])")
+    class AssertAllMatchArray {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllMatch(String::isEmpty, new String[] { "", "" }));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllMatch(String::isEmpty, new String[] { "", "foo", "" }));
+
+                assertEquals("1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=foo}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllMatch(String::isEmpty, new String[] { "", "" }, "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllMatch(String::isEmpty, new String[] { "", "foo", "" }, "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=foo}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllMatch(String::isEmpty, new String[] { "", "" }, () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllMatch(String::isEmpty, new String[] { "", "foo", "" }, () -> "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=foo}>",
+                        error.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllMatch(Predicate, Stream)")
+    class AssertAllMatchStream {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllMatch(String::isEmpty, Stream.of("", "")));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllMatch(String::isEmpty, Stream.of("", "foo", "")));
+
+                assertEquals("1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=foo}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllMatch(String::isEmpty, Stream.of("", ""), "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllMatch(String::isEmpty, Stream.of("", "foo", ""), "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=foo}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllMatch(String::isEmpty, Stream.of("", ""), () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllMatch(String::isEmpty, Stream.of("", "foo", ""), () -> "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=foo}>",
+                        error.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllIntsMatch(IntPredicate, int[])")
+    class AssertAllIntsMatchArray {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllIntsMatch(i -> i > 0, new int[] { 1, 2 }));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllIntsMatch(i -> i > 0, new int[] { 1, 0, 2, -1 }));
+
+                assertEquals("2 of 4 values do not match predicate, expected: all matching predicate but was: <{1=0, 3=-1}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllIntsMatch(i -> i > 0, new int[] { 1, 2 }, "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllIntsMatch(i -> i > 0, new int[] { 1, 0, 2, -1 }, "error"));
+
+                assertEquals("error ==> 2 of 4 values do not match predicate, expected: all matching predicate but was: <{1=0, 3=-1}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllIntsMatch(i -> i > 0, new int[] { 1, 2 }, () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllIntsMatch(i -> i > 0, new int[] { 1, 0, 2, -1 }, () -> "error"));
+
+                assertEquals("error ==> 2 of 4 values do not match predicate, expected: all matching predicate but was: <{1=0, 3=-1}>",
+                        error.getMessage());
+            }
+        }
+
+        @Test
+        @DisplayName("many values")
+        void testManyValues() {
+            int[] values = IntStream.range(0, 1_000_000).toArray();
+            assertDoesNotThrow(() -> assertAllIntsMatch(i -> i >= 0, values));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllIntsMatch(i -> i % 100_000 != 99_999, values));
+
+            String failures = "{99999=99999, 199999=199999, 299999=299999, 399999=399999, 499999=499999, "
+                    + "599999=599999, 699999=699999, 799999=799999, 899999=899999, 999999=999999}";
+            assertEquals("10 of 1000000 values do not match predicate, expected: all matching predicate but was: <" + failures + ">",
+                    error.getMessage());
+        }
+
+        @Test
+        @DisplayName("more non-matching values than reported")
+        void testMoreNonMatchingValuesThanReported() {
+            int[] values = IntStream.range(0, 1_000_000).toArray();
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllIntsMatch(i -> i % 1_000 != 0, values));
+
+            String failures = "{0=0, 1000=1000, 2000=2000, 3000=3000, 4000=4000, 5000=5000, 6000=6000, 7000=7000, 8000=8000, 9000=9000}";
+            assertEquals("1000 of 1000000 values do not match predicate (showing the first 10), expected: all matching predicate but was: <"
+                    + failures + ">", error.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllIntsMatch(IntPredicate, IntStream)")
+    class AssertAllIntsMatchStream {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllIntsMatch(i -> i > 0, IntStream.of(1, 2)));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllIntsMatch(i -> i > 0, IntStream.of(1, 0, 2, -1)));
+
+                assertEquals("2 of 4 values do not match predicate, expected: all matching predicate but was: <{1=0, 3=-1}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllIntsMatch(i -> i > 0, IntStream.of(1, 2), "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllIntsMatch(i -> i > 0, IntStream.of(1, 0, 2, -1), "error"));
+
+                assertEquals("error ==> 2 of 4 values do not match predicate, expected: all matching predicate but was: <{1=0, 3=-1}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllIntsMatch(i -> i > 0, IntStream.of(1, 2), () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllIntsMatch(i -> i > 0, IntStream.of(1, 0, 2, -1), () -> "error"));
+
+                assertEquals("error ==> 2 of 4 values do not match predicate, expected: all matching predicate but was: <{1=0, 3=-1}>",
+                        error.getMessage());
+            }
+        }
+
+        @Test
+        @DisplayName("stream of unknown size")
+        void testStreamOfUnknownSize() {
+            IntStream values = IntStream.iterate(0, i -> i + 1).limit(100_000);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllIntsMatch(i -> i != 54_321, values));
+
+            assertEquals("1 of 100000 values do not match predicate, expected: all matching predicate but was: <{54321=54321}>",
+                    error.getMessage());
+        }
+
+        @Test
+        @DisplayName("large stream of unknown size")
+        void testLargeStreamOfUnknownSize() {
+            int count = 20_000_000;
+            PrimitiveIterator.OfInt iterator = IntStream.range(0, count).iterator();
+            IntStream values = StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllIntsMatch(i -> i < count - 2, values));
+
+            assertEquals("2 of 20000000 values do not match predicate, expected: all matching predicate but was: "
+                    + "<{19999998=19999998, 19999999=19999999}>", error.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllLongsMatch(LongPredicate, long[])")
+    class AssertAllLongsMatchArray {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllLongsMatch(l -> l > 0, new long[] { 1, 2 }));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllLongsMatch(l -> l > 0, new long[] { 1, 0, 2 }));
+
+                assertEquals("1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllLongsMatch(l -> l > 0, new long[] { 1, 2 }, "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllLongsMatch(l -> l > 0, new long[] { 1, 0, 2 }, "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllLongsMatch(l -> l > 0, new long[] { 1, 2 }, () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllLongsMatch(l -> l > 0, new long[] { 1, 0, 2 }, () -> "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0}>",
+                        error.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllLongsMatch(LongPredicate, LongStream)")
+    class AssertAllLongsMatchStream {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllLongsMatch(l -> l > 0, LongStream.of(1, 2)));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> assertAllLongsMatch(l -> l > 0, LongStream.of(1, 0, 2)));
+
+                assertEquals("1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllLongsMatch(l -> l > 0, LongStream.of(1, 2), "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllLongsMatch(l -> l > 0, LongStream.of(1, 0, 2), "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllLongsMatch(l -> l > 0, LongStream.of(1, 2), () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllLongsMatch(l -> l > 0, LongStream.of(1, 0, 2), () -> "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0}>",
+                        error.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllDoublesMatch(DoublePredicate, double[])")
+    class AssertAllDoublesMatchArray {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllDoublesMatch(d -> d > 0, new double[] { 1, 2 }));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllDoublesMatch(d -> d > 0, new double[] { 1, 0, 2 }));
+
+                assertEquals("1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0.0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllDoublesMatch(d -> d > 0, new double[] { 1, 2 }, "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllDoublesMatch(d -> d > 0, new double[] { 1, 0, 2 }, "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0.0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllDoublesMatch(d -> d > 0, new double[] { 1, 2 }, () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllDoublesMatch(d -> d > 0, new double[] { 1, 0, 2 }, () -> "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0.0}>",
+                        error.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("assertAllDoublesMatch(DoublePredicate, DoubleStream)")
+    class AssertAllDoublesMatchStream {
+
+        @Nested
+        @DisplayName("without message or supplier")
+        class WithoutMessageOrSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllDoublesMatch(d -> d > 0, DoubleStream.of(1, 2)));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllDoublesMatch(d -> d > 0, DoubleStream.of(1, 0, 2)));
+
+                assertEquals("1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0.0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message")
+        class WithMessage {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllDoublesMatch(d -> d > 0, DoubleStream.of(1, 2), "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllDoublesMatch(d -> d > 0, DoubleStream.of(1, 0, 2), "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0.0}>",
+                        error.getMessage());
+            }
+        }
+
+        @Nested
+        @DisplayName("with message supplier")
+        class WithMessageSupplier {
+
+            @Test
+            @DisplayName("matches")
+            void testMatches() {
+                assertDoesNotThrow(() -> assertAllDoublesMatch(d -> d > 0, DoubleStream.of(1, 2), () -> "error"));
+            }
+
+            @Test
+            @DisplayName("does not match")
+            void testDoesNotMatch() {
+                AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                        () -> assertAllDoublesMatch(d -> d > 0, DoubleStream.of(1, 0, 2), () -> "error"));
+
+                assertEquals("error ==> 1 of 3 values do not match predicate, expected: all matching predicate but was: <{1=0.0}>",
+                        error.getMessage());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("assertDoesNotMatch")
     class AssertDoesNotMatch {
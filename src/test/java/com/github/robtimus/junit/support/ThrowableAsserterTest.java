@@ -37,6 +37,11 @@ import java.io.IOException;
 import java.nio.file.InvalidPathException;
 import java.nio.file.NoSuchFileException;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
@@ -749,6 +754,69 @@ class ThrowableAsserterTest {
             verifyNoMoreInteractions(consumer1, consumer2);
         }
 
+        @Test
+        @DisplayName("multiple super types")
+        void testMultipleSuperTypes() {
+            List<String> calls = new ArrayList<>();
+
+            ThrowableAsserter<?> asserter = newAsserter()
+                    .whenThrows(RuntimeException.class).thenAssert(e -> calls.add("RuntimeException"))
+                    .whenThrows(IllegalArgumentException.class).thenAssert(e -> calls.add("IllegalArgumentException"))
+                    .whenThrowsExactly(NumberFormatException.class).thenAssert(e -> calls.add("NumberFormatException (exact)"));
+
+            assertTrue(asserter.runAllAssertions(new NumberFormatException()));
+            assertEquals(Arrays.asList("NumberFormatException (exact)", "IllegalArgumentException", "RuntimeException"), calls);
+
+            calls.clear();
+
+            assertTrue(asserter.runAllAssertions(new IllegalStateException()));
+            assertEquals(Arrays.asList("RuntimeException"), calls);
+        }
+
+        @Test
+        @DisplayName("stops walking the type hierarchy when all configured types are found")
+        void testStopsWhenAllConfiguredTypesAreFound() {
+            List<String> calls = new ArrayList<>();
+            List<Class<?>> lookups = new ArrayList<>();
+
+            Map<Class<? extends Throwable>, Consumer<? super Throwable>> errors = lookupRecordingMap(lookups);
+            errors.put(RuntimeException.class, e -> calls.add("RuntimeException"));
+            errors.put(IllegalArgumentException.class, e -> calls.add("IllegalArgumentException"));
+
+            assertTrue(ThrowableAsserter.runAssertionsForSuperTypes(new NumberFormatException(), errors));
+            assertEquals(Arrays.asList("IllegalArgumentException", "RuntimeException"), calls);
+            assertEquals(Arrays.asList(NumberFormatException.class, IllegalArgumentException.class, RuntimeException.class), lookups);
+        }
+
+        @Test
+        @DisplayName("walks the entire type hierarchy when not all configured types are found")
+        void testWalksEntireHierarchyWhenNotAllConfiguredTypesAreFound() {
+            List<String> calls = new ArrayList<>();
+            List<Class<?>> lookups = new ArrayList<>();
+
+            Map<Class<? extends Throwable>, Consumer<? super Throwable>> errors = lookupRecordingMap(lookups);
+            errors.put(IllegalArgumentException.class, e -> calls.add("IllegalArgumentException"));
+            errors.put(ParseException.class, e -> calls.add("ParseException"));
+
+            assertTrue(ThrowableAsserter.runAssertionsForSuperTypes(new NumberFormatException(), errors));
+            assertEquals(Arrays.asList("IllegalArgumentException"), calls);
+            assertEquals(Arrays.asList(NumberFormatException.class, IllegalArgumentException.class, RuntimeException.class, Exception.class,
+                    Throwable.class), lookups);
+        }
+
+        private Map<Class<? extends Throwable>, Consumer<? super Throwable>> lookupRecordingMap(List<Class<?>> lookups) {
+            return new HashMap<Class<? extends Throwable>, Consumer<? super Throwable>>() {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Consumer<? super Throwable> get(Object key) {
+                    lookups.add((Class<?>) key);
+                    return super.get(key);
+                }
+            };
+        }
+
         private ThrowableAsserter<?> newAsserter() {
             return whenThrows(ParseException.class, Object::new).thenAssertNothing();
         }
@@ -18,10 +18,18 @@
 package com.github.robtimus.junit.support.concurrent;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -78,4 +86,171 @@ class ConcurrencySettingsTest {
             assertThrows(IllegalArgumentException.class, () -> settings.withThreadCount(threadCount));
         }
     }
+
+    @Nested
+    @DisplayName("virtual threads")
+    class UseVirtualThreads {
+
+        @Test
+        @DisplayName("default virtual threads")
+        void testDefaultVirtualThreads() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertFalse(settings.virtualThreads());
+        }
+
+        @Test
+        @DisplayName("with virtual threads")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testWithVirtualThreads() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1).withVirtualThreads();
+
+            assertTrue(settings.virtualThreads());
+        }
+
+        @Test
+        @DisplayName("with virtual threads not supported")
+        @EnabledForJreRange(max = JRE.JAVA_20)
+        void testWithVirtualThreadsNotSupported() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertThrows(UnsupportedOperationException.class, settings::withVirtualThreads);
+
+            assertFalse(settings.virtualThreads());
+        }
+    }
+
+    @Nested
+    @DisplayName("executor")
+    class WithExecutor {
+
+        @Test
+        @DisplayName("default executor")
+        void testDefaultExecutor() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertEquals(Optional.empty(), settings.executor());
+        }
+
+        @Test
+        @DisplayName("with executor")
+        void testWithExecutor() {
+            ExecutorService executor = mock(ExecutorService.class);
+
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1).withExecutor(executor);
+
+            assertEquals(Optional.of(executor), settings.executor());
+            assertFalse(settings.virtualThreads());
+        }
+
+        @Test
+        @DisplayName("with null executor")
+        void testWithNullExecutor() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertThrows(NullPointerException.class, () -> settings.withExecutor(null));
+        }
+
+        @Test
+        @DisplayName("with executor after virtual threads")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testWithExecutorAfterVirtualThreads() {
+            ExecutorService executor = mock(ExecutorService.class);
+
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1).withVirtualThreads().withExecutor(executor);
+
+            assertEquals(Optional.of(executor), settings.executor());
+            assertFalse(settings.virtualThreads());
+        }
+
+        @Test
+        @DisplayName("with virtual threads after executor")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testWithVirtualThreadsAfterExecutor() {
+            ExecutorService executor = mock(ExecutorService.class);
+
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1).withExecutor(executor).withVirtualThreads();
+
+            assertEquals(Optional.empty(), settings.executor());
+            assertTrue(settings.virtualThreads());
+        }
+    }
+
+    @Nested
+    @DisplayName("timeout")
+    class WithTimeout {
+
+        @Test
+        @DisplayName("default timeout")
+        void testDefaultTimeout() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertEquals(Optional.empty(), settings.timeout());
+        }
+
+        @Test
+        @DisplayName("with timeout")
+        void testWithTimeout() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1).withTimeout(Duration.ofSeconds(1));
+
+            assertEquals(Optional.of(Duration.ofSeconds(1)), settings.timeout());
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        @DisplayName("with invalid timeout")
+        void testWithInvalidTimeout(long millis) {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+            Duration timeout = Duration.ofMillis(millis);
+
+            assertThrows(IllegalArgumentException.class, () -> settings.withTimeout(timeout));
+        }
+
+        @Test
+        @DisplayName("with null timeout")
+        void testWithNullTimeout() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertThrows(NullPointerException.class, () -> settings.withTimeout(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("invocation timeout")
+    class WithInvocationTimeout {
+
+        @Test
+        @DisplayName("default invocation timeout")
+        void testDefaultInvocationTimeout() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertEquals(Optional.empty(), settings.invocationTimeout());
+        }
+
+        @Test
+        @DisplayName("with invocation timeout")
+        void testWithInvocationTimeout() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1).withInvocationTimeout(Duration.ofSeconds(1));
+
+            assertEquals(Optional.of(Duration.ofSeconds(1)), settings.invocationTimeout());
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        @DisplayName("with invalid invocation timeout")
+        void testWithInvalidInvocationTimeout(long millis) {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+            Duration invocationTimeout = Duration.ofMillis(millis);
+
+            assertThrows(IllegalArgumentException.class, () -> settings.withInvocationTimeout(invocationTimeout));
+        }
+
+        @Test
+        @DisplayName("with null invocation timeout")
+        void testWithNullInvocationTimeout() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(1);
+
+            assertThrows(NullPointerException.class, () -> settings.withInvocationTimeout(null));
+        }
+    }
 }
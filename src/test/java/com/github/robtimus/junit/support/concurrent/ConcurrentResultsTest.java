@@ -19,15 +19,26 @@ package com.github.robtimus.junit.support.concurrent;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -99,6 +110,109 @@ class ConcurrentResultsTest {
         }
     }
 
+    @Nested
+    @DisplayName("andIterateResults")
+    class IterateResults {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ConcurrentResults<Integer> results = new ConcurrentResults<>(IntStream.range(0, 100)
+                    .mapToObj(i -> new ConcurrentResult<>(i)));
+
+            Iterator<Integer> iterator = results.andIterateResults();
+
+            for (int i = 0; i < 100; i++) {
+                assertTrue(iterator.hasNext());
+                assertEquals(i, iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+        }
+
+        @Test
+        @DisplayName("single exception")
+        void testSingleException() {
+            Exception exception = new IOException();
+
+            ConcurrentResults<Integer> results = new ConcurrentResults<>(Stream.of(
+                    new ConcurrentResult<>(1),
+                    new ConcurrentResult<>(exception),
+                    new ConcurrentResult<>(3)));
+
+            Iterator<Integer> iterator = results.andIterateResults();
+
+            assertEquals(1, iterator.next());
+
+            AssertionFailedError thrown = assertThrows(AssertionFailedError.class, iterator::next);
+
+            assertSame(exception, thrown.getCause());
+        }
+    }
+
+    @Nested
+    @DisplayName("andPublishResults")
+    class PublishResults {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ConcurrentResults<Integer> results = new ConcurrentResults<>(IntStream.range(0, 100)
+                    .mapToObj(i -> new ConcurrentResult<>(i % 10 == 0 ? null : i)));
+
+            CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>();
+            results.andPublishResults().subscribe(subscriber);
+            subscriber.await();
+
+            List<Integer> expected = IntStream.range(0, 100)
+                    .filter(i -> i % 10 != 0)
+                    .boxed()
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, subscriber.items);
+            assertNull(subscriber.error);
+        }
+
+        @Test
+        @DisplayName("single exception")
+        void testSingleException() {
+            Exception exception = new IOException();
+
+            ConcurrentResults<Integer> results = new ConcurrentResults<>(Stream.of(
+                    new ConcurrentResult<>(1),
+                    new ConcurrentResult<>(exception),
+                    new ConcurrentResult<>(3)));
+
+            CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>();
+            results.andPublishResults().subscribe(subscriber);
+            subscriber.await();
+
+            assertEquals(Arrays.asList(1), subscriber.items);
+            assertSame(exception, subscriber.error);
+        }
+
+        @Test
+        @DisplayName("multiple subscribers")
+        void testMultipleSubscribers() {
+            ConcurrentResults<Integer> results = new ConcurrentResults<>(IntStream.range(0, 100)
+                    .mapToObj(i -> new ConcurrentResult<>(i)));
+
+            Flow.Publisher<Integer> publisher = results.andPublishResults();
+
+            CollectingSubscriber<Integer> subscriber1 = new CollectingSubscriber<>();
+            publisher.subscribe(subscriber1);
+            CollectingSubscriber<Integer> subscriber2 = new CollectingSubscriber<>();
+            publisher.subscribe(subscriber2);
+
+            subscriber1.await();
+            subscriber2.await();
+
+            assertEquals(100, subscriber1.items.size());
+            assertNull(subscriber1.error);
+            assertEquals(Collections.emptyList(), subscriber2.items);
+            assertInstanceOf(IllegalStateException.class, subscriber2.error);
+        }
+    }
+
     @Nested
     @DisplayName("andListResults")
     class ListResults {
@@ -263,6 +377,38 @@ class ConcurrentResultsTest {
         }
     }
 
+    private static final class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        private void await() {
+            assertTrue(assertDoesNotThrow(() -> done.await(5, TimeUnit.SECONDS)));
+        }
+    }
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @ParameterizedTest(name = "parallel: {0}")
@@ -18,9 +18,17 @@
 package com.github.robtimus.junit.support.concurrent;
 
 import static com.github.robtimus.junit.support.ThrowableAssertions.assertDoesNotThrowCheckedException;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doAnswer;
@@ -31,15 +39,31 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.function.ThrowingSupplier;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -422,6 +446,1350 @@ class ConcurrentRunnerTest {
 
             verifyCalled(supplier, CONCURRENT_COUNT);
         }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 2, CONCURRENT_COUNT / 2, Integer.MAX_VALUE })
+        @DisplayName("with virtual threads")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testWithVirtualThreads(int threadCount) {
+            List<Boolean> results = ConcurrentRunner.running(() -> isVirtual(Thread.currentThread()), CONCURRENT_COUNT)
+                    .withThreadCount(threadCount)
+                    .withVirtualThreads()
+                    .execute()
+                    .andListResults();
+
+            List<Boolean> expected = IntStream.range(0, CONCURRENT_COUNT)
+                    .mapToObj(i -> true)
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, results);
+        }
+
+        @Test
+        @DisplayName("with virtual threads not supported")
+        @EnabledForJreRange(max = JRE.JAVA_20)
+        void testWithVirtualThreadsNotSupported() {
+            ThrowingSupplier<Integer> supplier = mockSupplier(1);
+
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(supplier);
+
+            assertThrows(UnsupportedOperationException.class, runner::withVirtualThreads);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 2, CONCURRENT_COUNT / 2, Integer.MAX_VALUE })
+        @DisplayName("with executor")
+        void testWithExecutor(int threadCount) {
+            ExecutorService executor = Executors.newCachedThreadPool();
+            try {
+                ThrowingSupplier<Integer> supplier = mockSupplier(1);
+
+                List<Integer> results = ConcurrentRunner.running(supplier, CONCURRENT_COUNT)
+                        .withThreadCount(threadCount)
+                        .withExecutor(executor)
+                        .execute()
+                        .andListResults();
+
+                List<Integer> expected = IntStream.range(0, CONCURRENT_COUNT)
+                        .mapToObj(i -> 1)
+                        .collect(Collectors.toList());
+
+                assertEquals(expected, results);
+                assertFalse(executor.isShutdown());
+
+                verifyCalled(supplier, CONCURRENT_COUNT);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("with executor with fewer threads")
+        void testWithExecutorWithFewerThreads() {
+            // Without limiting the number of threads to the executor's pool size, the runner would wait forever for all threads to be ready
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+                ThrowingSupplier<Integer> supplier = () -> {
+                    threads.add(Thread.currentThread());
+                    return 1;
+                };
+
+                List<Integer> results = ConcurrentRunner.running(supplier, CONCURRENT_COUNT)
+                        .withExecutor(executor)
+                        .execute()
+                        .andListResults();
+
+                List<Integer> expected = IntStream.range(0, CONCURRENT_COUNT)
+                        .mapToObj(i -> 1)
+                        .collect(Collectors.toList());
+
+                assertEquals(expected, results);
+                assertThat(threads.size(), lessThanOrEqualTo(2));
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("with null executor")
+        void testWithNullExecutor() {
+            ThrowingSupplier<Integer> supplier = mockSupplier(1);
+
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(supplier);
+
+            assertThrows(NullPointerException.class, () -> runner.withExecutor(null));
+        }
+
+        @Test
+        @DisplayName("with multiple suppliers")
+        void testWithMultipleSuppliers() {
+            List<Integer> results = ConcurrentRunner.running(() -> 1, 3)
+                    .concurrentlyWith(() -> 2, 2)
+                    .concurrentlyWith(() -> 3)
+                    .withThreadCount(2)
+                    .execute()
+                    .andListResults();
+
+            List<Integer> expected = Arrays.asList(1, 1, 1, 2, 2, 3);
+
+            assertEquals(expected, results);
+        }
+
+        @Test
+        @DisplayName("total count too large")
+        void testTotalCountTooLarge() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1, Integer.MAX_VALUE);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.concurrentlyWith(() -> 2));
+        }
+
+        @Test
+        @DisplayName("with statistics")
+        void testWithStatistics() {
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentStatistics statistics = ConcurrentRunner.running(() -> {
+                if (counter.incrementAndGet() % 2 == 0) {
+                    throw new IOException();
+                }
+            }, CONCURRENT_COUNT)
+                    .execute()
+                    .andReportStatistics();
+
+            assertEquals(CONCURRENT_COUNT, statistics.invocationCount());
+            assertEquals(CONCURRENT_COUNT / 2, statistics.failureCount());
+            assertThat(statistics.latency(50), lessThanOrEqualTo(statistics.maxLatency()));
+        }
+
+        private boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+            // Thread.isVirtual() is not available in Java 11
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        }
+    }
+
+    @Nested
+    @DisplayName("executeStreaming()")
+    class ExecuteStreaming {
+
+        @Test
+        @DisplayName("completion order")
+        void testCompletionOrder() {
+            List<Integer> results = ConcurrentRunner.running(() -> sleepAndReturn(400, 1))
+                    .concurrentlyWith(() -> sleepAndReturn(200, 2))
+                    .concurrentlyWith(() -> sleepAndReturn(0, 3))
+                    .executeStreaming()
+                    .andListResults();
+
+            List<Integer> expected = Arrays.asList(3, 2, 1);
+
+            assertEquals(expected, results);
+        }
+
+        @Test
+        @DisplayName("first result before all calls complete")
+        void testFirstResultBeforeAllCallsComplete() {
+            CountDownLatch latch = new CountDownLatch(1);
+
+            Iterator<Integer> results = ConcurrentRunner.running(() -> 1)
+                    .concurrentlyWith(() -> {
+                        latch.await();
+                        return 2;
+                    })
+                    .executeStreaming()
+                    .andIterateResults();
+
+            // The second call only completes after the first result has been consumed
+            assertEquals(1, results.next());
+            latch.countDown();
+            assertEquals(2, results.next());
+            assertFalse(results.hasNext());
+        }
+
+        @Test
+        @DisplayName("with statistics")
+        void testWithStatistics() {
+            ConcurrentStatistics statistics = ConcurrentRunner.running(() -> 1, CONCURRENT_COUNT)
+                    .executeStreaming()
+                    .andReportStatistics();
+
+            assertEquals(CONCURRENT_COUNT, statistics.invocationCount());
+        }
+
+        @Test
+        @DisplayName("with fail fast")
+        void testWithFailFast() {
+            AtomicInteger interrupted = new AtomicInteger();
+            IOException exception = new IOException();
+
+            ConcurrentResults<Integer> results = ConcurrentRunner.running(() -> {
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                    throw e;
+                }
+                return 1;
+            }, 4)
+                    .concurrentlyWith(() -> {
+                        Thread.sleep(100);
+                        throw exception;
+                    })
+                    .withFailFast()
+                    .executeStreaming();
+
+            long start = System.nanoTime();
+
+            AssertionFailedError thrown = assertThrows(AssertionFailedError.class, results::andListResults);
+
+            assertSame(exception, thrown.getCause());
+            assertThat(System.nanoTime() - start, lessThan(TimeUnit.SECONDS.toNanos(10)));
+            assertEquals(4, interrupted.get());
+        }
+
+        @Test
+        @DisplayName("with fail fast stops calling suppliers")
+        void testWithFailFastStopsCallingSuppliers() {
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentRunner<Object> runner = ConcurrentRunner.running(() -> {
+                counter.incrementAndGet();
+                throw new IOException();
+            }, CONCURRENT_COUNT)
+                    .withThreadCount(2)
+                    .withFailFast();
+
+            Collector<Object, ?, List<Object>> collector = Collectors.toList();
+
+            assertThrows(AssertionFailedError.class, () -> runner.executeAndCollect(collector));
+            // Each thread can have called the supplier at most once
+            assertThat(counter.get(), lessThanOrEqualTo(2));
+        }
+
+        private int sleepAndReturn(long millis, int result) throws InterruptedException {
+            Thread.sleep(millis);
+            return result;
+        }
+    }
+
+    @Nested
+    @DisplayName("executeAndCollect(Collector)")
+    class ExecuteAndCollect {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            AtomicInteger counter = new AtomicInteger();
+
+            List<Integer> results = ConcurrentRunner.running(counter::incrementAndGet, CONCURRENT_COUNT)
+                    .concurrentlyWith(() -> 0, CONCURRENT_COUNT)
+                    .withThreadCount(4)
+                    .executeAndCollect(Collectors.toList());
+
+            Collections.sort(results);
+
+            List<Integer> expected = IntStream.rangeClosed(-CONCURRENT_COUNT + 1, CONCURRENT_COUNT)
+                    .mapToObj(i -> Math.max(i, 0))
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, results);
+        }
+
+        @Test
+        @DisplayName("many invocations")
+        void testManyInvocations() {
+            long result = ConcurrentRunner.running(() -> 1, 1_000_000)
+                    .withThreadCount(4)
+                    .executeAndCollect(Collectors.summingLong(i -> i));
+
+            assertEquals(1_000_000, result);
+        }
+
+        @Test
+        @DisplayName("throwing single exception")
+        void testThrowingSingleException() {
+            IllegalStateException exception = new IllegalStateException();
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> {
+                if (counter.incrementAndGet() == 5) {
+                    throw exception;
+                }
+                return 1;
+            }, CONCURRENT_COUNT);
+
+            Collector<Integer, ?, List<Integer>> collector = Collectors.toList();
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> runner.executeAndCollect(collector));
+
+            assertSame(exception, thrown);
+        }
+
+        @Test
+        @DisplayName("throwing many exceptions")
+        void testThrowingManyExceptions() {
+            ConcurrentRunner<Object> runner = ConcurrentRunner.running(() -> {
+                throw new IOException();
+            }, CONCURRENT_COUNT)
+                    .withThreadCount(4)
+                    .withMaxRetainedFailures(10);
+
+            Collector<Object, ?, List<Object>> collector = Collectors.toList();
+
+            MultipleFailuresError thrown = assertThrows(MultipleFailuresError.class, () -> runner.executeAndCollect(collector));
+
+            assertEquals(10, thrown.getFailures().size());
+            assertThat(thrown.getMessage(), startsWith(CONCURRENT_COUNT + " of " + CONCURRENT_COUNT
+                    + " calls failed; only the first 10 failures are included"));
+        }
+
+        @Test
+        @DisplayName("null collector")
+        void testNullCollector() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+
+            assertThrows(NullPointerException.class, () -> runner.executeAndCollect(null));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { -1, 0 })
+        @DisplayName("invalid max retained failures")
+        void testInvalidMaxRetainedFailures(int maxRetainedFailures) {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.withMaxRetainedFailures(maxRetainedFailures));
+        }
+    }
+
+    @Nested
+    @DisplayName("runFor(Duration)")
+    class RunFor {
+
+        @ParameterizedTest
+        @ValueSource(ints = { 2, CONCURRENT_COUNT / 2, Integer.MAX_VALUE })
+        @DisplayName("success")
+        void testSuccess(int threadCount) {
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentStatistics statistics = ConcurrentRunner.running(counter::incrementAndGet, CONCURRENT_COUNT)
+                    .withThreadCount(threadCount)
+                    .runFor(Duration.ofMillis(100))
+                    .andReportStatistics();
+
+            assertEquals(counter.get(), statistics.invocationCount());
+            assertEquals(0, statistics.failureCount());
+            assertThat(statistics.duration(), greaterThanOrEqualTo(Duration.ofMillis(100)));
+            assertThat(statistics.throughput(), greaterThan(0.0));
+            assertThat(statistics.latency(50), lessThanOrEqualTo(statistics.latency(99)));
+            assertThat(statistics.latency(99), lessThanOrEqualTo(statistics.latency(99.9)));
+            assertThat(statistics.latency(99.9), lessThanOrEqualTo(statistics.maxLatency()));
+        }
+
+        @Test
+        @DisplayName("calls each supplier")
+        void testCallsEachSupplier() {
+            AtomicInteger counter1 = new AtomicInteger();
+            AtomicInteger counter2 = new AtomicInteger();
+            AtomicInteger counter3 = new AtomicInteger();
+
+            ConcurrentRunner.running(counter1::incrementAndGet)
+                    .concurrentlyWith(counter2::incrementAndGet)
+                    .concurrentlyWith(counter3::incrementAndGet)
+                    .withThreadCount(2)
+                    .runFor(Duration.ofMillis(50))
+                    .andAssertNoFailures();
+
+            assertThat(counter1.get(), greaterThan(0));
+            assertThat(counter2.get(), greaterThan(0));
+            assertThat(counter3.get(), greaterThan(0));
+        }
+
+        @Test
+        @DisplayName("with warmup")
+        void testWithWarmup() {
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentStatistics statistics = ConcurrentRunner.running(counter::incrementAndGet, 2)
+                    .withWarmup(Duration.ofMillis(50))
+                    .runFor(Duration.ofMillis(50))
+                    .andReportStatistics();
+
+            assertThat(statistics.invocationCount(), lessThan((long) counter.get()));
+        }
+
+        @Test
+        @DisplayName("with failures")
+        void testWithFailures() {
+            Executable executable = () -> {
+                throw new IOException();
+            };
+
+            ConcurrentResults<Void> results = ConcurrentRunner.running(executable, 2)
+                    .runFor(Duration.ofMillis(50));
+
+            MultipleFailuresError thrown = assertThrows(MultipleFailuresError.class, results::andAssertNoFailures);
+
+            assertEquals(100, thrown.getFailures().size());
+            assertThat(thrown.getMessage(), containsString("only the first 100 failures are included"));
+        }
+
+        @Test
+        @DisplayName("with failure statistics")
+        void testWithFailureStatistics() {
+            Executable executable = () -> {
+                throw new IOException();
+            };
+
+            ConcurrentStatistics statistics = ConcurrentRunner.running(executable, 2)
+                    .runFor(Duration.ofMillis(50))
+                    .andReportStatistics();
+
+            assertEquals(statistics.invocationCount(), statistics.failureCount());
+        }
+
+        @Test
+        @DisplayName("results not retained")
+        void testResultsNotRetained() {
+            ConcurrentResults<Integer> results = ConcurrentRunner.running(() -> 1, 2)
+                    .runFor(Duration.ofMillis(10));
+
+            assertAll(
+                    () -> assertThrows(IllegalStateException.class, results::andStreamResults),
+                    () -> assertThrows(IllegalStateException.class, results::andListResults),
+                    () -> assertThrows(IllegalStateException.class, () -> results.andCollectResults(Collectors.toList())));
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        @DisplayName("invalid duration")
+        void testInvalidDuration(long millis) {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1, 2);
+            Duration duration = Duration.ofMillis(millis);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.runFor(duration));
+        }
+
+        @Test
+        @DisplayName("negative warmup")
+        void testNegativeWarmup() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1, 2);
+            Duration warmup = Duration.ofMillis(-1);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.withWarmup(warmup));
+        }
+    }
+
+    @Nested
+    @DisplayName("measureScalability(int, Duration)")
+    class MeasureScalability {
+
+        @ParameterizedTest
+        @ValueSource(ints = { 2, 4, 5 })
+        @DisplayName("thread counts")
+        void testThreadCounts(int maxThreadCount) {
+            AtomicInteger counter = new AtomicInteger();
+
+            ScalabilityReport report = ConcurrentRunner.running(counter::incrementAndGet)
+                    .measureScalability(maxThreadCount, Duration.ofMillis(20));
+
+            List<Integer> threadCounts = report.steps().stream()
+                    .map(ScalabilityReport.Step::threadCount)
+                    .collect(Collectors.toList());
+
+            List<Integer> expected = maxThreadCount == 5
+                    ? Arrays.asList(1, 2, 4, 5)
+                    : IntStream.iterate(1, i -> i <= maxThreadCount, i -> i * 2).boxed().collect(Collectors.toList());
+
+            assertEquals(expected, threadCounts);
+
+            long invocationCount = report.steps().stream()
+                    .mapToLong(step -> step.statistics().invocationCount())
+                    .sum();
+
+            assertEquals(counter.get(), invocationCount);
+            assertEquals(1.0, report.steps().get(0).speedup());
+        }
+
+        @Test
+        @DisplayName("scaling code")
+        void testScalingCode() {
+            // Sleeping does not use any processor, so it should scale almost perfectly
+            ScalabilityReport report = ConcurrentRunner.running(() -> Thread.sleep(1))
+                    .measureScalability(4, Duration.ofMillis(100))
+                    .assertNoFailures();
+
+            assertDoesNotThrow(() -> report.assertScalesAtLeast(0.5));
+        }
+
+        @Test
+        @DisplayName("non-scaling code")
+        void testNonScalingCode() {
+            Object lock = new Object();
+
+            ScalabilityReport report = ConcurrentRunner.running(() -> {
+                synchronized (lock) {
+                    Thread.sleep(1);
+                }
+            })
+                    .measureScalability(4, Duration.ofMillis(100));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertScalesAtLeast(0.7));
+
+            assertThat(error.getMessage(), containsString("expected a parallel efficiency of at least 0.70"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { -1, 0, 1 })
+        @DisplayName("invalid max thread count")
+        void testInvalidMaxThreadCount(int maxThreadCount) {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+            Duration duration = Duration.ofMillis(10);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.measureScalability(maxThreadCount, duration));
+        }
+
+        @Test
+        @DisplayName("with executor with fewer threads")
+        void testWithExecutorWithFewerThreads() {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1)
+                        .withExecutor(executor);
+                Duration duration = Duration.ofMillis(10);
+
+                assertThrows(IllegalStateException.class, () -> runner.measureScalability(4, duration));
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("withResourceAccounting()")
+    class WithResourceAccounting {
+
+        @Test
+        @DisplayName("allocated bytes")
+        void testAllocatedBytes() {
+            ResourceUsageReport report = ConcurrentRunner.running(() -> new byte[10_240], CONCURRENT_COUNT)
+                    .withResourceAccounting()
+                    .execute()
+                    .andReportResourceUsage();
+
+            assertEquals(CONCURRENT_COUNT, report.invocationCount());
+            assertThat(report.max().allocatedBytes(), greaterThanOrEqualTo(10_240L));
+            assertThat(report.total().allocatedBytes(), greaterThanOrEqualTo(CONCURRENT_COUNT * 10_240L));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertAllocatedBytesAtMost(1024));
+            assertThat(error.getMessage(), startsWith("expected each call to allocate at most 1024 bytes but a call allocated "));
+        }
+
+        @Test
+        @DisplayName("no allocation")
+        void testNoAllocation() {
+            AtomicInteger counter = new AtomicInteger();
+
+            ResourceUsageReport report = ConcurrentRunner.running(counter::incrementAndGet, CONCURRENT_COUNT)
+                    .withResourceAccounting()
+                    .execute()
+                    .andReportResourceUsage();
+
+            assertDoesNotThrow(() -> report.assertAllocatedBytesAtMost(1024));
+        }
+
+        @Test
+        @DisplayName("CPU time")
+        void testCpuTime() {
+            ResourceUsageReport report = ConcurrentRunner.running(() -> {
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+                while (System.nanoTime() - end < 0) {
+                    // busy wait
+                }
+            }, 2)
+                    .withResourceAccounting()
+                    .execute()
+                    .andReportResourceUsage();
+
+            // Threads may need to share processors, so the CPU time can be less than the time spent busy waiting
+            assertThat(report.total().cpuTime(), greaterThan(Duration.ZERO));
+            assertThat(report.total().cpuTime(), lessThanOrEqualTo(report.total().wallTime()));
+            assertThat(report.total().wallTime(), greaterThanOrEqualTo(Duration.ofMillis(40)));
+        }
+
+        @Test
+        @DisplayName("blocked time")
+        void testBlockedTime() {
+            Object lock = new Object();
+
+            ResourceUsageReport report = ConcurrentRunner.running(() -> {
+                synchronized (lock) {
+                    Thread.sleep(20);
+                }
+            }, 4)
+                    .withResourceAccounting()
+                    .execute()
+                    .andReportResourceUsage();
+
+            // All calls start at the same time, so all but the first will block
+            assertThat(report.total().blockedCount(), greaterThanOrEqualTo(3L));
+            assertThat(report.total().blockedTime(), greaterThan(Duration.ZERO));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertBlockedTimeRatioAtMost(0.05));
+            assertThat(error.getMessage(), startsWith("expected at most 5.00% of the wall time to be spent blocked but was "));
+        }
+
+        @Test
+        @DisplayName("waited time")
+        void testWaitedTime() {
+            ResourceUsageReport report = ConcurrentRunner.running(() -> Thread.sleep(20), 2)
+                    .withResourceAccounting()
+                    .execute()
+                    .andReportResourceUsage();
+
+            assertThat(report.total().waitedCount(), greaterThanOrEqualTo(2L));
+            assertThat(report.max().waitedTime(), greaterThanOrEqualTo(Duration.ofMillis(10)));
+            assertDoesNotThrow(() -> report.assertBlockedTimeRatioAtMost(0.05));
+        }
+
+        @Test
+        @DisplayName("with runFor")
+        void testWithRunFor() {
+            ConcurrentStatistics statistics = ConcurrentRunner.running(() -> 1)
+                    .concurrentlyWith(() -> 2)
+                    .withResourceAccounting()
+                    .withWarmup(Duration.ofMillis(10))
+                    .runFor(Duration.ofMillis(50))
+                    .andReportStatistics();
+
+            assertEquals(statistics.invocationCount(), statistics.resourceUsage().invocationCount());
+        }
+
+        @Test
+        @DisplayName("not enabled")
+        void testNotEnabled() {
+            ConcurrentResults<Integer> results = ConcurrentRunner.running(() -> 1, 2)
+                    .execute();
+
+            assertThrows(IllegalStateException.class, results::andReportResourceUsage);
+        }
+
+        @Test
+        @DisplayName("with virtual threads")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testWithVirtualThreads() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1, 2)
+                    .withResourceAccounting()
+                    .withVirtualThreads();
+
+            assertThrows(IllegalStateException.class, runner::execute);
+        }
+    }
+
+    @Nested
+    @DisplayName("withTimeout(Duration)")
+    class WithTimeout {
+
+        @Test
+        @DisplayName("deadlock")
+        void testDeadlock() {
+            ReentrantLock lock1 = new ReentrantLock();
+            ReentrantLock lock2 = new ReentrantLock();
+            CountDownLatch locked = new CountDownLatch(2);
+
+            // Use lockInterruptibly, so the deadlock is broken when the threads are interrupted after the timeout
+            ConcurrentRunner<Void> runner = ConcurrentRunner.running(() -> lockInOrder(lock1, lock2, locked))
+                    .concurrentlyWith(() -> lockInOrder(lock2, lock1, locked))
+                    .withTimeout(Duration.ofMillis(500));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, runner::execute);
+
+            assertThat(error.getMessage(), startsWith("Calls did not complete within PT0.5S"));
+            assertThat(error.getMessage(), containsString("Deadlock detected:"));
+            assertThat(error.getMessage(), containsString("is waiting for " + ReentrantLock.class.getName()));
+            assertThat(error.getMessage(), containsString(WithTimeout.class.getName() + ".lockInOrder("));
+        }
+
+        private void lockInOrder(ReentrantLock first, ReentrantLock second, CountDownLatch locked) throws InterruptedException {
+            first.lockInterruptibly();
+            try {
+                locked.countDown();
+                locked.await();
+                second.lockInterruptibly();
+                second.unlock();
+            } finally {
+                first.unlock();
+            }
+        }
+
+        @Test
+        @DisplayName("hanging call")
+        void testHangingCall() {
+            ConcurrentRunner<Void> runner = ConcurrentRunner.running(() -> Thread.sleep(60_000), 2)
+                    .withTimeout(Duration.ofMillis(100));
+
+            long start = System.nanoTime();
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, runner::execute);
+            long duration = System.nanoTime() - start;
+
+            assertThat(error.getMessage(), startsWith("Calls did not complete within PT0.1S"));
+            assertThat(error.getMessage(), containsString("TIMED_WAITING"));
+            assertThat(duration, lessThan(TimeUnit.SECONDS.toNanos(10)));
+        }
+
+        @Test
+        @DisplayName("no timeout")
+        void testNoTimeout() {
+            List<Integer> results = ConcurrentRunner.running(() -> 1, 10)
+                    .withTimeout(Duration.ofSeconds(10))
+                    .execute()
+                    .andListResults();
+
+            assertEquals(Collections.nCopies(10, 1), results);
+        }
+
+        @Test
+        @DisplayName("with executor that cannot run all threads")
+        void testWithExecutorThatCannotRunAllThreads() {
+            ForkJoinPool executor = new ForkJoinPool(2);
+            try {
+                AtomicInteger counter = new AtomicInteger();
+                ConcurrentRunner<Integer> runner = ConcurrentRunner.running(counter::incrementAndGet, 4)
+                        .withExecutor(executor)
+                        .withTimeout(Duration.ofMillis(500));
+
+                AssertionFailedError error = assertThrows(AssertionFailedError.class, runner::execute);
+
+                assertThat(error.getMessage(), startsWith("Only 2 of 4 threads started within PT0.5S; "
+                        + "the executor may not be able to run that many tasks concurrently"));
+                assertThat(error.getMessage(), containsString("ForkJoinPool"));
+                assertEquals(0, counter.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("with executor")
+        void testWithExecutor() {
+            ExecutorService executor = Executors.newCachedThreadPool();
+            try {
+                ConcurrentRunner<Void> runner = ConcurrentRunner.running(() -> Thread.sleep(60_000), 2)
+                        .withExecutor(executor)
+                        .withTimeout(Duration.ofMillis(100));
+
+                assertThrows(AssertionFailedError.class, runner::execute);
+                assertFalse(executor.isShutdown());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("with executeStreaming")
+        void testWithExecuteStreaming() {
+            ConcurrentResults<Void> results = ConcurrentRunner.running(() -> Thread.sleep(60_000), 2)
+                    .withTimeout(Duration.ofMillis(100))
+                    .executeStreaming();
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, results::andAssertNoFailures);
+
+            assertThat(error.getMessage(), startsWith("Calls did not complete within PT0.1S"));
+        }
+
+        @Test
+        @DisplayName("with runConcurrently")
+        void testWithRunConcurrently() {
+            ConcurrencySettings settings = ConcurrencySettings.withCount(2)
+                    .withTimeout(Duration.ofMillis(100));
+
+            assertThrows(AssertionFailedError.class, () -> ConcurrentRunner.runConcurrently(() -> Thread.sleep(60_000), settings));
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        @DisplayName("invalid timeout")
+        void testInvalidTimeout(long millis) {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+            Duration timeout = Duration.ofMillis(millis);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.withTimeout(timeout));
+        }
+    }
+
+    @Nested
+    @DisplayName("withInvocationTimeout(Duration)")
+    class WithInvocationTimeout {
+
+        @Test
+        @DisplayName("hanging call")
+        void testHangingCall() {
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentRunner<Void> runner = ConcurrentRunner.running(() -> {
+                if (counter.incrementAndGet() == 5) {
+                    Thread.sleep(60_000);
+                }
+            }, 10)
+                    .withThreadCount(2)
+                    .withInvocationTimeout(Duration.ofMillis(100));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, runner::execute);
+
+            assertThat(error.getMessage(), startsWith("A call in thread \""));
+            assertThat(error.getMessage(), containsString("\" did not complete within PT0.1S"));
+            assertThat(error.getMessage(), containsString(WithInvocationTimeout.class.getName() + "."));
+        }
+
+        @Test
+        @DisplayName("no timeout")
+        void testNoTimeout() {
+            ConcurrentStatistics statistics = ConcurrentRunner.running(() -> Thread.sleep(10), 10)
+                    .withThreadCount(2)
+                    .withInvocationTimeout(Duration.ofSeconds(10))
+                    .execute()
+                    .andReportStatistics();
+
+            assertEquals(10, statistics.invocationCount());
+        }
+
+        @Test
+        @DisplayName("with runFor")
+        void testWithRunFor() {
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentRunner<Void> runner = ConcurrentRunner.running(() -> {
+                if (counter.incrementAndGet() == 100) {
+                    Thread.sleep(60_000);
+                }
+            }, 2)
+                    .withInvocationTimeout(Duration.ofMillis(100));
+            Duration duration = Duration.ofSeconds(10);
+
+            assertThrows(AssertionFailedError.class, () -> runner.runFor(duration));
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        @DisplayName("invalid invocation timeout")
+        void testInvalidInvocationTimeout(long millis) {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+            Duration invocationTimeout = Duration.ofMillis(millis);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.withInvocationTimeout(invocationTimeout));
+        }
+    }
+
+    @Nested
+    @DisplayName("withContentionSampling(Duration)")
+    class WithContentionSampling {
+
+        @Test
+        @DisplayName("monitor")
+        void testMonitor() {
+            Object lock = new Object();
+
+            ContentionReport report = ConcurrentRunner.running(() -> {
+                synchronized (lock) {
+                    Thread.sleep(20);
+                }
+            }, 4)
+                    .withContentionSampling(Duration.ofMillis(1))
+                    .execute()
+                    .andReportContention();
+
+            ContentionReport.Hotspot hotspot = report.hotspots().get(0);
+
+            assertEquals(Thread.State.BLOCKED, hotspot.state());
+            assertThat(hotspot.lock(), startsWith(Object.class.getName() + "@"));
+            assertEquals(WithContentionSampling.class.getName(), hotspot.frame().getClassName());
+            assertThat(hotspot.sampleCount(), greaterThan(0L));
+        }
+
+        @Test
+        @DisplayName("java.util.concurrent lock")
+        void testConcurrentLock() {
+            ReentrantLock lock = new ReentrantLock();
+
+            ContentionReport report = ConcurrentRunner.running(() -> {
+                lock.lock();
+                try {
+                    Thread.sleep(20);
+                } finally {
+                    lock.unlock();
+                }
+            }, 4)
+                    .withContentionSampling(Duration.ofMillis(1))
+                    .execute()
+                    .andReportContention();
+
+            ContentionReport.Hotspot hotspot = report.hotspots().get(0);
+
+            assertEquals(Thread.State.WAITING, hotspot.state());
+            assertThat(hotspot.lock(), startsWith(ReentrantLock.class.getName()));
+            // The frame that called lock() is reported, not the frames of ReentrantLock itself
+            assertEquals(WithContentionSampling.class.getName(), hotspot.frame().getClassName());
+        }
+
+        @Test
+        @DisplayName("no contention")
+        void testNoContention() {
+            ContentionReport report = ConcurrentRunner.running(() -> Thread.sleep(20), 4)
+                    .withContentionSampling(Duration.ofMillis(1))
+                    .execute()
+                    .andReportContention();
+
+            assertEquals(Collections.emptyList(), report.hotspots());
+        }
+
+        @Test
+        @DisplayName("with runFor")
+        void testWithRunFor() {
+            Object lock = new Object();
+
+            ContentionReport report = ConcurrentRunner.running(() -> {
+                synchronized (lock) {
+                    Thread.sleep(1);
+                }
+            }, 4)
+                    .withContentionSampling(Duration.ofMillis(1))
+                    .runFor(Duration.ofMillis(100))
+                    .andReportContention();
+
+            assertEquals(Thread.State.BLOCKED, report.hotspots().get(0).state());
+        }
+
+        @Test
+        @DisplayName("with rounds")
+        void testWithRounds() {
+            Object lock = new Object();
+
+            // Workers that have finished their call wait for the other workers before the next round starts; that must not be reported
+            ContentionReport report = ConcurrentRunner.running(() -> {
+                synchronized (lock) {
+                    Thread.sleep(2);
+                }
+            }, 4)
+                    .withRounds(20)
+                    .withContentionSampling(Duration.ofMillis(1))
+                    .execute()
+                    .andReportContention();
+
+            assertFalse(report.hotspots().isEmpty());
+            for (ContentionReport.Hotspot hotspot : report.hotspots()) {
+                assertEquals(WithContentionSampling.class.getName(), hotspot.frame().getClassName());
+            }
+        }
+
+        @Test
+        @DisplayName("not enabled")
+        void testNotEnabled() {
+            ConcurrentResults<Integer> results = ConcurrentRunner.running(() -> 1, 2)
+                    .execute();
+
+            assertThrows(IllegalStateException.class, results::andReportContention);
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        @DisplayName("invalid interval")
+        void testInvalidInterval(long millis) {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+            Duration interval = Duration.ofMillis(millis);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.withContentionSampling(interval));
+        }
+
+        @Test
+        @DisplayName("with virtual threads")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testWithVirtualThreads() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1, 2)
+                    .withContentionSampling(Duration.ofMillis(1))
+                    .withVirtualThreads();
+
+            assertThrows(IllegalStateException.class, runner::execute);
+        }
+    }
+
+    @Nested
+    @DisplayName("with IndexedSupplier")
+    class WithIndexedSupplier {
+
+        @Test
+        @DisplayName("execute()")
+        void testExecute() {
+            Map<Integer, Thread> workerThreads = new ConcurrentHashMap<>();
+
+            List<Integer> results = ConcurrentRunner.running((workerIndex, invocationIndex) -> {
+                // Each worker should always use the same thread
+                Thread previous = workerThreads.putIfAbsent(workerIndex, Thread.currentThread());
+                assertSame(previous == null ? Thread.currentThread() : previous, Thread.currentThread());
+                return invocationIndex;
+            }, 100)
+                    .withThreadCount(4)
+                    .execute()
+                    .andListResults();
+
+            assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), results);
+            // Not every worker is guaranteed to get an invocation
+            workerThreads.keySet().forEach(workerIndex -> assertThat(workerIndex, lessThan(4)));
+        }
+
+        @Test
+        @DisplayName("concurrentlyWith(IndexedSupplier, int)")
+        void testConcurrentlyWith() {
+            // Invocation indexes are per supplier
+            List<String> results = ConcurrentRunner.<String>running((workerIndex, invocationIndex) -> "first" + invocationIndex, 2)
+                    .concurrentlyWith((workerIndex, invocationIndex) -> "second" + invocationIndex, 3)
+                    .concurrentlyWith((workerIndex, invocationIndex) -> "third" + invocationIndex)
+                    .execute()
+                    .andListResults();
+
+            assertEquals(Arrays.asList("first0", "first1", "second0", "second1", "second2", "third0"), results);
+        }
+
+        @Test
+        @DisplayName("runFor(Duration)")
+        void testRunFor() {
+            Set<String> indexes = ConcurrentHashMap.newKeySet();
+
+            IndexedSupplier<Boolean> supplier = (workerIndex, invocationIndex) -> indexes.add(workerIndex + ":" + invocationIndex);
+
+            ConcurrentStatistics statistics = ConcurrentRunner.running(supplier, 4)
+                    .withThreadCount(2)
+                    .runFor(Duration.ofMillis(100))
+                    .andReportStatistics();
+
+            assertEquals(0, statistics.failureCount());
+            // Worker 0 calls the supplier for invocations 0 and 2, worker 1 for invocations 1 and 3
+            assertEquals(Set.of("0:0", "0:2", "1:1", "1:3"), indexes);
+        }
+
+        @Test
+        @DisplayName("null supplier")
+        void testNullSupplier() {
+            assertThrows(NullPointerException.class, () -> ConcurrentRunner.running((IndexedSupplier<?>) null, 1));
+
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+            assertThrows(NullPointerException.class, () -> runner.concurrentlyWith((IndexedSupplier<Integer>) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("withPerturbation(long)")
+    class WithPerturbation {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            AtomicInteger counter = new AtomicInteger();
+
+            List<Integer> results = ConcurrentRunner.running(() -> {
+                ConcurrentRunner.perturb();
+                return counter.incrementAndGet();
+            }, 100)
+                    .withThreadCount(4)
+                    .withPerturbation(42)
+                    .execute()
+                    .andListResults();
+
+            assertEquals(IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()),
+                    results.stream().sorted().collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("failure reports seed")
+        void testFailureReportsSeed() {
+            IllegalStateException exception = new IllegalStateException();
+
+            Executable executable = () -> {
+                throw exception;
+            };
+
+            ConcurrentResults<Void> results = ConcurrentRunner.running(executable, 10)
+                    .withThreadCount(2)
+                    .withPerturbation(42)
+                    .execute();
+
+            MultipleFailuresError thrown = assertThrows(MultipleFailuresError.class, results::andAssertNoFailures);
+
+            assertEquals(10, thrown.getFailures().size());
+            // The same exception is thrown by every call, but the seed is reported only once
+            Throwable[] suppressed = exception.getSuppressed();
+            assertEquals(1, suppressed.length);
+            assertEquals("Schedule perturbation seed: 42; use withPerturbation(42L) to replay", suppressed[0].getMessage());
+        }
+
+        @Test
+        @DisplayName("with random seed")
+        void testWithRandomSeed() {
+            Executable executable = () -> {
+                throw new IllegalStateException();
+            };
+
+            ConcurrentResults<Void> results = ConcurrentRunner.running(executable)
+                    .withPerturbation()
+                    .execute();
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, results::andAssertNoFailures);
+
+            Throwable[] suppressed = thrown.getSuppressed();
+            assertEquals(1, suppressed.length);
+            assertThat(suppressed[0].getMessage(), startsWith("Schedule perturbation seed: "));
+        }
+
+        @Test
+        @DisplayName("with runFor")
+        void testWithRunFor() {
+            Executable executable = ConcurrentRunner::perturb;
+
+            ConcurrentStatistics statistics = ConcurrentRunner.running(executable, 2)
+                    .withPerturbation(42)
+                    .runFor(Duration.ofMillis(100))
+                    .andReportStatistics();
+
+            assertEquals(0, statistics.failureCount());
+        }
+
+        @Test
+        @DisplayName("perturb() without perturbation")
+        void testPerturbWithoutPerturbation() {
+            Executable executable = ConcurrentRunner::perturb;
+
+            assertDoesNotThrow(executable);
+        }
+    }
+
+    @Nested
+    @DisplayName("withRounds(int)")
+    class WithRounds {
+
+        @Test
+        @DisplayName("executeRounds()")
+        void testExecuteRounds() {
+            AtomicInteger counter = new AtomicInteger();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+            List<ConcurrentResults<Integer>> rounds = ConcurrentRunner.running(() -> {
+                threads.add(Thread.currentThread());
+                return counter.incrementAndGet();
+            }, 10)
+                    .withThreadCount(4)
+                    .withRounds(3)
+                    .executeRounds();
+
+            assertEquals(3, rounds.size());
+            for (int round = 0; round < 3; round++) {
+                ConcurrentResults<Integer> results = rounds.get(round);
+                // A round only starts after all calls of the previous round have finished
+                List<Integer> expected = IntStream.rangeClosed(round * 10 + 1, round * 10 + 10).boxed().collect(Collectors.toList());
+                assertEquals(expected, results.andListResults().stream().sorted().collect(Collectors.toList()));
+                assertEquals(10, rounds.get(round).andReportStatistics().invocationCount());
+            }
+            // All rounds use the same threads
+            assertThat(threads.size(), lessThanOrEqualTo(4));
+        }
+
+        @Test
+        @DisplayName("with more virtual threads than a phaser supports")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testWithMoreVirtualThreadsThanPhaserSupports() {
+            int count = Phases.MAX_PARTIES + 10;
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentStatistics statistics = ConcurrentRunner.running(counter::incrementAndGet, count)
+                    .withVirtualThreads()
+                    .withRounds(2)
+                    .execute()
+                    .andReportStatistics();
+
+            assertEquals(2 * count, statistics.invocationCount());
+            assertEquals(2 * count, counter.get());
+        }
+
+        @Test
+        @DisplayName("executeRounds() with failures")
+        void testExecuteRoundsWithFailures() {
+            AtomicInteger counter = new AtomicInteger();
+
+            Executable executable = () -> {
+                if (counter.incrementAndGet() > 10) {
+                    throw new IllegalStateException();
+                }
+            };
+
+            List<ConcurrentResults<Void>> rounds = ConcurrentRunner.running(executable, 10)
+                    .withThreadCount(4)
+                    .withRounds(2)
+                    .executeRounds();
+
+            ConcurrentStatistics firstRound = rounds.get(0).andReportStatistics();
+            ConcurrentStatistics secondRound = rounds.get(1).andReportStatistics();
+
+            assertEquals(10, firstRound.invocationCount());
+            assertEquals(0, firstRound.failureCount());
+            assertEquals(10, secondRound.invocationCount());
+            assertEquals(10, secondRound.failureCount());
+        }
+
+        @Test
+        @DisplayName("execute()")
+        void testExecute() {
+            AtomicInteger counter = new AtomicInteger();
+
+            ConcurrentResults<Integer> results = ConcurrentRunner.running(counter::incrementAndGet, 10)
+                    .withThreadCount(4)
+                    .withRounds(3)
+                    .execute();
+
+            List<Integer> list = results.andListResults();
+
+            assertEquals(30, list.size());
+            // Results are ordered by round
+            assertThat(list.subList(0, 10).stream().max(Integer::compare).orElseThrow(), lessThanOrEqualTo(10));
+            assertThat(list.subList(20, 30).stream().min(Integer::compare).orElseThrow(), greaterThan(20));
+        }
+
+        @Test
+        @DisplayName("executeAndCollect(Collector)")
+        void testExecuteAndCollect() {
+            long count = ConcurrentRunner.running(() -> 1, 10)
+                    .withThreadCount(4)
+                    .withRounds(3)
+                    .executeAndCollect(Collectors.counting());
+
+            assertEquals(30, count);
+        }
+
+        @Test
+        @DisplayName("executeStreaming() with fail-fast")
+        void testExecuteStreamingWithFailFast() {
+            AtomicInteger counter = new AtomicInteger();
+
+            Executable executable = () -> {
+                if (counter.incrementAndGet() == 15) {
+                    throw new IllegalStateException();
+                }
+            };
+
+            ConcurrentResults<Void> results = ConcurrentRunner.running(executable, 10)
+                    .withThreadCount(4)
+                    .withRounds(3)
+                    .withFailFast()
+                    .executeStreaming();
+
+            assertThrows(IllegalStateException.class, results::andListResults);
+            // Workers waiting for the next round stop as well, so the third round never starts
+            assertThat(counter.get(), lessThanOrEqualTo(20));
+        }
+
+        @Test
+        @DisplayName("invalid rounds")
+        void testInvalidRounds() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.withRounds(0));
+        }
+
+        @Test
+        @DisplayName("total count too large")
+        void testTotalCountTooLarge() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1, Integer.MAX_VALUE / 2 + 1)
+                    .withRounds(2);
+
+            assertThrows(IllegalStateException.class, runner::execute);
+            assertThrows(IllegalStateException.class, runner::executeRounds);
+        }
+
+        @Test
+        @DisplayName("runFor(Duration)")
+        void testRunFor() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1)
+                    .withRounds(2);
+
+            Duration duration = Duration.ofMillis(100);
+
+            assertThrows(IllegalStateException.class, () -> runner.runFor(duration));
+            assertThrows(IllegalStateException.class, () -> runner.measureScalability(2, duration));
+        }
+    }
+
+    @Nested
+    @DisplayName("nextPhase()")
+    class NextPhase {
+
+        @Test
+        @DisplayName("phases run one after the other")
+        void testPhasesInOrder() {
+            Set<Integer> written = ConcurrentHashMap.newKeySet();
+
+            List<Integer> results = ConcurrentRunner.<Integer>running((workerIndex, invocationIndex) -> {
+                written.add(invocationIndex);
+                return -1;
+            }, 10)
+                    .nextPhase()
+                    .concurrentlyWith(written::size, 10)
+                    .withThreadCount(4)
+                    .execute()
+                    .andListResults();
+
+            // All writes have finished before the first read
+            assertEquals(Collections.nCopies(10, -1), results.subList(0, 10));
+            assertEquals(Collections.nCopies(10, 10), results.subList(10, 20));
+        }
+
+        @Test
+        @DisplayName("with rounds")
+        void testWithRounds() {
+            List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+            ConcurrentRunner.running(() -> calls.add("first"), 5)
+                    .nextPhase()
+                    .concurrentlyWith(() -> calls.add("second"), 5)
+                    .withThreadCount(4)
+                    .withRounds(2)
+                    .execute()
+                    .andAssertNoFailures();
+
+            List<String> expected = Stream.of("first", "second", "first", "second")
+                    .flatMap(call -> Collections.nCopies(5, call).stream())
+                    .collect(Collectors.toList());
+            assertEquals(expected, calls);
+        }
+
+        @Test
+        @DisplayName("runFor(Duration)")
+        void testRunFor() {
+            ConcurrentRunner<Integer> runner = ConcurrentRunner.running(() -> 1)
+                    .nextPhase()
+                    .concurrentlyWith(() -> 2);
+
+            Duration duration = Duration.ofMillis(100);
+
+            assertThrows(IllegalStateException.class, () -> runner.runFor(duration));
+            assertThrows(IllegalStateException.class, () -> runner.measureScalability(2, duration));
+        }
     }
 
     @Nested
@@ -588,6 +1956,20 @@ class ConcurrentRunnerTest {
             verifyExecuted(executable, CONCURRENT_COUNT);
         }
 
+        @Test
+        @DisplayName("success with virtual threads")
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testSuccessWithVirtualThreads() {
+            Executable executable = mock(Executable.class);
+
+            ConcurrencySettings settings = ConcurrencySettings.withCount(CONCURRENT_COUNT)
+                    .withVirtualThreads();
+
+            ConcurrentRunner.runConcurrently(executable, settings);
+
+            verifyExecuted(executable, CONCURRENT_COUNT);
+        }
+
         @Test
         @DisplayName("throwing multiple errors")
         void testThrowingMultipleErrors() {
@@ -0,0 +1,292 @@
+/*
+ * ConcurrentStatisticsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.MultipleFailuresError;
+
+@SuppressWarnings("nls")
+class ConcurrentStatisticsTest {
+
+    @Nested
+    @DisplayName("latency")
+    class Latency {
+
+        @ParameterizedTest
+        @ValueSource(doubles = { 0, 1, 50, 99, 99.9, 100 })
+        @DisplayName("percentile")
+        void testPercentile(double percentile) {
+            // 1 to 10000 microseconds
+            ConcurrentStatistics statistics = statistics(10_000, TimeUnit.MICROSECONDS.toNanos(1));
+
+            long expected = Math.max(1, (long) Math.ceil(percentile * 100)) * TimeUnit.MICROSECONDS.toNanos(1);
+            long latency = statistics.latency(percentile).toNanos();
+
+            assertThat((double) latency, closeTo(expected, expected / 50.0));
+        }
+
+        @Test
+        @DisplayName("max")
+        void testMax() {
+            ConcurrentStatistics statistics = statistics(10_000, TimeUnit.MICROSECONDS.toNanos(1));
+
+            assertEquals(Duration.ofMillis(10), statistics.maxLatency());
+            assertEquals(Duration.ofMillis(10), statistics.latency(100));
+        }
+
+        @Test
+        @DisplayName("small values")
+        void testSmallValues() {
+            ConcurrentStatistics statistics = statistics(100, 1);
+
+            assertEquals(Duration.ofNanos(50), statistics.latency(50));
+            assertEquals(Duration.ofNanos(100), statistics.maxLatency());
+        }
+
+        @Test
+        @DisplayName("no calls")
+        void testNoCalls() {
+            ConcurrentStatistics statistics = ConcurrentStatistics.combine(Collections.emptyList(), 100);
+
+            assertEquals(0, statistics.invocationCount());
+            assertEquals(Duration.ZERO, statistics.duration());
+            assertEquals(0, statistics.throughput());
+            assertEquals(Duration.ZERO, statistics.latency(99));
+            assertEquals(Duration.ZERO, statistics.maxLatency());
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = { -1, 100.1, Double.NaN })
+        @DisplayName("invalid percentile")
+        void testInvalidPercentile(double percentile) {
+            ConcurrentStatistics statistics = statistics(100, 1);
+
+            assertThrows(IllegalArgumentException.class, () -> statistics.latency(percentile));
+        }
+    }
+
+    @Test
+    @DisplayName("combine")
+    void testCombine() {
+        ConcurrentStatistics.Recorder recorder1 = new ConcurrentStatistics.Recorder(100);
+        recorder1.start(1000);
+        recorder1.record(1000, 2000, null);
+        recorder1.record(2000, 3000, new IOException());
+
+        ConcurrentStatistics.Recorder recorder2 = new ConcurrentStatistics.Recorder(100);
+        recorder2.start(500);
+        recorder2.record(500, 2500, null);
+
+        ConcurrentStatistics statistics = ConcurrentStatistics.combine(Arrays.asList(recorder1, recorder2), 100);
+
+        assertEquals(3, statistics.invocationCount());
+        assertEquals(1, statistics.failureCount());
+        assertEquals(Duration.ofNanos(2500), statistics.duration());
+        assertEquals(3 * 1_000_000_000.0 / 2500, statistics.throughput());
+        assertEquals(Duration.ofNanos(2000), statistics.maxLatency());
+    }
+
+    @Test
+    @DisplayName("combine with resource usage")
+    void testCombineWithResourceUsage() {
+        ConcurrentStatistics.Recorder recorder1 = new ConcurrentStatistics.Recorder(100, true, null, null, null);
+        recorder1.start(1000);
+        recorder1.beforeCall();
+        recorder1.afterCall();
+        recorder1.record(1000, 2000, null);
+
+        ConcurrentStatistics.Recorder recorder2 = new ConcurrentStatistics.Recorder(100, true, null, null, null);
+        recorder2.start(500);
+        recorder2.beforeCall();
+        recorder2.afterCall();
+        recorder2.record(500, 3500, null);
+
+        ResourceUsageReport resourceUsage = ConcurrentStatistics.combine(Arrays.asList(recorder1, recorder2), 100).resourceUsage();
+
+        assertEquals(2, resourceUsage.invocationCount());
+        assertEquals(Duration.ofNanos(4000), resourceUsage.total().wallTime());
+        assertEquals(Duration.ofNanos(3000), resourceUsage.max().wallTime());
+    }
+
+    @Test
+    @DisplayName("resource usage not recorded")
+    void testResourceUsageNotRecorded() {
+        ConcurrentStatistics statistics = statistics(10, 1);
+
+        assertThrows(IllegalStateException.class, statistics::resourceUsage);
+    }
+
+    @Nested
+    @DisplayName("assertThroughputAtLeast")
+    class AssertThroughputAtLeast {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            // 1000 calls of 1 millisecond each
+            ConcurrentStatistics statistics = statistics(1000, 0, TimeUnit.MILLISECONDS.toNanos(1));
+
+            assertSame(statistics, statistics.assertThroughputAtLeast(1000));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            ConcurrentStatistics statistics = statistics(1000, 0, TimeUnit.MILLISECONDS.toNanos(1));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> statistics.assertThroughputAtLeast(1001));
+
+            assertEquals("expected a throughput of at least 1001.00 calls/s but was 1000.00 calls/s", error.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("assertLatencyAtMost")
+    class AssertLatencyAtMost {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ConcurrentStatistics statistics = statistics(100, 1);
+
+            assertSame(statistics, statistics.assertLatencyAtMost(99, Duration.ofNanos(99)));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            ConcurrentStatistics statistics = statistics(100, 1);
+            Duration maximum = Duration.ofNanos(98);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> statistics.assertLatencyAtMost(99.5, maximum));
+
+            assertEquals("expected a p99.5 latency of at most PT0.000000098S but was PT0.0000001S", error.getMessage());
+        }
+
+        @Test
+        @DisplayName("null maximum")
+        void testNullMaximum() {
+            ConcurrentStatistics statistics = statistics(100, 1);
+
+            assertThrows(NullPointerException.class, () -> statistics.assertLatencyAtMost(99, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("assertNoFailures")
+    class AssertNoFailures {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ConcurrentStatistics statistics = statistics(100, 1);
+
+            assertDoesNotThrow(statistics::assertNoFailures);
+        }
+
+        @Test
+        @DisplayName("single exception")
+        void testSingleException() {
+            Exception exception = new IOException();
+
+            ConcurrentStatistics statistics = statistics(exception);
+
+            AssertionFailedError thrown = assertThrows(AssertionFailedError.class, statistics::assertNoFailures);
+
+            assertSame(exception, thrown.getCause());
+        }
+
+        @Test
+        @DisplayName("multiple exceptions")
+        void testMultipleExceptions() {
+            Exception exception1 = new IOException();
+            Exception exception2 = new IOException();
+
+            ConcurrentStatistics statistics = statistics(exception1, exception2);
+
+            MultipleFailuresError thrown = assertThrows(MultipleFailuresError.class, statistics::assertNoFailures);
+
+            List<Exception> expected = Arrays.asList(exception1, exception2);
+
+            assertEquals(expected, thrown.getFailures());
+        }
+
+        @Test
+        @DisplayName("too many exceptions")
+        void testTooManyExceptions() {
+            Exception[] exceptions = new Exception[150];
+            Arrays.setAll(exceptions, i -> new IOException());
+
+            ConcurrentStatistics statistics = statistics(exceptions);
+
+            MultipleFailuresError thrown = assertThrows(MultipleFailuresError.class, statistics::assertNoFailures);
+
+            List<Exception> expected = Arrays.asList(exceptions).subList(0, 100);
+
+            assertEquals(expected, thrown.getFailures());
+            assertThat(thrown.getMessage(), startsWith("150 of 150 calls failed; only the first 100 failures are included"));
+        }
+    }
+
+    private static ConcurrentStatistics statistics(int count, long step) {
+        // Latencies step, 2 * step, ..., count * step
+        ConcurrentStatistics.Recorder recorder = new ConcurrentStatistics.Recorder(100);
+        recorder.start(0);
+        for (int i = 1; i <= count; i++) {
+            recorder.record(0, i * step, null);
+        }
+        return ConcurrentStatistics.combine(Collections.singletonList(recorder), 100);
+    }
+
+    private static ConcurrentStatistics statistics(int count, long start, long latency) {
+        // Consecutive calls with the same latency
+        ConcurrentStatistics.Recorder recorder = new ConcurrentStatistics.Recorder(100);
+        recorder.start(start);
+        for (int i = 0; i < count; i++) {
+            recorder.record(start + i * latency, start + (i + 1) * latency, null);
+        }
+        return ConcurrentStatistics.combine(Collections.singletonList(recorder), 100);
+    }
+
+    private static ConcurrentStatistics statistics(Throwable... failures) {
+        ConcurrentStatistics.Recorder recorder = new ConcurrentStatistics.Recorder(100);
+        recorder.start(0);
+        for (Throwable failure : failures) {
+            recorder.record(0, 1, failure);
+        }
+        return ConcurrentStatistics.combine(Collections.singletonList(recorder), 100);
+    }
+}
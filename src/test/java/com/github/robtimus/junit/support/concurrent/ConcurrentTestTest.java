@@ -0,0 +1,157 @@
+/*
+ * ConcurrentTestTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static com.github.robtimus.junit.support.extension.util.TestUtils.assertSingleTestFailure;
+import static com.github.robtimus.junit.support.extension.util.TestUtils.getSingleTestFailure;
+import static com.github.robtimus.junit.support.extension.util.TestUtils.runTests;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.opentest4j.MultipleFailuresError;
+import com.github.robtimus.junit.support.concurrent.ConcurrentTest.InvocationIndex;
+import com.github.robtimus.junit.support.concurrent.ConcurrentTest.WorkerIndex;
+
+@SuppressWarnings("nls")
+class ConcurrentTestTest {
+
+    private static final Map<Integer, Set<Integer>> INVOCATIONS_PER_WORKER = new ConcurrentHashMap<>();
+    private static final List<Thread> THREADS = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void clearInvocations() {
+        INVOCATIONS_PER_WORKER.clear();
+        THREADS.clear();
+    }
+
+    @Test
+    @DisplayName("success")
+    void testSuccess() {
+        EngineExecutionResults results = runTests(Indexed.class);
+
+        assertEquals(0, results.testEvents().failed().count());
+        assertEquals(1, results.testEvents().succeeded().count());
+
+        assertEquals(Set.of(0, 1, 2, 3), INVOCATIONS_PER_WORKER.keySet());
+
+        Set<Integer> invocationIndexes = INVOCATIONS_PER_WORKER.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toSet()), invocationIndexes);
+
+        List<Map<String, String>> reportEntries = results.testEvents().reportingEntryPublished().stream()
+                .map(event -> event.getPayload(ReportEntry.class).orElseThrow(IllegalStateException::new).getKeyValuePairs())
+                .collect(Collectors.toList());
+        assertEquals(1, reportEntries.size());
+        assertThat(reportEntries.get(0).get("statistics"), startsWith("100 calls in "));
+    }
+
+    @Test
+    @DisplayName("threads are reused")
+    void testThreadsReused() {
+        EngineExecutionResults results = runTests(Reused.class);
+
+        assertEquals(0, results.testEvents().failed().count());
+        assertEquals(2, results.testEvents().succeeded().count());
+
+        // Both tests use 2 threads; if threads are reused, there are less than 4 distinct threads
+        Set<Thread> distinctThreads = THREADS.stream()
+                .collect(Collectors.toSet());
+        assertEquals(2, distinctThreads.size());
+    }
+
+    @Test
+    @DisplayName("failure")
+    void testFailure() {
+        EngineExecutionResults results = runTests(Failing.class);
+
+        assertEquals(1, results.testEvents().failed().count());
+
+        Throwable throwable = getSingleTestFailure(results);
+        MultipleFailuresError error = assertInstanceOf(MultipleFailuresError.class, throwable);
+        assertEquals(5, error.getFailures().size());
+
+        // Statistics are published for failed tests as well
+        assertEquals(1, results.testEvents().reportingEntryPublished().count());
+    }
+
+    @Test
+    @DisplayName("unsupported parameter type")
+    void testUnsupportedParameterType() {
+        assertSingleTestFailure(UnsupportedParameterType.class, ParameterResolutionException.class,
+                startsWith("Target type not supported: " + long.class));
+    }
+
+    static final class Indexed {
+
+        @ConcurrentTest(count = 100, threads = 4)
+        void testIndexes(@WorkerIndex int workerIndex, @InvocationIndex Integer invocationIndex, TestInfo testInfo) {
+            assertEquals("testIndexes(int, Integer, TestInfo)", testInfo.getDisplayName());
+            INVOCATIONS_PER_WORKER.computeIfAbsent(workerIndex, k -> ConcurrentHashMap.newKeySet()).add(invocationIndex);
+        }
+    }
+
+    static final class Reused {
+
+        @ConcurrentTest(count = 2)
+        void testFirst() throws InterruptedException {
+            THREADS.add(Thread.currentThread());
+            // Make sure both invocations run at the same time, so each uses its own thread
+            Thread.sleep(50);
+        }
+
+        @ConcurrentTest(count = 2)
+        void testSecond() throws InterruptedException {
+            THREADS.add(Thread.currentThread());
+            Thread.sleep(50);
+        }
+    }
+
+    static final class Failing {
+
+        @ConcurrentTest(count = 10, threads = 2)
+        void testFailing(@InvocationIndex int invocationIndex) {
+            if (invocationIndex % 2 == 0) {
+                throw new IllegalStateException("invocation " + invocationIndex);
+            }
+        }
+    }
+
+    static final class UnsupportedParameterType {
+
+        @ConcurrentTest(count = 1)
+        void testUnsupportedType(@WorkerIndex long workerIndex) {
+            assertEquals(0, workerIndex);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * ContentionReportTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("nls")
+class ContentionReportTest {
+
+    private static final StackTraceElement FRAME = new StackTraceElement("com.example.Cache", "get", "Cache.java", 42);
+
+    @Test
+    @DisplayName("hotspots are ordered by sample count")
+    void testHotspotsOrdered() {
+        ContentionReport report = report();
+
+        List<Long> sampleCounts = report.hotspots().stream()
+                .map(ContentionReport.Hotspot::sampleCount)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(50L, 20L, 5L), sampleCounts);
+        assertEquals(200, report.sampleCount());
+        assertEquals(0.25, report.hotspots().get(0).fraction());
+    }
+
+    @Nested
+    @DisplayName("topHotspots(int)")
+    class TopHotspots {
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 1, 2, 3 })
+        @DisplayName("fewer than or as many as available")
+        void testFewerOrSame(int count) {
+            ContentionReport report = report();
+
+            assertEquals(report.hotspots().subList(0, count), report.topHotspots(count));
+        }
+
+        @Test
+        @DisplayName("more than available")
+        void testMore() {
+            ContentionReport report = report();
+
+            assertEquals(report.hotspots(), report.topHotspots(10));
+        }
+
+        @Test
+        @DisplayName("negative count")
+        void testNegativeCount() {
+            ContentionReport report = report();
+
+            assertThrows(IllegalArgumentException.class, () -> report.topHotspots(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("publishTo(TestReporter, int)")
+    class PublishTo {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ContentionReport report = report();
+            List<String> entries = new ArrayList<>();
+
+            report.publishTo((key, value) -> entries.add(key + "=" + value), 1);
+
+            String expected = String.format("contention=200 samples, 3 hotspots%n"
+                    + " samples        %% state         lock / frame%n"
+                    + "      50    25.00 BLOCKED       java.lang.Object@1%n"
+                    + "                                at com.example.Cache.get(Cache.java:42)%n");
+
+            assertEquals(Arrays.asList(expected), entries);
+        }
+
+        @Test
+        @DisplayName("null test reporter")
+        void testNullTestReporter() {
+            ContentionReport report = report();
+
+            assertThrows(NullPointerException.class, () -> report.publishTo(null, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("toString()")
+    void testToString() {
+        ContentionReport report = report();
+
+        String expected = String.format("200 samples, 3 hotspots%n"
+                + " samples        %% state         lock / frame%n"
+                + "      50    25.00 BLOCKED       java.lang.Object@1%n"
+                + "                                at com.example.Cache.get(Cache.java:42)%n"
+                + "      20    10.00 WAITING       java.util.concurrent.locks.ReentrantLock$NonfairSync@2%n"
+                + "                                at com.example.Cache.get(Cache.java:42)%n"
+                + "       5     2.50 TIMED_WAITING java.lang.Object@3%n"
+                + "                                at null%n");
+
+        assertEquals(expected, report.toString());
+    }
+
+    @Test
+    @DisplayName("no hotspots")
+    void testNoHotspots() {
+        ContentionReport report = new ContentionReport(0, new ArrayList<>());
+
+        assertEquals(String.format("0 samples, 0 hotspots%n"), report.toString());
+    }
+
+    private static ContentionReport report() {
+        List<ContentionReport.Hotspot> hotspots = new ArrayList<>();
+        hotspots.add(new ContentionReport.Hotspot("java.lang.Object@3", Thread.State.TIMED_WAITING, null, 5, 200));
+        hotspots.add(new ContentionReport.Hotspot("java.lang.Object@1", Thread.State.BLOCKED, FRAME, 50, 200));
+        hotspots.add(new ContentionReport.Hotspot("java.util.concurrent.locks.ReentrantLock$NonfairSync@2", Thread.State.WAITING, FRAME, 20, 200));
+        return new ContentionReport(200, hotspots);
+    }
+}
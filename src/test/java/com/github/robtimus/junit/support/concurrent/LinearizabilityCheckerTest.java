@@ -0,0 +1,365 @@
+/*
+ * LinearizabilityCheckerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+@SuppressWarnings("nls")
+class LinearizabilityCheckerTest {
+
+    private static final SequentialModel<Map<String, Integer>, MapOperation, Integer> MAP_MODEL = new MapModel();
+
+    @Nested
+    @DisplayName("without partitioning")
+    class WithoutPartitioning {
+
+        @Test
+        @DisplayName("empty history")
+        void testEmptyHistory() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+
+            assertTrue(LinearizabilityChecker.forModel(MAP_MODEL).isLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("sequential operations")
+        void testSequentialOperations() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.add(MapOperation.put("a", 1), null, 0, 1);
+            history.add(MapOperation.get("a"), 1, 2, 3);
+            history.add(MapOperation.put("a", 2), 1, 4, 5);
+            history.add(MapOperation.get("a"), 2, 6, 7);
+
+            LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL);
+
+            assertDoesNotThrow(() -> checker.assertLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("stale read")
+        void testStaleRead() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.add(MapOperation.put("a", 1), null, 0, 1);
+            history.add(MapOperation.get("a"), null, 2, 3);
+
+            LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL);
+
+            assertFalse(checker.isLinearizable(history));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> checker.assertLinearizable(history));
+
+            String expected = String.format("Operations are not linearizable; at most 1 of 2 operations could be linearized, which did not include%n"
+                    + "  get(a) -> null [2, 3]%n");
+            assertEquals(expected, error.getMessage());
+        }
+
+        @Test
+        @DisplayName("overlapping operations")
+        void testOverlappingOperations() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            // The get can be linearized both before and after the put
+            history.add(MapOperation.put("a", 1), null, 0, 5);
+            history.add(MapOperation.get("a"), null, 1, 2);
+            history.add(MapOperation.get("a"), 1, 3, 4);
+
+            assertTrue(LinearizabilityChecker.forModel(MAP_MODEL).isLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("read after newer read")
+        void testReadAfterNewerRead() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            // Once a get has returned 1, a later get cannot return null anymore
+            history.add(MapOperation.put("a", 1), null, 0, 5);
+            history.add(MapOperation.get("a"), 1, 1, 2);
+            history.add(MapOperation.get("a"), null, 3, 4);
+
+            LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> checker.assertLinearizable(history));
+
+            String expected = String.format("Operations are not linearizable; at most 2 of 3 operations could be linearized, which did not include%n"
+                    + "  get(a) -> null [3, 4]%n"
+                    + "Overlapping operations:%n"
+                    + "  put(a, 1) -> null [0, 5]%n");
+            assertEquals(expected, error.getMessage());
+        }
+
+        @Test
+        @DisplayName("equal times")
+        void testEqualTimes() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            // Operations that share a time are overlapping
+            history.add(MapOperation.put("a", 1), null, 0, 1);
+            history.add(MapOperation.get("a"), null, 1, 2);
+
+            assertTrue(LinearizabilityChecker.forModel(MAP_MODEL).isLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("pending operation that took effect")
+        void testPendingOperationThatTookEffect() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.addPending(MapOperation.put("a", 1), new IllegalStateException(), 0);
+            history.add(MapOperation.get("a"), null, 1, 2);
+            history.add(MapOperation.get("a"), 1, 3, 4);
+
+            assertTrue(LinearizabilityChecker.forModel(MAP_MODEL).isLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("pending operation that had no effect")
+        void testPendingOperationThatHadNoEffect() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.add(MapOperation.put("a", 1), null, 0, 1);
+            history.addPending(MapOperation.put("a", 2), new IllegalStateException(), 2);
+            history.add(MapOperation.get("a"), 1, 3, 4);
+            history.add(MapOperation.put("a", 3), 1, 5, 6);
+
+            assertTrue(LinearizabilityChecker.forModel(MAP_MODEL).isLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("pending operation with a model that does not support failed operations")
+        void testPendingOperationWithDefaultModel() {
+            SequentialModel<Map<String, Integer>, MapOperation, Integer> model = new SequentialModel<>() {
+
+                @Override
+                public Map<String, Integer> initialState() {
+                    return MAP_MODEL.initialState();
+                }
+
+                @Override
+                public Optional<Map<String, Integer>> apply(Map<String, Integer> state, MapOperation input, Integer output) {
+                    return MAP_MODEL.apply(state, input, output);
+                }
+            };
+
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.addPending(MapOperation.put("a", 1), new IllegalStateException(), 0);
+            history.add(MapOperation.get("a"), null, 1, 2);
+
+            assertTrue(LinearizabilityChecker.forModel(model).isLinearizable(history));
+
+            history.add(MapOperation.get("a"), 1, 3, 4);
+
+            assertFalse(LinearizabilityChecker.forModel(model).isLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("history recorded with failing operations")
+        void testRecordedWithFailingOperations() {
+            Map<String, Integer> map = new HashMap<>();
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+
+            // The put takes effect before the exception is thrown
+            assertThrows(IllegalStateException.class, () -> history.record(MapOperation.put("a", 1), () -> {
+                map.put("a", 1);
+                throw new IllegalStateException();
+            }));
+            assertDoesNotThrow(() -> history.record(MapOperation.get("a"), () -> map.get("a")));
+
+            assertDoesNotThrow(() -> LinearizabilityChecker.forModel(MAP_MODEL).assertLinearizable(history));
+        }
+    }
+
+    @Nested
+    @DisplayName("withPartitioning(Function)")
+    class WithPartitioning {
+
+        @Test
+        @DisplayName("linearizable")
+        void testLinearizable() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.add(MapOperation.put("a", 1), null, 0, 3);
+            history.add(MapOperation.put("b", 2), null, 1, 2);
+            history.add(MapOperation.get("a"), 1, 4, 5);
+            history.add(MapOperation.get("b"), 2, 4, 6);
+
+            LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL)
+                    .withPartitioning(MapOperation::key);
+
+            assertDoesNotThrow(() -> checker.assertLinearizable(history));
+        }
+
+        @Test
+        @DisplayName("not linearizable")
+        void testNotLinearizable() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.add(MapOperation.put("a", 1), null, 0, 3);
+            history.add(MapOperation.put("b", 2), null, 1, 2);
+            history.add(MapOperation.get("a"), 1, 4, 5);
+            history.add(MapOperation.get("b"), 3, 4, 6);
+
+            LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL)
+                    .withPartitioning(MapOperation::key);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> checker.assertLinearizable(history));
+
+            assertThat(error.getMessage(), startsWith("Operations for partition key b are not linearizable; at most 1 of 2 operations"));
+        }
+
+        @Test
+        @DisplayName("null partition key")
+        void testNullPartitionKey() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.add(MapOperation.put(null, 1), null, 0, 1);
+            history.add(MapOperation.get(null), null, 2, 3);
+
+            LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL)
+                    .withPartitioning(MapOperation::key);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> checker.assertLinearizable(history));
+
+            assertThat(error.getMessage(), startsWith("Operations for partition key null are not linearizable"));
+        }
+
+        @Test
+        @DisplayName("with custom pool")
+        void testWithCustomPool() {
+            OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+            history.add(MapOperation.put("a", 1), null, 0, 1);
+            history.add(MapOperation.put("b", 2), null, 2, 3);
+
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL)
+                        .withPartitioning(MapOperation::key)
+                        .withForkJoinPool(pool);
+
+                assertTrue(checker.isLinearizable(history));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("history recorded with ConcurrentRunner")
+    void testRecordedWithConcurrentRunner() {
+        ConcurrentMap<String, Integer> map = new ConcurrentHashMap<>();
+        OperationHistory<MapOperation, Integer> history = new OperationHistory<>();
+
+        ConcurrentRunner.running(() -> {
+            int value = ThreadLocalCounter.next();
+            String key = "key" + value % 10;
+            return value % 2 == 0
+                    ? history.record(MapOperation.put(key, value), () -> map.put(key, value))
+                    : history.record(MapOperation.get(key), () -> map.get(key));
+        }, 20_000)
+                .withThreadCount(4)
+                .execute()
+                .andAssertNoFailures();
+
+        LinearizabilityChecker<Map<String, Integer>, MapOperation, Integer> checker = LinearizabilityChecker.forModel(MAP_MODEL)
+                .withPartitioning(MapOperation::key);
+
+        assertEquals(20_000, history.size());
+        assertDoesNotThrow(() -> checker.assertLinearizable(history));
+    }
+
+    @Test
+    @DisplayName("forModel with null model")
+    void testForModelWithNullModel() {
+        assertThrows(NullPointerException.class, () -> LinearizabilityChecker.forModel(null));
+    }
+
+    private static final class ThreadLocalCounter {
+
+        private static final ThreadLocal<int[]> COUNTER = ThreadLocal.withInitial(() -> new int[1]);
+
+        private static int next() {
+            return COUNTER.get()[0]++;
+        }
+    }
+
+    static final class MapOperation {
+
+        private final String key;
+        private final Integer value;
+
+        private MapOperation(String key, Integer value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        static MapOperation put(String key, int value) {
+            return new MapOperation(key, value);
+        }
+
+        static MapOperation get(String key) {
+            return new MapOperation(key, null);
+        }
+
+        String key() {
+            return key;
+        }
+
+        @Override
+        public String toString() {
+            return value != null
+                    ? "put(" + key + ", " + value + ")"
+                    : "get(" + key + ")";
+        }
+    }
+
+    private static final class MapModel implements SequentialModel<Map<String, Integer>, MapOperation, Integer> {
+
+        @Override
+        public Map<String, Integer> initialState() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Optional<Map<String, Integer>> apply(Map<String, Integer> state, MapOperation input, Integer output) {
+            Integer current = state.get(input.key);
+            if (!Objects.equals(current, output)) {
+                return Optional.empty();
+            }
+            if (input.value == null) {
+                return Optional.of(state);
+            }
+            Map<String, Integer> newState = new HashMap<>(state);
+            newState.put(input.key, input.value);
+            return Optional.of(Collections.unmodifiableMap(newState));
+        }
+
+        @Override
+        public Optional<Map<String, Integer>> applyFailed(Map<String, Integer> state, MapOperation input, Throwable failure) {
+            return apply(state, input, state.get(input.key));
+        }
+    }
+}
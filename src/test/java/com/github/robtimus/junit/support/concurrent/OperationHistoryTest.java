@@ -0,0 +1,132 @@
+/*
+ * OperationHistoryTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.junit.support.concurrent.OperationHistory.Operation;
+
+@SuppressWarnings("nls")
+class OperationHistoryTest {
+
+    @Nested
+    @DisplayName("record(Object, ThrowingSupplier)")
+    class Record {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() throws Throwable {
+            OperationHistory<String, Integer> history = new OperationHistory<>();
+
+            assertEquals(1, history.record("first", () -> 1));
+            assertEquals(2, history.record("second", () -> 2));
+
+            List<Operation<String, Integer>> operations = history.operations();
+
+            assertEquals(2, operations.size());
+            assertEquals("first", operations.get(0).input());
+            assertEquals(1, operations.get(0).output());
+            assertEquals("second", operations.get(1).input());
+            assertEquals(2, operations.get(1).output());
+            assertThat(operations.get(0).invokedAt(), lessThan(operations.get(0).respondedAt()));
+            assertThat(operations.get(0).respondedAt(), lessThan(operations.get(1).invokedAt()));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            OperationHistory<String, Integer> history = new OperationHistory<>();
+            IllegalStateException exception = new IllegalStateException();
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> history.record("failure", () -> {
+                throw exception;
+            }));
+
+            assertSame(exception, thrown);
+
+            List<Operation<String, Integer>> operations = history.operations();
+
+            // The operation may have taken effect before it threw the exception
+            assertEquals(1, operations.size());
+            assertEquals("failure", operations.get(0).input());
+            assertTrue(operations.get(0).isPending());
+            assertNull(operations.get(0).output());
+            assertSame(exception, operations.get(0).failure());
+            assertEquals(Long.MAX_VALUE, operations.get(0).respondedAt());
+        }
+
+        @Test
+        @DisplayName("null operation")
+        void testNullOperation() {
+            OperationHistory<String, Integer> history = new OperationHistory<>();
+
+            assertThrows(NullPointerException.class, () -> history.record("null", null));
+        }
+    }
+
+    @Test
+    @DisplayName("operations() is ordered by invocation time")
+    void testOperationsOrdered() {
+        OperationHistory<String, Integer> history = new OperationHistory<>();
+        history.add("second", 2, 2, 3);
+        history.add("first", 1, 0, 5);
+
+        List<Operation<String, Integer>> operations = history.operations();
+
+        assertEquals("first", operations.get(0).input());
+        assertEquals("second", operations.get(1).input());
+        assertThrows(UnsupportedOperationException.class, () -> operations.remove(0));
+    }
+
+    @Test
+    @DisplayName("Operation.overlaps(Operation)")
+    void testOverlaps() {
+        Operation<String, Integer> operation = new Operation<>("operation", 1, 2, 5);
+
+        assertTrue(operation.overlaps(new Operation<>("other", 1, 0, 2)));
+        assertTrue(operation.overlaps(new Operation<>("other", 1, 3, 4)));
+        assertTrue(operation.overlaps(new Operation<>("other", 1, 5, 6)));
+        assertFalse(operation.overlaps(new Operation<>("other", 1, 0, 1)));
+        assertFalse(operation.overlaps(new Operation<>("other", 1, 6, 7)));
+    }
+
+    @Test
+    @DisplayName("Operation.toString()")
+    void testOperationToString() {
+        Operation<String, Integer> operation = new Operation<>("operation", 1, 2, 5);
+
+        assertEquals("operation -> 1 [2, 5]", operation.toString());
+        assertFalse(operation.isPending());
+
+        Operation<String, Integer> pending = new Operation<>("pending", null, new IllegalStateException("failure"), 2, Long.MAX_VALUE);
+
+        assertEquals("pending -> pending (java.lang.IllegalStateException: failure) [2, -]", pending.toString());
+        assertTrue(pending.isPending());
+        assertTrue(pending.overlaps(new Operation<>("other", 1, 100, 101)));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * PhasesTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class PhasesTest {
+
+    @Nested
+    @DisplayName("with a tree of phasers")
+    class WithTreeOfPhasers {
+
+        @Test
+        @Timeout(10)
+        @DisplayName("phases run one after the other")
+        void testPhasesInOrder() throws InterruptedException {
+            // 5 workers with at most 2 parties per phaser need 3 child phasers
+            Phases phases = new Phases(Arrays.asList(0, 10), 20, 2, 5, 2);
+            List<Integer> indexes = Collections.synchronizedList(new ArrayList<>());
+
+            runWorkers(phases, indexes, -1);
+
+            // Each phase only starts after all indexes of the previous phase have been taken
+            List<Integer> phaseIndexes = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+            List<Integer> otherPhaseIndexes = IntStream.range(10, 20).boxed().collect(Collectors.toList());
+            assertEquals(40, indexes.size());
+            assertEquals(phaseIndexes, sorted(indexes.subList(0, 10)));
+            assertEquals(otherPhaseIndexes, sorted(indexes.subList(10, 20)));
+            assertEquals(phaseIndexes, sorted(indexes.subList(20, 30)));
+            assertEquals(otherPhaseIndexes, sorted(indexes.subList(30, 40)));
+        }
+
+        @Test
+        @Timeout(10)
+        @DisplayName("workers that leave are not waited for")
+        void testLeave() throws InterruptedException {
+            Phases phases = new Phases(Arrays.asList(0, 10), 20, 2, 5, 2);
+            List<Integer> indexes = Collections.synchronizedList(new ArrayList<>());
+
+            // Worker 4 is the only worker of its child phaser; when it leaves, the child phaser deregisters from the root
+            runWorkers(phases, indexes, 4);
+
+            assertEquals(40, indexes.size());
+        }
+    }
+
+    private static void runWorkers(Phases phases, List<Integer> indexes, int leavingWorker) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < phases.poolSize(); i++) {
+            int workerIndex = i;
+            Thread thread = new Thread(() -> runWorker(phases, workerIndex, indexes, workerIndex == leavingWorker));
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void runWorker(Phases phases, int workerIndex, List<Integer> indexes, boolean leave) {
+        if (leave) {
+            phases.leave(workerIndex);
+            return;
+        }
+        for (int round = 0; round < phases.rounds(); round++) {
+            for (int phase = 0; phase < phases.phaseCount(); phase++) {
+                int end = phases.phaseEnd(phase);
+                int index;
+                while ((index = phases.nextIndex().getAndIncrement()) < end) {
+                    indexes.add(index);
+                }
+                boolean last = round == phases.rounds() - 1 && phase == phases.phaseCount() - 1;
+                assertTrue(last || phases.awaitOthers(workerIndex, () -> false));
+            }
+        }
+    }
+
+    private static List<Integer> sorted(List<Integer> list) {
+        List<Integer> result = new ArrayList<>(list);
+        Collections.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * ProcessRunnerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+@SuppressWarnings("nls")
+class ProcessRunnerTest {
+
+    private static final String COUNTER_FILE_PROPERTY = "processRunnerTest.counterFile";
+
+    @Nested
+    @DisplayName("execute()")
+    class Execute {
+
+        @Test
+        @DisplayName("with process index")
+        void testWithProcessIndex() {
+            ConcurrentResults<Object> results = ProcessRunner.running(ProcessRunnerTest.class, "multiplyIndex", 3)
+                    .execute();
+
+            assertEquals(Arrays.asList(0, 10, 20), results.andListResults());
+        }
+
+        @Test
+        @DisplayName("without process index")
+        void testWithoutProcessIndex() {
+            ConcurrentStatistics statistics = ProcessRunner.running(ProcessRunnerTest.class, "hello", 2)
+                    .execute()
+                    .andReportStatistics();
+
+            assertEquals(2, statistics.invocationCount());
+            assertEquals(0, statistics.failureCount());
+        }
+
+        @Test
+        @DisplayName("with failure")
+        void testWithFailure() {
+            ConcurrentResults<Object> results = ProcessRunner.running(ProcessRunnerTest.class, "failForIndex1", 3)
+                    .execute();
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, results::andAssertNoFailures);
+
+            assertEquals("process 1", thrown.getMessage());
+        }
+
+        @Test
+        @DisplayName("with result that is not serializable")
+        void testWithNonSerializableResult() {
+            ConcurrentResults<Object> results = ProcessRunner.running(ProcessRunnerTest.class, "notSerializable", 1)
+                    .execute();
+
+            AssertionFailedError thrown = assertThrows(AssertionFailedError.class, results::andAssertNoFailures);
+
+            assertInstanceOf(NotSerializableException.class, thrown.getCause());
+        }
+
+        @Test
+        @DisplayName("with file lock")
+        void testWithFileLock() throws IOException {
+            Path counterFile = Files.createTempFile("counter", null);
+            try {
+                Files.write(counterFile, new byte[4]);
+
+                ProcessRunner.running(ProcessRunnerTest.class, "incrementWithFileLock", 4)
+                        .withJvmArguments("-D" + COUNTER_FILE_PROPERTY + "=" + counterFile)
+                        .execute()
+                        .andAssertNoFailures();
+
+                try (RandomAccessFile file = new RandomAccessFile(counterFile.toFile(), "r")) {
+                    assertEquals(400, file.readInt());
+                }
+            } finally {
+                Files.delete(counterFile);
+            }
+        }
+
+        @Test
+        @DisplayName("with timeout")
+        void testWithTimeout() {
+            ProcessRunner runner = ProcessRunner.running(ProcessRunnerTest.class, "sleep", 2)
+                    .withTimeout(Duration.ofSeconds(5));
+
+            AssertionFailedError thrown = assertThrows(AssertionFailedError.class, runner::execute);
+
+            assertEquals("Processes did not complete within PT5S", thrown.getMessage());
+        }
+
+        @Test
+        @DisplayName("without timeout, with entry point that takes longer than the handshake timeout")
+        void testWithoutTimeoutWithEntryPointThatTakesLongerThanHandshakeTimeout() {
+            ConcurrentResults<Object> results = ProcessRunner.running(ProcessRunnerTest.class, "helloAfterDelay", 2)
+                    .withHandshakeTimeout(Duration.ofMillis(500))
+                    .execute();
+
+            assertEquals(Arrays.asList("hello", "hello"), results.andListResults());
+        }
+
+        @Test
+        @DisplayName("with process that fails to start")
+        void testWithProcessThatFailsToStart() {
+            ProcessRunner runner = ProcessRunner.running(ProcessRunnerTest.class, "hello", 1)
+                    .withJvmArguments("-XX:+NoSuchOption");
+
+            AssertionFailedError thrown = assertThrows(AssertionFailedError.class, runner::execute);
+
+            assertThat(thrown.getMessage(), startsWith("Process 0 exited with code "));
+        }
+    }
+
+    @Nested
+    @DisplayName("running(Class, String, int)")
+    class Running {
+
+        @Test
+        @DisplayName("non-existing method")
+        void testNonExistingMethod() {
+            assertThrows(IllegalArgumentException.class, () -> ProcessRunner.running(ProcessRunnerTest.class, "nonExisting", 1));
+        }
+
+        @Test
+        @DisplayName("method with unsupported parameters")
+        void testMethodWithUnsupportedParameters() {
+            assertThrows(IllegalArgumentException.class, () -> ProcessRunner.running(ProcessRunnerTest.class, "unsupportedParameters", 1));
+        }
+
+        @Test
+        @DisplayName("non-static method")
+        void testNonStaticMethod() {
+            assertThrows(IllegalArgumentException.class, () -> ProcessRunner.running(ProcessRunnerTest.class, "nonStatic", 1));
+        }
+
+        @Test
+        @DisplayName("invalid count")
+        void testInvalidCount() {
+            assertThrows(IllegalArgumentException.class, () -> ProcessRunner.running(ProcessRunnerTest.class, "hello", 0));
+        }
+
+        @Test
+        @DisplayName("null arguments")
+        void testNullArguments() {
+            assertThrows(NullPointerException.class, () -> ProcessRunner.running(null, "hello", 1));
+            assertThrows(NullPointerException.class, () -> ProcessRunner.running(ProcessRunnerTest.class, null, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("readProcessIndex(InputStream, byte[], Socket[])")
+    class ReadProcessIndex {
+
+        private final byte[] token = "0123456789abcdef".getBytes();
+
+        @Test
+        @DisplayName("valid token and index")
+        void testValidTokenAndIndex() {
+            assertEquals(1, ProcessRunner.readProcessIndex(handshake(token, 1), token, new Socket[2]));
+        }
+
+        @Test
+        @DisplayName("invalid token")
+        void testInvalidToken() {
+            assertEquals(-1, ProcessRunner.readProcessIndex(handshake("fedcba9876543210".getBytes(), 1), token, new Socket[2]));
+        }
+
+        @Test
+        @DisplayName("incomplete token")
+        void testIncompleteToken() {
+            assertEquals(-1, ProcessRunner.readProcessIndex(new ByteArrayInputStream("0123".getBytes()), token, new Socket[2]));
+        }
+
+        @Test
+        @DisplayName("index out of range")
+        void testIndexOutOfRange() {
+            assertEquals(-1, ProcessRunner.readProcessIndex(handshake(token, 2), token, new Socket[2]));
+            assertEquals(-1, ProcessRunner.readProcessIndex(handshake(token, -1), token, new Socket[2]));
+        }
+
+        @Test
+        @DisplayName("duplicate index")
+        void testDuplicateIndex() {
+            Socket[] sockets = { null, new Socket() };
+
+            assertEquals(-1, ProcessRunner.readProcessIndex(handshake(token, 1), token, sockets));
+        }
+
+        private InputStream handshake(byte[] sentToken, int processIndex) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                output.write(sentToken);
+                output.writeInt(processIndex);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new ByteArrayInputStream(bytes.toByteArray());
+        }
+    }
+
+    // Entry points, called in child processes
+
+    static int multiplyIndex(int processIndex) {
+        return processIndex * 10;
+    }
+
+    static String hello() {
+        return "hello";
+    }
+
+    static String helloAfterDelay() throws InterruptedException {
+        Thread.sleep(2_000);
+        return "hello";
+    }
+
+    static void failForIndex1(int processIndex) {
+        if (processIndex == 1) {
+            throw new IllegalStateException("process " + processIndex);
+        }
+    }
+
+    static Object notSerializable() {
+        return new Object();
+    }
+
+    static void incrementWithFileLock() throws IOException {
+        Path counterFile = Paths.get(System.getProperty(COUNTER_FILE_PROPERTY));
+        try (RandomAccessFile file = new RandomAccessFile(counterFile.toFile(), "rw")) {
+            FileChannel channel = file.getChannel();
+            for (int i = 0; i < 100; i++) {
+                FileLock lock = channel.lock();
+                try {
+                    file.seek(0);
+                    int value = file.readInt();
+                    file.seek(0);
+                    file.writeInt(value + 1);
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    static void sleep() throws InterruptedException {
+        Thread.sleep(60_000);
+    }
+
+    static void unsupportedParameters(String value) {
+        assertEquals("", value);
+    }
+
+    void nonStatic() {
+        assertEquals(0, 0);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * ResourceUsageReportTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+@SuppressWarnings("nls")
+class ResourceUsageReportTest {
+
+    @Test
+    @DisplayName("total and max")
+    void testTotalAndMax() {
+        ResourceUsageReport report = report();
+
+        assertEquals(2, report.invocationCount());
+
+        ResourceUsage total = report.total();
+        assertEquals(Duration.ofMillis(300), total.wallTime());
+        assertEquals(Duration.ofMillis(150), total.cpuTime());
+        assertEquals(3072, total.allocatedBytes());
+        assertEquals(3, total.blockedCount());
+        assertEquals(Duration.ofMillis(20), total.blockedTime());
+        assertEquals(1, total.waitedCount());
+        assertEquals(Duration.ofMillis(60), total.waitedTime());
+
+        ResourceUsage max = report.max();
+        assertEquals(Duration.ofMillis(200), max.wallTime());
+        assertEquals(Duration.ofMillis(100), max.cpuTime());
+        assertEquals(2048, max.allocatedBytes());
+        assertEquals(2, max.blockedCount());
+        assertEquals(Duration.ofMillis(15), max.blockedTime());
+        assertEquals(1, max.waitedCount());
+        assertEquals(Duration.ofMillis(60), max.waitedTime());
+    }
+
+    @Test
+    @DisplayName("combined accumulators")
+    void testCombinedAccumulators() {
+        ResourceUsageReport.Accumulator accumulator1 = new ResourceUsageReport.Accumulator();
+        accumulator1.record(usage(100, 50, 1024, 1, 5, 0, 0));
+
+        ResourceUsageReport.Accumulator accumulator2 = new ResourceUsageReport.Accumulator();
+        accumulator2.record(usage(200, 100, 2048, 2, 15, 1, 60));
+
+        ResourceUsageReport.Accumulator combined = new ResourceUsageReport.Accumulator();
+        combined.add(accumulator1);
+        combined.add(accumulator2);
+
+        assertEquals(report().toString(), combined.toReport().toString());
+    }
+
+    @Nested
+    @DisplayName("assertAllocatedBytesAtMost")
+    class AssertAllocatedBytesAtMost {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ResourceUsageReport report = report();
+
+            assertSame(report, report.assertAllocatedBytesAtMost(2048));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            ResourceUsageReport report = report();
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertAllocatedBytesAtMost(1024));
+            assertEquals("expected each call to allocate at most 1024 bytes but a call allocated 2048 bytes", error.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("assertCpuTimeAtMost")
+    class AssertCpuTimeAtMost {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ResourceUsageReport report = report();
+
+            assertSame(report, report.assertCpuTimeAtMost(Duration.ofMillis(100)));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            ResourceUsageReport report = report();
+            Duration maximum = Duration.ofMillis(50);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertCpuTimeAtMost(maximum));
+            assertEquals("expected each call to use at most PT0.05S CPU time but a call used PT0.1S", error.getMessage());
+        }
+
+        @Test
+        @DisplayName("null maximum")
+        void testNullMaximum() {
+            ResourceUsageReport report = report();
+
+            assertThrows(NullPointerException.class, () -> report.assertCpuTimeAtMost(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("assertBlockedTimeRatioAtMost")
+    class AssertBlockedTimeRatioAtMost {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ResourceUsageReport report = report();
+
+            assertSame(report, report.assertBlockedTimeRatioAtMost(0.1));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            ResourceUsageReport report = report();
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertBlockedTimeRatioAtMost(0.05));
+            assertEquals("expected at most 5.00% of the wall time to be spent blocked but was 6.67% (PT0.02S of PT0.3S)", error.getMessage());
+        }
+
+        @Test
+        @DisplayName("no calls")
+        void testNoCalls() {
+            ResourceUsageReport report = new ResourceUsageReport.Accumulator().toReport();
+
+            assertSame(report, report.assertBlockedTimeRatioAtMost(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("assertWaitedTimeRatioAtMost")
+    class AssertWaitedTimeRatioAtMost {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ResourceUsageReport report = report();
+
+            assertSame(report, report.assertWaitedTimeRatioAtMost(0.2));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            ResourceUsageReport report = report();
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertWaitedTimeRatioAtMost(0.1));
+            assertEquals("expected at most 10.00% of the wall time to be spent waiting but was 20.00% (PT0.06S of PT0.3S)", error.getMessage());
+        }
+    }
+
+    private static ResourceUsageReport report() {
+        ResourceUsageReport.Accumulator accumulator = new ResourceUsageReport.Accumulator();
+        accumulator.record(usage(100, 50, 1024, 1, 5, 0, 0));
+        accumulator.record(usage(200, 100, 2048, 2, 15, 1, 60));
+        return accumulator.toReport();
+    }
+
+    private static long[] usage(long wallTimeMillis, long cpuTimeMillis, long allocatedBytes, long blockedCount, long blockedTimeMillis,
+            long waitedCount, long waitedTimeMillis) {
+
+        long[] usage = new long[ResourceUsage.METRIC_COUNT];
+        usage[ResourceUsage.WALL_TIME] = Duration.ofMillis(wallTimeMillis).toNanos();
+        usage[ResourceUsage.CPU_TIME] = Duration.ofMillis(cpuTimeMillis).toNanos();
+        usage[ResourceUsage.ALLOCATED_BYTES] = allocatedBytes;
+        usage[ResourceUsage.BLOCKED_COUNT] = blockedCount;
+        usage[ResourceUsage.BLOCKED_TIME] = Duration.ofMillis(blockedTimeMillis).toNanos();
+        usage[ResourceUsage.WAITED_COUNT] = waitedCount;
+        usage[ResourceUsage.WAITED_TIME] = Duration.ofMillis(waitedTimeMillis).toNanos();
+        return usage;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * ScalabilityReportTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+@SuppressWarnings("nls")
+class ScalabilityReportTest {
+
+    @Test
+    @DisplayName("speedup and efficiency")
+    void testSpeedupAndEfficiency() {
+        ScalabilityReport report = report(1000, 1800, 3000);
+
+        assertEquals(1.0, report.steps().get(0).speedup(), 0.0001);
+        assertEquals(1.8, report.steps().get(1).speedup(), 0.0001);
+        assertEquals(3.0, report.steps().get(2).speedup(), 0.0001);
+
+        assertEquals(1.0, report.steps().get(0).efficiency(), 0.0001);
+        assertEquals(0.9, report.steps().get(1).efficiency(), 0.0001);
+        assertEquals(0.75, report.steps().get(2).efficiency(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("no calls with 1 thread")
+    void testNoCallsWithOneThread() {
+        ScalabilityReport report = report(0, 1000);
+
+        assertEquals(Double.NaN, report.steps().get(1).speedup());
+        assertEquals(Double.NaN, report.steps().get(1).efficiency());
+        assertThrows(AssertionFailedError.class, () -> report.assertScalesAtLeast(0));
+    }
+
+    @Nested
+    @DisplayName("assertScalesAtLeast")
+    class AssertScalesAtLeast {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ScalabilityReport report = report(1000, 1800, 3000);
+
+            assertSame(report, report.assertScalesAtLeast(0.75));
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            ScalabilityReport report = report(1000, 1800, 3000);
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> report.assertScalesAtLeast(0.8));
+
+            assertThat(error.getMessage(), containsString("expected a parallel efficiency of at least 0.80 but was 0.75 with 4 threads"));
+            assertThat(error.getMessage(), containsString(report.toString()));
+        }
+    }
+
+    @Nested
+    @DisplayName("assertNoFailures")
+    class AssertNoFailures {
+
+        @Test
+        @DisplayName("success")
+        void testSuccess() {
+            ScalabilityReport report = report(1000, 1800);
+
+            assertSame(report, report.assertNoFailures());
+        }
+
+        @Test
+        @DisplayName("failure")
+        void testFailure() {
+            Exception exception = new IOException();
+
+            ConcurrentStatistics.Recorder recorder = new ConcurrentStatistics.Recorder(100);
+            recorder.start(0);
+            recorder.record(0, 1, exception);
+
+            ScalabilityReport report = new ScalabilityReport(Arrays.asList(
+                    new ScalabilityReport.Step(1, statistics(1000)),
+                    new ScalabilityReport.Step(2, ConcurrentStatistics.combine(Collections.singletonList(recorder), 100))));
+
+            AssertionFailedError error = assertThrows(AssertionFailedError.class, report::assertNoFailures);
+
+            assertSame(exception, error.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("toString()")
+    void testToString() {
+        ScalabilityReport report = report(1000, 1800);
+
+        String expected = String.format("%8s %16s %8s %11s %8s%n", "threads", "calls/s", "speedup", "efficiency", "failures")
+                + String.format("%8s %16s %8s %11s %8s%n", "1", "1000.00", "1.00", "1.00", "0")
+                + String.format("%8s %16s %8s %11s %8s%n", "2", "1800.00", "1.80", "0.90", "0");
+
+        assertEquals(expected, report.toString());
+    }
+
+    private static ScalabilityReport report(int... callsPerSecond) {
+        ScalabilityReport.Step[] steps = new ScalabilityReport.Step[callsPerSecond.length];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = new ScalabilityReport.Step(1 << i, statistics(callsPerSecond[i]));
+        }
+        return new ScalabilityReport(Arrays.asList(steps));
+    }
+
+    private static ConcurrentStatistics statistics(int callsPerSecond) {
+        // callsPerSecond calls during 1 second
+        ConcurrentStatistics.Recorder recorder = new ConcurrentStatistics.Recorder(100);
+        recorder.start(0);
+        for (int i = 1; i < callsPerSecond; i++) {
+            recorder.record(0, 1, null);
+        }
+        if (callsPerSecond > 0) {
+            recorder.record(0, TimeUnit.SECONDS.toNanos(1), null);
+        }
+        return ConcurrentStatistics.combine(Collections.singletonList(recorder), 100);
+    }
+}
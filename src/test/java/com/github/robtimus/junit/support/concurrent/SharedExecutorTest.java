@@ -0,0 +1,195 @@
+/*
+ * SharedExecutorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.junit.support.concurrent;
+
+import static com.github.robtimus.junit.support.extension.util.TestUtils.assertSingleTestFailure;
+import static com.github.robtimus.junit.support.extension.util.TestUtils.runTests;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import com.github.robtimus.junit.support.concurrent.SharedExecutor.Scope;
+
+@SuppressWarnings("nls")
+class SharedExecutorTest {
+
+    private static final List<ExecutorService> OUTER_EXECUTORS = new CopyOnWriteArrayList<>();
+    private static final List<ExecutorService> NESTED_EXECUTORS = new CopyOnWriteArrayList<>();
+
+    @SharedExecutor
+    private ExecutorService executor;
+
+    @BeforeEach
+    void clearExecutors() {
+        OUTER_EXECUTORS.clear();
+        NESTED_EXECUTORS.clear();
+    }
+
+    @Test
+    @DisplayName("reused by concurrent runners")
+    void testReusedByConcurrentRunners() {
+        AtomicInteger counter = new AtomicInteger();
+
+        ConcurrencySettings settings = ConcurrencySettings.withCount(10)
+                .withExecutor(executor);
+
+        ConcurrentRunner.runConcurrently(counter::incrementAndGet, settings);
+        ConcurrentRunner.runConcurrently(counter::incrementAndGet, settings);
+
+        assertEquals(20, counter.get());
+        assertFalse(executor.isShutdown());
+    }
+
+    @Test
+    @DisplayName("class scope")
+    void testClassScope() {
+        EngineExecutionResults results = runTests(ClassScoped.class);
+
+        assertEquals(0, results.testEvents().failed().count());
+        assertEquals(0, results.containerEvents().failed().count());
+        assertEquals(4, results.testEvents().succeeded().count());
+
+        assertSingleExecutor(OUTER_EXECUTORS);
+        assertSingleExecutor(NESTED_EXECUTORS);
+        assertNotSame(OUTER_EXECUTORS.get(0), NESTED_EXECUTORS.get(0));
+    }
+
+    @Test
+    @DisplayName("engine scope")
+    void testEngineScope() {
+        EngineExecutionResults results = runTests(EngineScoped.class);
+
+        assertEquals(0, results.testEvents().failed().count());
+        assertEquals(0, results.containerEvents().failed().count());
+        assertEquals(4, results.testEvents().succeeded().count());
+
+        assertSingleExecutor(OUTER_EXECUTORS);
+        assertSingleExecutor(NESTED_EXECUTORS);
+        assertSame(OUTER_EXECUTORS.get(0), NESTED_EXECUTORS.get(0));
+    }
+
+    @Test
+    @DisplayName("unsupported target type")
+    void testUnsupportedTargetType() {
+        assertSingleTestFailure(UnsupportedTargetType.class, ParameterResolutionException.class,
+                startsWith("No ParameterResolver registered for parameter [" + Executor.class.getName()));
+    }
+
+    private static void assertSingleExecutor(List<ExecutorService> executors) {
+        Set<ExecutorService> distinctExecutors = executors.stream()
+                .collect(Collectors.toSet());
+
+        assertEquals(1, distinctExecutors.size());
+        // The executor should have been shut down once the tests ended
+        assertTrue(executors.get(0).isShutdown());
+    }
+
+    static final class ClassScoped {
+
+        @SharedExecutor
+        private static ExecutorService staticExecutor;
+
+        @SharedExecutor
+        private ExecutorService instanceExecutor;
+
+        @Test
+        void testFields() {
+            OUTER_EXECUTORS.add(staticExecutor);
+            OUTER_EXECUTORS.add(instanceExecutor);
+            ConcurrentRunner.runConcurrently(() -> { /* does nothing */ }, ConcurrencySettings.withCount(2).withExecutor(instanceExecutor));
+        }
+
+        @Test
+        void testParameter(@SharedExecutor ExecutorService parameterExecutor) {
+            OUTER_EXECUTORS.add(parameterExecutor);
+        }
+
+        @Nested
+        class NestedClassScoped {
+
+            @SharedExecutor
+            private ExecutorService nestedExecutor;
+
+            @Test
+            void testField() {
+                NESTED_EXECUTORS.add(nestedExecutor);
+            }
+
+            @Test
+            void testParameter(@SharedExecutor ExecutorService parameterExecutor) {
+                NESTED_EXECUTORS.add(parameterExecutor);
+            }
+        }
+    }
+
+    static final class EngineScoped {
+
+        @SharedExecutor(Scope.ENGINE)
+        private ExecutorService instanceExecutor;
+
+        @Test
+        void testField() {
+            OUTER_EXECUTORS.add(instanceExecutor);
+        }
+
+        @Test
+        void testParameter(@SharedExecutor(Scope.ENGINE) ExecutorService parameterExecutor) {
+            OUTER_EXECUTORS.add(parameterExecutor);
+        }
+
+        @Nested
+        class NestedEngineScoped {
+
+            @SharedExecutor(Scope.ENGINE)
+            private ExecutorService nestedExecutor;
+
+            @Test
+            void testField() {
+                NESTED_EXECUTORS.add(nestedExecutor);
+            }
+
+            @Test
+            void testParameter(@SharedExecutor(Scope.ENGINE) ExecutorService parameterExecutor) {
+                NESTED_EXECUTORS.add(parameterExecutor);
+            }
+        }
+    }
+
+    static final class UnsupportedTargetType {
+
+        @Test
+        void testUnsupportedType(@SharedExecutor Executor unsupportedExecutor) {
+            unsupportedExecutor.execute(() -> { /* does nothing */ });
+        }
+    }
+}